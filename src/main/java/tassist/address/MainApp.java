@@ -2,7 +2,10 @@ package tassist.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -12,10 +15,12 @@ import tassist.address.commons.core.LogsCenter;
 import tassist.address.commons.core.Version;
 import tassist.address.commons.exceptions.DataLoadingException;
 import tassist.address.commons.util.ConfigUtil;
+import tassist.address.commons.util.FileUtil;
 import tassist.address.commons.util.StringUtil;
 import tassist.address.logic.Logic;
 import tassist.address.logic.LogicManager;
 import tassist.address.model.AddressBook;
+import tassist.address.model.AddressBookStorageMode;
 import tassist.address.model.Model;
 import tassist.address.model.ModelManager;
 import tassist.address.model.ReadOnlyAddressBook;
@@ -23,8 +28,12 @@ import tassist.address.model.ReadOnlyUserPrefs;
 import tassist.address.model.UserPrefs;
 import tassist.address.model.util.SampleDataUtil;
 import tassist.address.storage.AddressBookStorage;
+import tassist.address.storage.BinaryAddressBookStorage;
+import tassist.address.storage.BinaryJsonConverter;
+import tassist.address.storage.JournalAddressBookStorage;
 import tassist.address.storage.JsonAddressBookStorage;
 import tassist.address.storage.JsonUserPrefsStorage;
+import tassist.address.storage.ShardedAddressBookStorage;
 import tassist.address.storage.Storage;
 import tassist.address.storage.StorageManager;
 import tassist.address.storage.UserPrefsStorage;
@@ -57,7 +66,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -67,6 +76,155 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the address book storage for the storage mode chosen in {@code userPrefs}.
+     * The JSON data file is first brought up to date with the data saved in other storage modes, and the data file
+     * of the chosen storage mode is then brought up to date with the JSON data file, so that switching between
+     * storage modes never loads data older than the data last saved.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        foldJournals(userPrefs);
+        updateJsonFile(userPrefs);
+        switch (userPrefs.getAddressBookStorageMode()) {
+        case JOURNAL:
+            return initJsonStorage(userPrefs, JournalAddressBookStorage::new);
+        case BINARY:
+            Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(addressBookFilePath);
+            try {
+                if (FileUtil.isNewer(addressBookFilePath, binaryFilePath)) {
+                    new BinaryJsonConverter().convertJsonToBinary(addressBookFilePath, binaryFilePath);
+                    logger.info("Converted data file " + addressBookFilePath + " to " + binaryFilePath);
+                }
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Data file at " + addressBookFilePath + " could not be converted to "
+                        + binaryFilePath + ": " + e);
+            }
+            return new BinaryAddressBookStorage(binaryFilePath);
+        case SHARDED:
+            Path shardDirectory = ShardedAddressBookStorage.getShardDirectory(addressBookFilePath);
+            ShardedAddressBookStorage shardedStorage = new ShardedAddressBookStorage(shardDirectory,
+                    userPrefs.isAddressBookPrettyPrinted());
+            try {
+                if (FileUtil.isNewer(addressBookFilePath, shardDirectory)) {
+                    Optional<ReadOnlyAddressBook> jsonAddressBook =
+                            new JsonAddressBookStorage(addressBookFilePath).readAddressBook();
+                    if (jsonAddressBook.isPresent()) {
+                        shardedStorage.saveAddressBook(jsonAddressBook.get());
+                    }
+                    logger.info("Split data file " + addressBookFilePath + " into " + shardDirectory);
+                }
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Data file at " + addressBookFilePath + " could not be split into "
+                        + shardDirectory + ": " + e);
+            }
+            return shardedStorage;
+        default:
+            return initJsonStorage(userPrefs, filePath ->
+                    new JsonAddressBookStorage(filePath, userPrefs.isAddressBookPrettyPrinted()));
+        }
+    }
+
+    /**
+     * Folds the journals left beside the JSON data files by the journal storage mode into their snapshots, apart
+     * from the journal in use, as the other storage modes read only the snapshots.
+     */
+    private void foldJournals(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        Path compressedFilePath = JsonAddressBookStorage.getCompressedFilePath(addressBookFilePath);
+        List<Path> snapshotPaths = new ArrayList<>(List.of(addressBookFilePath, compressedFilePath));
+        if (userPrefs.getAddressBookStorageMode() == AddressBookStorageMode.JOURNAL) {
+            snapshotPaths.remove(userPrefs.isAddressBookCompressed() ? compressedFilePath : addressBookFilePath);
+        }
+
+        for (Path snapshotPath : snapshotPaths) {
+            try {
+                if (JournalAddressBookStorage.foldJournal(snapshotPath)) {
+                    logger.info("Folded journal of data file " + snapshotPath + " into it");
+                }
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Journal of data file " + snapshotPath + " could not be folded into it: " + e);
+            }
+        }
+    }
+
+    /**
+     * Copies the address book into the JSON data file chosen in {@code userPrefs} from the newest data file of the
+     * storage modes not chosen, if that was saved after the JSON data file.
+     */
+    private void updateJsonFile(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorageMode storageMode = userPrefs.getAddressBookStorageMode();
+        List<AddressBookStorage> otherStorages = new ArrayList<>();
+        if (storageMode != AddressBookStorageMode.BINARY) {
+            otherStorages.add(new BinaryAddressBookStorage(
+                    BinaryAddressBookStorage.getBinaryFilePath(addressBookFilePath)));
+        }
+        if (storageMode != AddressBookStorageMode.SHARDED) {
+            otherStorages.add(new ShardedAddressBookStorage(
+                    ShardedAddressBookStorage.getShardDirectory(addressBookFilePath)));
+        }
+        // Only the JSON and journal storage modes keep their data in the compressed file when compression is on
+        boolean isCompressedFileInUse = userPrefs.isAddressBookCompressed()
+                && storageMode != AddressBookStorageMode.BINARY && storageMode != AddressBookStorageMode.SHARDED;
+        if (!isCompressedFileInUse) {
+            otherStorages.add(new JsonAddressBookStorage(
+                    JsonAddressBookStorage.getCompressedFilePath(addressBookFilePath)));
+        }
+
+        Path newestFilePath = null;
+        try {
+            AddressBookStorage newestStorage = null;
+            for (AddressBookStorage storage : otherStorages) {
+                Path filePath = storage.getAddressBookFilePath();
+                if (FileUtil.isNewer(filePath, newestFilePath == null ? addressBookFilePath : newestFilePath)) {
+                    newestStorage = storage;
+                    newestFilePath = filePath;
+                }
+            }
+            if (newestStorage == null) {
+                return;
+            }
+            Optional<ReadOnlyAddressBook> addressBook = newestStorage.readAddressBook();
+            if (addressBook.isPresent()) {
+                new JsonAddressBookStorage(addressBookFilePath, userPrefs.isAddressBookPrettyPrinted())
+                        .saveAddressBook(addressBook.get());
+            }
+            logger.info("Copied newer data file " + newestFilePath + " back into " + addressBookFilePath);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file at " + addressBookFilePath + " could not be updated from "
+                    + newestFilePath + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the storage created by {@code createStorage} for the JSON file chosen in {@code userPrefs}, or for its
+     * compressed counterpart if compression is turned on. The compressed file is rewritten from the uncompressed one
+     * whenever that was saved after it, such as when compression was still off the last time the data was saved.
+     */
+    private AddressBookStorage initJsonStorage(ReadOnlyUserPrefs userPrefs,
+            Function<Path, AddressBookStorage> createStorage) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        if (!userPrefs.isAddressBookCompressed()) {
+            return createStorage.apply(addressBookFilePath);
+        }
+        Path compressedFilePath = JsonAddressBookStorage.getCompressedFilePath(addressBookFilePath);
+        AddressBookStorage compressedStorage = createStorage.apply(compressedFilePath);
+        try {
+            if (FileUtil.isNewer(addressBookFilePath, compressedFilePath)) {
+                Optional<ReadOnlyAddressBook> addressBook = createStorage.apply(addressBookFilePath).readAddressBook();
+                if (addressBook.isPresent()) {
+                    compressedStorage.saveAddressBook(addressBook.get());
+                }
+                logger.info("Compressed data file " + addressBookFilePath + " into " + compressedFilePath);
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file at " + addressBookFilePath + " could not be compressed into "
+                    + compressedFilePath + ": " + e);
+        }
+        return compressedStorage;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -177,6 +335,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logic.flushPendingSaves();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,19 @@
+package tassist.address.commons.core;
+
+/**
+ * Receives the progress of a long-running operation, such as reading or writing a large file.
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /** A listener that ignores all progress. */
+    ProgressListener NONE = (rowsProcessed, bytesProcessed) -> { };
+
+    /**
+     * Reports that {@code rowsProcessed} rows and {@code bytesProcessed} bytes have been processed so far.
+     * Called on the thread doing the work.
+     *
+     * @throws java.util.concurrent.CancellationException if the operation should stop.
+     */
+    void update(long rowsProcessed, long bytesProcessed);
+}
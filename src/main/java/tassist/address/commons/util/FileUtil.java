@@ -1,10 +1,15 @@
 package tassist.address.commons.util;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
 
 /**
  * Writes and reads files
@@ -12,6 +17,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +86,47 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Returns true if {@code source} exists and was modified after {@code target}, or if {@code target} does not
+     * exist. A directory counts as modified when anything in it was.
+     * @throws IOException if the modification time of either cannot be read.
+     */
+    public static boolean isNewer(Path source, Path target) throws IOException {
+        Optional<FileTime> sourceTime = getLastModifiedTime(source);
+        Optional<FileTime> targetTime = getLastModifiedTime(target);
+        return sourceTime.isPresent()
+                && (targetTime.isEmpty() || sourceTime.get().compareTo(targetTime.get()) > 0);
+    }
+
+    private static Optional<FileTime> getLastModifiedTime(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return Files.exists(path) ? Optional.of(Files.getLastModifiedTime(path)) : Optional.empty();
+        }
+        FileTime latest = Files.getLastModifiedTime(path);
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (Path child : (Iterable<Path>) paths::iterator) {
+                FileTime time = Files.getLastModifiedTime(child);
+                if (time.compareTo(latest) > 0) {
+                    latest = time;
+                }
+            }
+        }
+        return Optional.of(latest);
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the file at {@code file}, in hexadecimal.
+     * Assumes file exists
+     */
+    public static String computeChecksum(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+        return Long.toHexString(checksum.getValue());
+    }
+
 }
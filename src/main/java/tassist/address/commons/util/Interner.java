@@ -0,0 +1,47 @@
+package tassist.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Hands out one canonical instance of an immutable value type per distinct string, so that values shared by many
+ * persons (such as class numbers, project teams and tags) are stored once and compare equal by reference.
+ *
+ * Canonical instances are held weakly: once no person refers to a value, it can be garbage collected.
+ * The value created by the factory must keep a reference to the string it was created from, since that string is
+ * the weak key of its entry.
+ *
+ * @param <T> the interned value type
+ */
+public class Interner<T> {
+
+    private final Map<String, WeakReference<T>> canonicalValues = new WeakHashMap<>();
+    private final Function<String, T> factory;
+
+    /**
+     * Creates an interner that builds new canonical values with {@code factory}.
+     */
+    public Interner(Function<String, T> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the canonical value for {@code key}, creating it with the factory if there is none.
+     * Any exception thrown by the factory, for instance on an invalid key, is propagated and nothing is interned.
+     */
+    public synchronized T intern(String key) {
+        requireNonNull(key);
+        WeakReference<T> reference = canonicalValues.get(key);
+        T value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = factory.apply(key);
+            canonicalValues.put(key, new WeakReference<>(value));
+        }
+        return value;
+    }
+}
@@ -2,15 +2,27 @@ package tassist.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -30,6 +42,9 @@ public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String GZIP_EXTENSION = ".gz";
+
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
@@ -92,6 +107,67 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a parser over the JSON file at {@code filePath}, which reads values with the same settings as
+     * {@link #readJsonFile(Path, Class)}. A gzip-compressed file, told apart by its first bytes, is decompressed
+     * as it is read. The caller must close the parser, which also closes the file.
+     * @param filePath cannot be null
+     * @throws IOException if the file could not be opened
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        InputStream in = new BufferedInputStream(Files.newInputStream(filePath), WRITE_BUFFER_SIZE);
+        try {
+            if (isGzipped(in)) {
+                in = new GZIPInputStream(in, WRITE_BUFFER_SIZE);
+            }
+            return objectMapper.getFactory().createParser(in);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if {@code in} starts with the gzip magic number, leaving {@code in} where it was.
+     */
+    private static boolean isGzipped(InputStream in) throws IOException {
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        return first == (GZIPInputStream.GZIP_MAGIC & 0xff) && second == (GZIPInputStream.GZIP_MAGIC >> 8);
+    }
+
+    /**
+     * Returns true if files at {@code filePath} are written gzip-compressed, which they are if its name ends with
+     * {@code .gz}.
+     */
+    public static boolean isCompressedPath(Path filePath) {
+        return filePath.getFileName().toString().endsWith(GZIP_EXTENSION);
+    }
+
+    /**
+     * Returns a generator that writes to the file at {@code filePath} through a buffered channel, replacing any
+     * existing contents, with the same settings as {@link #saveJsonFile(Object, Path)}.
+     * The output is gzip-compressed if {@link #isCompressedPath(Path)}.
+     * The caller must close the generator, which also closes the file.
+     * @param filePath cannot be null
+     * @param isPrettyPrinted whether to break lines and indent the output
+     * @throws IOException if the file could not be opened
+     */
+    public static JsonGenerator createGenerator(Path filePath, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(filePath);
+        OutputStream out = new BufferedOutputStream(Channels.newOutputStream(FileChannel.open(filePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)),
+                WRITE_BUFFER_SIZE);
+        if (isCompressedPath(filePath)) {
+            out = new GZIPOutputStream(out, WRITE_BUFFER_SIZE);
+        }
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        return isPrettyPrinted ? generator.useDefaultPrettyPrinter() : generator;
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +187,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without any line breaks
+     * or indentation.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, on a single line
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,6 +1,9 @@
 package tassist.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import tassist.address.commons.core.GuiSettings;
@@ -37,6 +40,12 @@ public interface Logic {
     /** Returns an unmodifiable view of the timed event list */
     ObservableList<TimedEvent> getTimedEventList();
 
+    /** Returns every timed event in time order */
+    List<TimedEvent> getTimedEventsInTimeOrder();
+
+    /** Returns the persons in the filtered person list that {@code timedEvent} is assigned to, in its order */
+    List<Person> getFilteredAssignedPersons(TimedEvent timedEvent);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -51,4 +60,22 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler that is told, from a background thread, the error message of each failed save.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Sets how imports and exports running in the background report back: finished jobs are committed to the model
+     * on {@code modelThreadExecutor}, the progress of the running job is told to {@code statusHandler} from any
+     * thread, and the result message of each finished job is told to {@code resultHandler} on the model thread.
+     */
+    void setJobHandlers(Executor modelThreadExecutor, Consumer<String> statusHandler,
+            Consumer<String> resultHandler);
+
+    /**
+     * Blocks until the address book saves scheduled by earlier commands have been written.
+     */
+    void flushPendingSaves();
 }
@@ -1,10 +1,16 @@
 package tassist.address.logic;
 
+import static java.util.Objects.requireNonNull;
 import static tassist.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -12,19 +18,24 @@ import tassist.address.commons.core.GuiSettings;
 import tassist.address.commons.core.LogsCenter;
 import tassist.address.logic.browser.BrowserService;
 import tassist.address.logic.browser.DesktopBrowserService;
+import tassist.address.logic.commands.BackgroundCommand;
+import tassist.address.logic.commands.BackgroundJob;
+import tassist.address.logic.commands.CancelCommand;
 import tassist.address.logic.commands.Command;
 import tassist.address.logic.commands.CommandResult;
 import tassist.address.logic.commands.ConfirmableCommand;
-import tassist.address.logic.commands.ImportCommand;
 import tassist.address.logic.commands.OpenCommand;
 import tassist.address.logic.commands.exceptions.CommandException;
+import tassist.address.logic.jobs.BackgroundJobRunner;
 import tassist.address.logic.parser.AddressBookParser;
 import tassist.address.logic.parser.exceptions.ParseException;
+import tassist.address.model.AddressBookSnapshot;
 import tassist.address.model.Model;
 import tassist.address.model.ReadOnlyAddressBook;
 import tassist.address.model.person.Person;
 import tassist.address.model.timedevents.TimedEvent;
 import tassist.address.storage.Storage;
+import tassist.address.storage.WriteBehindAddressBookSaver;
 
 /**
  * The main LogicManager of the app.
@@ -33,6 +44,13 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data to file: %s";
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file due to permission error: %s";
+    public static final String MESSAGE_JOB_STARTED = "%1$s in the background. Enter \""
+            + CancelCommand.COMMAND_WORD + "\" to stop it.";
+    public static final String MESSAGE_JOB_RUNNING = "%1$s is still running. Wait for it to finish, or enter \""
+            + CancelCommand.COMMAND_WORD + "\" to stop it.";
+
+    /** Modification count recorded when the address book is not on disk as it is in the model. */
+    private static final long NOT_SAVED = -1;
 
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
@@ -40,7 +58,12 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
     private final BrowserService browserService;
+    private final WriteBehindAddressBookSaver saver;
+    private final BackgroundJobRunner jobRunner = new BackgroundJobRunner();
     private ConfirmableCommand pendingConfirmation = null;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+    private volatile Consumer<String> jobResultHandler = message -> { };
+    private volatile long lastSavedModificationCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -57,7 +80,13 @@ public class LogicManager implements Logic {
         this.storage = storage;
         this.addressBookParser = new AddressBookParser();
         this.browserService = browserService;
-        ImportCommand.setStorage(storage);
+        this.saver = new WriteBehindAddressBookSaver(storage);
+        saver.setFailureHandler(this::handleSaveFailure);
+        // An address book loaded from the data file does not need saving yet, but one started without a data file,
+        // such as the sample address book, is written by the first command
+        this.lastSavedModificationCount = Files.exists(storage.getAddressBookFilePath())
+                ? model.getAddressBookModificationCount()
+                : NOT_SAVED;
     }
 
     @Override
@@ -68,7 +97,9 @@ public class LogicManager implements Logic {
             if (commandText.equalsIgnoreCase("Y")) {
                 ConfirmableCommand confirmedCommand = pendingConfirmation;
                 pendingConfirmation = null;
-                return confirmedCommand.executeConfirmed(model);
+                CommandResult confirmedResult = confirmedCommand.executeConfirmed(model);
+                saveAddressBook();
+                return confirmedResult;
             } else if (commandText.equalsIgnoreCase("N")) {
                 pendingConfirmation = null;
                 return new CommandResult("Action cancelled.");
@@ -92,21 +123,86 @@ public class LogicManager implements Logic {
             }
         }
 
+        if (command instanceof CancelCommand) {
+            command = new CancelCommand(jobRunner);
+        }
+
+        if (command instanceof BackgroundCommand) {
+            return startJob((BackgroundCommand) command);
+        }
+
         commandResult = command.execute(model);
 
         if (commandResult.requiresConfirmation()) {
             pendingConfirmation = commandResult.getPendingConfirmation();
         }
 
+        saveAddressBook();
+
+        return commandResult;
+    }
+
+    /**
+     * Starts the work of {@code command} in the background, unless another background job is still running.
+     * The address book is only changed, and saved, once the work has finished.
+     */
+    private CommandResult startJob(BackgroundCommand command) throws CommandException {
+        Optional<String> runningJob = jobRunner.getRunningJobDescription();
+        if (runningJob.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_JOB_RUNNING, runningJob.get()));
+        }
+
+        BackgroundJob job = command.createJob(model);
+        String description = command.getJobDescription();
+        jobRunner.start(description, job, this::commitJob);
+        return new CommandResult(String.format(MESSAGE_JOB_STARTED, description));
+    }
+
+    /**
+     * Commits the result of a finished background job to the model, and reports the result to the user.
+     * Runs on the thread that owns the model.
+     */
+    private void commitJob(BackgroundJob.Completion completion) {
+        String message;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            message = completion.commit(model).getFeedbackToUser();
+        } catch (CommandException e) {
+            message = e.getMessage();
         }
+        saveAddressBook();
+        jobResultHandler.accept(message);
+    }
 
-        return commandResult;
+    /**
+     * Schedules a snapshot of the address book to be saved in the background, unless the address book has not
+     * changed since the last snapshot was saved.
+     */
+    private void saveAddressBook() {
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount == lastSavedModificationCount) {
+            logger.fine("Address book unchanged, skipping save");
+            return;
+        }
+        lastSavedModificationCount = modificationCount;
+        saver.submit(AddressBookSnapshot.of(model.getAddressBook()));
+    }
+
+    /**
+     * Reports a failed save and makes the next command save again, even if it does not change the address book.
+     */
+    private void handleSaveFailure(IOException e) {
+        lastSavedModificationCount = NOT_SAVED;
+        saveFailureHandler.accept(getSaveFailureMessage(e));
+    }
+
+    /**
+     * Returns the message shown to the user when saving fails with {@code e}.
+     */
+    static String getSaveFailureMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
     }
 
     @Override
@@ -124,6 +220,16 @@ public class LogicManager implements Logic {
         return model.getTimedEventList();
     }
 
+    @Override
+    public List<TimedEvent> getTimedEventsInTimeOrder() {
+        return model.getTimedEventsInTimeOrder();
+    }
+
+    @Override
+    public List<Person> getFilteredAssignedPersons(TimedEvent timedEvent) {
+        return model.getFilteredAssignedPersons(timedEvent);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -138,4 +244,24 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public void setJobHandlers(Executor modelThreadExecutor, Consumer<String> statusHandler,
+            Consumer<String> resultHandler) {
+        requireNonNull(resultHandler);
+        jobRunner.setModelThreadExecutor(modelThreadExecutor);
+        jobRunner.setStatusHandler(statusHandler);
+        this.jobResultHandler = resultHandler;
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        saver.flush();
+    }
 }
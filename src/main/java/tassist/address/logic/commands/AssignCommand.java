@@ -103,34 +103,30 @@ public class AssignCommand extends Command {
             }
             Person targetStudent = lastShownList.get(studentIndex.getZeroBased());
             try {
-                targetStudent.addTimedEvent(targetEvent);
-                model.setPerson(targetStudent, targetStudent);
-                resultMessage.append(String.format(MESSAGE_ASSIGN_SUCCESS, Messages.format(targetStudent)));
+                Person assignedStudent = assign(targetStudent, targetEvent);
+                model.setPerson(targetStudent, assignedStudent);
+                resultMessage.append(String.format(MESSAGE_ASSIGN_SUCCESS, Messages.format(assignedStudent)));
             } catch (DuplicateTimedEventException e) {
                 resultMessage.append(String.format(MESSAGE_DUPLICATE_ASSIGNMENT));
             }
         } else if (studentId != null) {
             // Assign to single student by ID
-            Optional<Person> personOptional = lastShownList.stream()
-                    .filter(person -> person.getStudentId().equals(studentId))
-                    .findFirst();
+            Optional<Person> personOptional = model.findPersonByStudentId(studentId);
 
             if (personOptional.isEmpty()) {
                 throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND + studentId);
             }
             Person targetStudent = personOptional.get();
             try {
-                targetStudent.addTimedEvent(targetEvent);
-                resultMessage.append(String.format(MESSAGE_ASSIGN_SUCCESS, Messages.format(targetStudent)));
-                model.setPerson(targetStudent, targetStudent);
+                Person assignedStudent = assign(targetStudent, targetEvent);
+                resultMessage.append(String.format(MESSAGE_ASSIGN_SUCCESS, Messages.format(assignedStudent)));
+                model.setPerson(targetStudent, assignedStudent);
             } catch (DuplicateTimedEventException e) {
                 resultMessage.append(String.format(MESSAGE_DUPLICATE_ASSIGNMENT));
             }
         } else if (classNumber != null) {
-            // Assign to all students in class using streams
-            List<Person> studentsInClass = lastShownList.stream()
-                    .filter(person -> person.getClassNumber().equals(classNumber))
-                    .toList();
+            // Assign to all students in class, looked up through the class index
+            List<Person> studentsInClass = model.getPersonsInClass(classNumber.value);
             if (studentsInClass.isEmpty()) {
                 throw new CommandException(String.format(MESSAGE_NO_STUDENTS_IN_CLASS, classNumber));
             }
@@ -139,9 +135,9 @@ public class AssignCommand extends Command {
             String results = studentsInClass.stream()
                     .map(student -> {
                         try {
-                            student.addTimedEvent(targetEvent);
-                            model.setPerson(student, student);
-                            return String.format(MESSAGE_ASSIGN_SUCCESS, Messages.format(student));
+                            Person assignedStudent = assign(student, targetEvent);
+                            model.setPerson(student, assignedStudent);
+                            return String.format(MESSAGE_ASSIGN_SUCCESS, Messages.format(assignedStudent));
                         } catch (DuplicateTimedEventException e) {
                             return MESSAGE_DUPLICATE_ASSIGNMENT;
                         }
@@ -156,6 +152,18 @@ public class AssignCommand extends Command {
         return new CommandResult(resultMessage.toString());
     }
 
+    /**
+     * Returns a copy of {@code student} with {@code timedEvent} assigned. The student in the address book is
+     * replaced rather than changed in place, as snapshots of the address book may share it.
+     *
+     * @throws DuplicateTimedEventException if {@code timedEvent} is already assigned to {@code student}.
+     */
+    private static Person assign(Person student, TimedEvent timedEvent) {
+        Person assignedStudent = student.copy();
+        assignedStudent.addTimedEvent(timedEvent);
+        return assignedStudent;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,24 @@
+package tassist.address.logic.commands;
+
+import tassist.address.logic.commands.exceptions.CommandException;
+import tassist.address.model.Model;
+
+/**
+ * Represents a command whose long-running work can run on a background thread, so that the user interface stays
+ * responsive.
+ */
+public interface BackgroundCommand {
+
+    /**
+     * Returns a short description of the work, shown while it runs.
+     */
+    String getJobDescription();
+
+    /**
+     * Checks the command and returns its work, taking from {@code model} anything the work needs to read.
+     * Runs on the thread that owns the model.
+     *
+     * @throws CommandException If the command cannot be run.
+     */
+    BackgroundJob createJob(Model model) throws CommandException;
+}
@@ -0,0 +1,34 @@
+package tassist.address.logic.commands;
+
+import tassist.address.commons.core.ProgressListener;
+import tassist.address.logic.commands.exceptions.CommandException;
+import tassist.address.model.Model;
+
+/**
+ * The long-running work of a {@link BackgroundCommand}, which may run on a background thread.
+ */
+@FunctionalInterface
+public interface BackgroundJob {
+
+    /**
+     * Does the work without reading or changing the model, reporting progress to {@code progress}, and returns the
+     * step that commits its result to the model.
+     *
+     * @throws CommandException If the work fails.
+     * @throws java.util.concurrent.CancellationException If {@code progress} asks for the work to stop.
+     */
+    Completion run(ProgressListener progress) throws CommandException;
+
+    /**
+     * Commits the result of a finished job to the model, on the thread that owns the model.
+     */
+    @FunctionalInterface
+    interface Completion {
+        /**
+         * Changes {@code model} as the job's command would, and returns the result message of the command.
+         *
+         * @throws CommandException If the result cannot be committed.
+         */
+        CommandResult commit(Model model) throws CommandException;
+    }
+}
@@ -0,0 +1,69 @@
+package tassist.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import tassist.address.logic.jobs.BackgroundJobRunner;
+import tassist.address.model.Model;
+
+/**
+ * Cancels the import or export running in the background, leaving the address book as it was.
+ */
+public class CancelCommand extends Command {
+
+    public static final String COMMAND_WORD = "cancel";
+
+    public static final String MESSAGE_SUCCESS = "Cancelled: %1$s";
+    public static final String MESSAGE_NO_JOB_RUNNING = "There is no import or export running.";
+
+    private final BackgroundJobRunner jobRunner;
+
+    /**
+     * Constructs a CancelCommand that is not connected to any background jobs.
+     */
+    public CancelCommand() {
+        this.jobRunner = null;
+    }
+
+    /**
+     * Constructs a CancelCommand that cancels the job running in {@code jobRunner}.
+     *
+     * @param jobRunner The runner of the background jobs.
+     */
+    public CancelCommand(BackgroundJobRunner jobRunner) {
+        requireNonNull(jobRunner);
+        this.jobRunner = jobRunner;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        Optional<String> cancelled = jobRunner == null ? Optional.empty() : jobRunner.cancel();
+        return new CommandResult(cancelled
+                .map(description -> String.format(MESSAGE_SUCCESS, description))
+                .orElse(MESSAGE_NO_JOB_RUNNING));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CancelCommand)) {
+            return false;
+        }
+
+        CancelCommand otherCancelCommand = (CancelCommand) other;
+        return Objects.equals(jobRunner, otherCancelCommand.jobRunner);
+    }
+
+    @Override
+    public String toString() {
+        return "CancelCommand{}";
+    }
+}
@@ -69,8 +69,7 @@ public class DeleteCommand extends Command implements ConfirmableCommand {
             personToDelete = lastShownList.get(targetIndex.getZeroBased());
         }
         if (targetStudentId != null) {
-            Optional<Person> personOptional = model.getFilteredPersonList().stream().filter(
-                    person -> person.getStudentId().equals(targetStudentId)).findFirst();
+            Optional<Person> personOptional = model.findPersonByStudentId(targetStudentId);
             if (personOptional.isEmpty()) {
                 throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND + targetStudentId);
             }
@@ -96,8 +95,7 @@ public class DeleteCommand extends Command implements ConfirmableCommand {
             personToDelete = lastShownList.get(targetIndex.getZeroBased());
         }
         if (targetStudentId != null) {
-            Optional<Person> personOptional = model.getFilteredPersonList().stream().filter(
-                    person -> person.getStudentId().equals(targetStudentId)).findFirst();
+            Optional<Person> personOptional = model.findPersonByStudentId(targetStudentId);
             if (personOptional.isEmpty()) {
                 return new CommandResult(Messages.MESSAGE_PERSON_NOT_FOUND + targetStudentId);
             }
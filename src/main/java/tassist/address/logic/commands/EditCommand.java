@@ -101,20 +101,14 @@ public class EditCommand extends Command {
         if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
-        for (Person p : model.getFilteredPersonList()) {
-            if (p.equals(personToEdit)) {
-                continue;
-            }
-            if (p.getPhone().equals(editedPerson.getPhone())) {
-                throw new CommandException(MESSAGE_EXISTING_PHONE);
-            }
-            if (p.getEmail().equals(editedPerson.getEmail())) {
-                throw new CommandException(MESSAGE_EXISTING_EMAIL);
-            }
-            if (!editedPerson.getGithub().value.equals(Github.NO_GITHUB)
-                    && p.getGithub().equals(editedPerson.getGithub())) {
-                throw new CommandException(MESSAGE_EXISTING_GITHUB);
-            }
+        if (model.isPhoneTakenByOther(editedPerson.getPhone(), personToEdit)) {
+            throw new CommandException(MESSAGE_EXISTING_PHONE);
+        }
+        if (model.isEmailTakenByOther(editedPerson.getEmail(), personToEdit)) {
+            throw new CommandException(MESSAGE_EXISTING_EMAIL);
+        }
+        if (model.isGithubTakenByOther(editedPerson.getGithub(), personToEdit)) {
+            throw new CommandException(MESSAGE_EXISTING_GITHUB);
         }
 
         model.setPerson(personToEdit, editedPerson);
@@ -1,46 +1,88 @@
 package tassist.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_COLUMN;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_SCOPE;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 
+import tassist.address.commons.core.ProgressListener;
 import tassist.address.logic.Messages;
 import tassist.address.logic.commands.exceptions.CommandException;
 import tassist.address.model.Model;
-import tassist.address.storage.CsvJsonConverter;
+import tassist.address.model.person.Person;
+import tassist.address.model.timedevents.TimedEvent;
+import tassist.address.storage.CsvAddressBookWriter;
 
 /**
  * Exports the current address book data to a CSV file.
+ * The file can be written on a background thread, from a copy of the students taken when the command is entered.
  */
-public class ExportCommand extends Command {
+public class ExportCommand extends Command implements BackgroundCommand {
 
     public static final String COMMAND_WORD = "export";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Exports the current address book data to a CSV file.\n"
-            + "Parameters: FILE_PATH (must be a valid absolute path to the CSV file)\n"
+            + "Parameters: FILE_PATH (must be a valid absolute path to the CSV file) "
+            + "[" + PREFIX_SCOPE + "SCOPE] [" + PREFIX_COLUMN + "COLUMN]...\n"
+            + "SCOPE: all (default) exports every student, shown exports only the students currently listed, "
+            + "in their listed order\n"
+            + "COLUMN: one of " + String.join(", ", Person.getAttributes()) + " (default: all of them)\n"
             + "Example:\n"
             + "(Unix/mac): " + COMMAND_WORD + " /Users/Name/Downloads/file.csv\n"
-            + "(Windows): " + COMMAND_WORD + " C:\\Users\\Name\\Downloads\\file.csv";
+            + "(Windows): " + COMMAND_WORD + " C:\\Users\\Name\\Downloads\\file.csv " + PREFIX_SCOPE + "shown "
+            + PREFIX_COLUMN + "name " + PREFIX_COLUMN + "studentId";
 
     public static final String MESSAGE_EXPORT_SUCCESS = "Successfully exported address book to: %1$s";
     public static final String MESSAGE_EXPORT_FAILURE = "Failed to export address book.";
     public static final String MESSAGE_PARENT_FOLDER_DOES_NOT_EXIST = "Parent directory does not exist!";
+    public static final String MESSAGE_JOB_DESCRIPTION = "Exporting to %1$s";
 
     private final Path filePath;
+    private final boolean isShownOnly;
+    private final List<String> columns;
 
     /**
-     * Constructs an ExportCommand with a specified file path.
+     * Constructs an ExportCommand with a specified file path, that exports every column of every student.
      *
      * @param filePath The destination path of the CSV file to be created.
      */
     public ExportCommand(Path filePath) {
+        this(filePath, false, Person.getAttributes());
+    }
+
+    /**
+     * Constructs an ExportCommand with a specified file path, students and columns.
+     *
+     * @param filePath The destination path of the CSV file to be created.
+     * @param isShownOnly Whether to export only the students currently listed, in their listed order.
+     * @param columns The person columns to export, in order. Each must be one of {@link Person#getAttributes()}.
+     */
+    public ExportCommand(Path filePath, boolean isShownOnly, List<String> columns) {
+        requireNonNull(columns);
         this.filePath = filePath;
+        this.isShownOnly = isShownOnly;
+        this.columns = List.copyOf(columns);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        return createJob(model).run(ProgressListener.NONE).commit(model);
+    }
+
+    @Override
+    public String getJobDescription() {
+        return String.format(MESSAGE_JOB_DESCRIPTION, filePath);
+    }
+
+    @Override
+    public BackgroundJob createJob(Model model) throws CommandException {
         requireNonNull(model);
 
         if (filePath == null) {
@@ -51,14 +93,36 @@ public class ExportCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_FILE_FORMAT);
         }
 
-        try {
-            CsvJsonConverter converter = new CsvJsonConverter();
-            converter.convertJsonToCsv(filePath, model.getAddressBook());
+        // Persons are replaced rather than changed by later commands, so copying the list is enough
+        List<Person> persons = new ArrayList<>(isShownOnly
+                ? model.getFilteredPersonList()
+                : model.getAddressBook().getPersonList());
+        List<TimedEvent> timedEvents = new ArrayList<>(model.getAddressBook().getTimedEventList());
 
-            return new CommandResult(generateSuccessMessage());
+        return progress -> {
+            writeFile(persons, timedEvents, progress);
+            return committedModel -> new CommandResult(generateSuccessMessage());
+        };
+    }
+
+    /**
+     * Writes {@code persons} and {@code timedEvents} to the CSV file, deleting the part written if
+     * {@code progress} stops the write.
+     */
+    private void writeFile(List<Person> persons, List<TimedEvent> timedEvents, ProgressListener progress)
+            throws CommandException {
+        try {
+            new CsvAddressBookWriter(columns).write(filePath, persons, timedEvents, progress);
         } catch (IOException e) {
             // should only reach here if file is corrupted
             throw new CommandException(MESSAGE_EXPORT_FAILURE + "\n" + MESSAGE_PARENT_FOLDER_DOES_NOT_EXIST);
+        } catch (CancellationException e) {
+            try {
+                Files.deleteIfExists(filePath);
+            } catch (IOException deleteFailure) {
+                e.addSuppressed(deleteFailure);
+            }
+            throw e;
         }
     }
 
@@ -86,6 +150,8 @@ public class ExportCommand extends Command {
         }
 
         ExportCommand otherExportCommand = (ExportCommand) other;
-        return filePath.equals(otherExportCommand.filePath);
+        return filePath.equals(otherExportCommand.filePath)
+                && isShownOnly == otherExportCommand.isShownOnly
+                && columns.equals(otherExportCommand.columns);
     }
 }
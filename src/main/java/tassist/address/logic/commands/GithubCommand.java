@@ -84,8 +84,7 @@ public class GithubCommand extends Command {
             personToEdit = lastShownList.get(index.getZeroBased());
         }
         if (studentId != null) {
-            Optional<Person> personOptional = model.getFilteredPersonList().stream().filter(
-                    person -> person.getStudentId().equals(studentId)).findFirst();
+            Optional<Person> personOptional = model.findPersonByStudentId(studentId);
             if (personOptional.isEmpty()) {
                 throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND + studentId);
             }
@@ -118,12 +117,7 @@ public class GithubCommand extends Command {
      * @throws CommandException
      */
     private void checkDuplicates(Model model, Person personToEdit) throws CommandException {
-        List<Github> githubList = model.getFilteredPersonList().stream()
-                .filter(person -> !person.equals(personToEdit))
-                .map(person -> person.getGithub())
-                .filter(g -> !g.value.equals(NO_GITHUB))
-                .toList();
-        if (!github.value.equals(Github.NO_GITHUB) && githubList.contains(github)) {
+        if (model.isGithubTakenByOther(github, personToEdit)) {
             throw new CommandException(MESSAGE_DUPLICATE_GITHUB);
         }
     }
@@ -2,85 +2,185 @@ package tassist.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static tassist.address.logic.Messages.MESSAGE_INVALID_FILE_PATH;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_MODE;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_READ;
 import static tassist.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import com.opencsv.exceptions.CsvException;
 
-import tassist.address.commons.exceptions.DataLoadingException;
+import tassist.address.commons.core.ProgressListener;
+import tassist.address.commons.exceptions.IllegalValueException;
 import tassist.address.logic.commands.exceptions.CommandException;
+import tassist.address.model.AddressBookMerge;
 import tassist.address.model.Model;
 import tassist.address.model.ReadOnlyAddressBook;
-import tassist.address.storage.CsvJsonConverter;
-import tassist.address.storage.Storage;
+import tassist.address.model.UniqueAttributeIndex;
+import tassist.address.model.person.Person;
+import tassist.address.storage.CsvAddressBookReader;
 
 /**
  * Imports a CSV file containing a list of students into the address book.
+ * The file can be read on a background thread, with the address book only changed once it has been read.
  */
-public class ImportCommand extends Command {
+public class ImportCommand extends Command implements BackgroundCommand {
 
     public static final String COMMAND_WORD = "import";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Imports a CSV file containing a list of students into the address book.\n"
-            + "Parameters: FILE_PATH (must be a valid absolute path to the CSV file)\n"
+            + "Parameters: FILE_PATH (must be a valid absolute path to the CSV file) "
+            + "[" + PREFIX_MODE + "MODE] [" + PREFIX_READ + "READ]\n"
+            + "MODE: replace (default) replaces all students, merge adds new students and updates changed ones "
+            + "by student ID, sync does the same as merge and also removes students not in the file\n"
+            + "READ: stream (default) reads the file row by row, parallel reads the whole file into memory and "
+            + "parses it on all processors\n"
             + "Example:\n"
             + "(Unix/mac): " + COMMAND_WORD + " /Users/Name/Downloads/file.csv\n"
-            + "(Windows): " + COMMAND_WORD + " C:\\Users\\Name\\Downloads\\file.csv";
+            + "(Windows): " + COMMAND_WORD + " C:\\Users\\Name\\Downloads\\file.csv " + PREFIX_MODE + "merge";
 
     public static final String MESSAGE_IMPORT_SUCCESS = "Successfully imported CSV file: %1$s";
+    public static final String MESSAGE_JOB_DESCRIPTION = "Importing %1$s";
+    public static final String MESSAGE_MERGE_SUCCESS = "Successfully merged CSV file: %1$s\n"
+            + "%2$d inserted, %3$d updated, %4$d unchanged, %5$d removed";
     public static final String MESSAGE_INVALID_VALUE_IN_FILE = "Error during file conversion: invalid value";
     public static final String MESSAGE_UNABLE_TO_ACCESS_FILE = "Unable to access file";
     public static final String MESSAGE_CORRUPTED_FILE = "File is corrupted";
-    private static Storage storage = null;
+    public static final String MESSAGE_DUPLICATE_VALUE_IN_FILE = "Error during file conversion: "
+            + "phone, email or GitHub of %1$s belongs to another student";
+
+    /**
+     * How the imported students are combined with the students already in the address book.
+     */
+    public enum Mode {
+        /** Replaces all students and timed events with those in the file. */
+        REPLACE,
+        /** Adds new students and updates changed ones, matched by student ID, and leaves the others alone. */
+        MERGE,
+        /** Same as {@code MERGE}, but also removes the students not in the file. */
+        SYNC
+    }
 
     private final Path filePath;
+    private final Mode mode;
+    private final boolean isParallelRead;
 
     /**
-     * Constructs an ImportCommand with a specified file path.
+     * Constructs an ImportCommand with a specified file path, that replaces the address book with its contents.
      *
      * @param filePath The file path of the CSV file to be imported.
      */
     public ImportCommand(Path filePath) {
+        this(filePath, Mode.REPLACE);
+    }
+
+    /**
+     * Constructs an ImportCommand with a specified file path and mode.
+     *
+     * @param filePath The file path of the CSV file to be imported.
+     * @param mode How the imported students are combined with the existing ones.
+     */
+    public ImportCommand(Path filePath, Mode mode) {
+        this(filePath, mode, false);
+    }
+
+    /**
+     * Constructs an ImportCommand with a specified file path and mode, that can read the file in parallel.
+     *
+     * @param filePath The file path of the CSV file to be imported.
+     * @param mode How the imported students are combined with the existing ones.
+     * @param isParallelRead Whether to read the whole file into memory and parse it on several threads, rather than
+     *                       one row at a time.
+     */
+    public ImportCommand(Path filePath, Mode mode, boolean isParallelRead) {
+        requireNonNull(mode);
         this.filePath = filePath;
+        this.mode = mode;
+        this.isParallelRead = isParallelRead;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        return createJob(model).run(ProgressListener.NONE).commit(model);
+    }
+
+    @Override
+    public String getJobDescription() {
+        return String.format(MESSAGE_JOB_DESCRIPTION, filePath);
+    }
+
+    @Override
+    public BackgroundJob createJob(Model model) throws CommandException {
         requireNonNull(model);
 
         if (filePath == null) {
             throw new CommandException(MESSAGE_INVALID_FILE_PATH);
         }
 
-        ReadOnlyAddressBook newData;
-
-        try {
-            CsvJsonConverter converter = new CsvJsonConverter();
-
-            if (isCsvFile(filePath.toString())) {
-                Path jsonFilePath = model.getAddressBookFilePath();
-                converter.convertCsvToJson(filePath, jsonFilePath);
-            } else {
-                throw new CommandException(MESSAGE_INVALID_FILE_PATH); // Not CSV file type
-            }
+        if (!isCsvFile(filePath.toString())) {
+            throw new CommandException(MESSAGE_INVALID_FILE_PATH); // Not CSV file type
+        }
 
-            newData = storage.readAddressBook().get();
-            model.setAddressBook(newData);
-            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return progress -> {
+            ReadOnlyAddressBook newData = readFile(progress);
+            return committedModel -> commit(committedModel, newData);
+        };
+    }
 
-            return new CommandResult(generateSuccessMessage());
+    /**
+     * Reads the CSV file straight into model objects, so the data file is only written once the import has
+     * succeeded. A parallel read holds the whole file in memory while it is parsed.
+     */
+    private ReadOnlyAddressBook readFile(ProgressListener progress) throws CommandException {
+        try {
+            return isParallelRead
+                    ? CsvAddressBookReader.readInParallel(filePath, progress)
+                    : CsvAddressBookReader.read(filePath, progress);
         } catch (CsvException e) {
             throw new CommandException(MESSAGE_INVALID_VALUE_IN_FILE);
         } catch (IOException e) {
             throw new CommandException(MESSAGE_UNABLE_TO_ACCESS_FILE);
-        } catch (DataLoadingException e) {
+        } catch (IllegalValueException e) {
             throw new CommandException(MESSAGE_CORRUPTED_FILE);
         }
     }
 
+    /**
+     * Combines {@code newData} with the address book of {@code model} as this command's mode says.
+     * A merge is worked out against the address book as it is now, which may have changed while the file was read.
+     */
+    private CommandResult commit(Model model, ReadOnlyAddressBook newData) throws CommandException {
+        if (mode == Mode.REPLACE) {
+            checkUniqueAttributes(newData.getPersonList());
+            model.setAddressBook(newData);
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResult(generateSuccessMessage());
+        }
+
+        AddressBookMerge merge = new AddressBookMerge(model.getAddressBook(), newData, mode == Mode.SYNC);
+        checkUniqueAttributes(merge.getMergedPersons());
+        model.mergeAddressBook(merge);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_MERGE_SUCCESS, filePath, merge.getInsertedCount(),
+                merge.getUpdatedCount(), merge.getUnchangedCount(), merge.getRemovedCount()));
+    }
+
+    /**
+     * Checks in a single pass that no two of the resulting students share a phone, email or GitHub.
+     */
+    private void checkUniqueAttributes(List<Person> persons) throws CommandException {
+        UniqueAttributeIndex uniqueAttributes = new UniqueAttributeIndex();
+        for (Person person : persons) {
+            if (uniqueAttributes.hasConflict(person)) {
+                throw new CommandException(String.format(MESSAGE_DUPLICATE_VALUE_IN_FILE, person.getStudentId()));
+            }
+            uniqueAttributes.add(person);
+        }
+    }
+
     private boolean isCsvFile(String filePath) {
         return filePath.endsWith(".csv");
     }
@@ -105,14 +205,20 @@ public class ImportCommand extends Command {
         }
 
         ImportCommand otherImportCommand = (ImportCommand) other;
-        return filePath.equals(otherImportCommand.filePath);
+        return filePath.equals(otherImportCommand.filePath)
+                && mode == otherImportCommand.mode
+                && isParallelRead == otherImportCommand.isParallelRead;
     }
 
     public Path getFilePath() {
         return filePath;
     }
 
-    public static void setStorage(Storage storage) {
-        ImportCommand.storage = storage;
+    public Mode getMode() {
+        return mode;
+    }
+
+    public boolean isParallelRead() {
+        return isParallelRead;
     }
 }
@@ -7,16 +7,24 @@ import static tassist.address.logic.parser.CliSyntax.PREFIX_ORDER;
 import static tassist.address.logic.parser.CliSyntax.PREFIX_SORT;
 import static tassist.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import tassist.address.logic.commands.exceptions.CommandException;
 import tassist.address.model.Model;
 import tassist.address.model.person.Person;
+import tassist.address.model.person.PersonComparator;
+import tassist.address.model.person.PersonComparator.SortField;
+import tassist.address.model.person.StudentId;
+import tassist.address.model.timedevents.TimedEvent;
 
 /**
  * Lists all students in the TAssist system, with optional sorting and filtering.
@@ -28,12 +36,17 @@ public class ListCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists students with optional sorting and filtering.\n"
             + "Parameters: " + PREFIX_FILTER + "FILTER_TYPE " + PREFIX_FILTER_VALUE + "FILTER_VALUE or\n"
             + "Parameters: " + PREFIX_SORT + "SORT_TYPE " + PREFIX_ORDER + "SORT_ORDER\n"
-            + "Supported SORT_TYPE: name, progress, github\n"
+            + "Supported SORT_TYPE: name, progress, github, class, team\n"
             + "Supported SORT_ORDER: asc (ascending), des (descending)\n"
-            + "Supported FILTER_TYPE: class, team, progress\n"
+            + "Sort by several fields by separating them with commas, with either one SORT_ORDER for all of them "
+            + "or one per field\n"
+            + "Supported FILTER_TYPE: class, team, progress, due, overdue, range\n"
             + "Example:\n"
             + COMMAND_WORD + " s/name o/asc\n"
+            + COMMAND_WORD + " s/class,progress,name o/asc,des,asc\n"
             + COMMAND_WORD + " f/class fv/T01\n"
+            + COMMAND_WORD + " f/due fv/7\n"
+            + COMMAND_WORD + " f/range fv/01-03-2025 31-03-2025\n"
             + COMMAND_WORD + " f/class fv/T01 s/name o/asc";
 
     public static final String MESSAGE_SUCCESS = "Listed all students";
@@ -42,20 +55,25 @@ public class ListCommand extends Command {
     public static final String MESSAGE_LIST_SORTED = "Listed students with sorting applied.";
     public static final String MESSAGE_LIST_FILTERED_SORTED = "Listed students with filter and sorting applied.";
     public static final String MESSAGE_NO_STUDENTS = "No students found.";
-    public static final String MESSAGE_INVALID_SORT = "Invalid sort type! Allowed sort type: name, progress, github.";
+    public static final String MESSAGE_INVALID_SORT = "Invalid sort type! Allowed sort type: name, progress, github, "
+            + "class, team.";
     public static final String MESSAGE_INVALID_SORT_ORDER = "Invalid sort order! Allowed sort order: asc, des.";
     public static final String MESSAGE_MISSING_SORT_ORDER = "Please enter sort order. "
             + "list s/[SORT TYPE] o/[SORT ORDER]\n" + "Allowed sort order: asc, des.";
+    public static final String MESSAGE_MISMATCHED_SORT_ORDER = "Please enter either one sort order for all sort types "
+            + "or one sort order per sort type.";
     public static final String MESSAGE_INVALID_FILTER = "Invalid filter type! Allowed filter type: class, team, "
-            + "progress";
+            + "progress, due, overdue, range";
     public static final String MESSAGE_INVALID_FILTER_VALUE = "This filter value is invalid.";
     public static final String MESSAGE_NONEXISTENT_FILTER_VALUE = "No students found matching the given filter value.";
     public static final String MESSAGE_MISSING_FILTER_VALUE = "Please enter filter value. list f/[FILTER TYPE] "
             + "fv/[FILTER VALUE]";
 
     public static final List<String> VALID_SORT_ORDERS = Arrays.asList("asc", "des");
-    public static final List<String> VALID_SORT_TYPES = Arrays.asList("name", "progress", "github");
-    public static final List<String> VALID_FILTER_TYPES = Arrays.asList("class", "team", "progress");
+    public static final List<String> VALID_SORT_TYPES = Arrays.asList("name", "progress", "github", "class", "team");
+    public static final String SORT_SEPARATOR = ",";
+    public static final List<String> VALID_FILTER_TYPES = Arrays.asList("class", "team", "progress",
+            ViewCommand.FILTER_DUE, ViewCommand.FILTER_OVERDUE, ViewCommand.FILTER_RANGE);
     private static final Logger logger = Logger.getLogger(ListCommand.class.getName());
 
     public final String sortType;
@@ -96,7 +114,8 @@ public class ListCommand extends Command {
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         List<Person> list = model.getFilteredPersonList();
 
-        boolean hasFilter = filterType != null && filterValue != null;
+        boolean hasFilter = filterType != null
+                && (filterValue != null || ViewCommand.FILTER_OVERDUE.equals(filterType));
         boolean hasSort = sortType != null && sortOrder != null;
 
         if (hasFilter) {
@@ -131,14 +150,19 @@ public class ListCommand extends Command {
 
     private void isValidFilterAndSort() throws CommandException {
         logger.fine("Validating filter and sort inputs.");
-        if (sortType != null && !VALID_SORT_TYPES.contains(sortType)) {
+        if (sortType != null && !splitSortValues(sortType).stream().allMatch(VALID_SORT_TYPES::contains)) {
             throw new CommandException(MESSAGE_INVALID_SORT);
         }
 
-        if (sortOrder != null && !VALID_SORT_ORDERS.contains(sortOrder)) {
+        if (sortOrder != null && !splitSortValues(sortOrder).stream().allMatch(VALID_SORT_ORDERS::contains)) {
             throw new CommandException(MESSAGE_INVALID_SORT_ORDER);
         }
 
+        if (sortType != null && sortOrder != null
+                && !isMatchingSortOrderCount(splitSortValues(sortType), splitSortValues(sortOrder))) {
+            throw new CommandException(MESSAGE_MISMATCHED_SORT_ORDER);
+        }
+
         if (filterType != null && !VALID_FILTER_TYPES.contains(filterType)) {
             throw new CommandException(MESSAGE_INVALID_FILTER);
         }
@@ -147,20 +171,12 @@ public class ListCommand extends Command {
     private Predicate<Person> getFilter(Model model, String filterType, String filterValue) throws CommandException {
         return switch (filterType) {
         case "class" -> {
-            boolean hasClass = model.getFilteredPersonList().stream().anyMatch(p ->
-                    p.getClassNumber().value.equalsIgnoreCase(filterValue));
-            if (!hasClass) {
-                throw new CommandException(String.format(MESSAGE_NONEXISTENT_FILTER_VALUE, filterValue));
-            }
-            yield p -> p.getClassNumber().value.equalsIgnoreCase(filterValue);
+            checkGroupExists(model.getPersonsInClass(filterValue), filterValue);
+            yield person -> person.getClassNumber().value.equalsIgnoreCase(filterValue);
         }
         case "team" -> {
-            boolean hasTeam = model.getFilteredPersonList().stream()
-                    .anyMatch(p -> p.getProjectTeam().value.equalsIgnoreCase(filterValue));
-            if (!hasTeam) {
-                throw new CommandException(String.format(MESSAGE_NONEXISTENT_FILTER_VALUE, filterValue));
-            }
-            yield p -> p.getProjectTeam().value.equalsIgnoreCase(filterValue);
+            checkGroupExists(model.getPersonsInTeam(filterValue), filterValue);
+            yield person -> person.getProjectTeam().value.equalsIgnoreCase(filterValue);
         }
         case "progress" -> {
             int filterProgress;
@@ -171,18 +187,57 @@ public class ListCommand extends Command {
             }
             yield person -> person.getProgress().value <= filterProgress;
         }
+        case ViewCommand.FILTER_DUE, ViewCommand.FILTER_OVERDUE, ViewCommand.FILTER_RANGE -> {
+            Set<StudentId> assignedStudentIds = new HashSet<>();
+            for (TimedEvent event : ViewCommand.findTimedEvents(model, filterType, filterValue)) {
+                model.getAssignedPersons(event).forEach(person -> assignedStudentIds.add(person.getStudentId()));
+            }
+            yield person -> assignedStudentIds.contains(person.getStudentId());
+        }
         default -> throw new CommandException(MESSAGE_INVALID_FILTER);
         };
     }
 
+    /**
+     * Checks that {@code group}, a class or team looked up in the address book's indexes, has any persons, without
+     * scanning the whole address book.
+     */
+    private static void checkGroupExists(List<Person> group, String filterValue) throws CommandException {
+        if (group.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NONEXISTENT_FILTER_VALUE, filterValue));
+        }
+    }
+
+    /**
+     * Splits a comma-separated {@code s/} or {@code o/} argument into its trimmed values.
+     */
+    public static List<String> splitSortValues(String sortValues) {
+        return Arrays.stream(sortValues.split(SORT_SEPARATOR, -1))
+                .map(String::trim)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if {@code sortOrders} has either one order for all of {@code sortTypes} or one order per type.
+     */
+    public static boolean isMatchingSortOrderCount(List<String> sortTypes, List<String> sortOrders) {
+        return sortOrders.size() == 1 || sortOrders.size() == sortTypes.size();
+    }
+
     private Comparator<Person> getComparator(String sortType, String sortOrder) throws CommandException {
-        Comparator<Person> comparator = switch (sortType) {
-        case "name" -> Comparator.comparing(p -> p.getName().value.toLowerCase());
-        case "progress"-> Comparator.comparing(p -> p.getProgress().value);
-        case "github" -> Comparator.comparing(p -> p.getGithub().value.toLowerCase());
-        default -> throw new CommandException(MESSAGE_INVALID_SORT);
-        };
-        return "des".equals(sortOrder) ? comparator.reversed() : comparator;
+        List<String> sortTypes = splitSortValues(sortType);
+        List<String> sortOrders = splitSortValues(sortOrder);
+        List<SortField> fields = new ArrayList<>();
+        List<Boolean> ascending = new ArrayList<>();
+        for (int i = 0; i < sortTypes.size(); i++) {
+            SortField field = SortField.fromKeyword(sortTypes.get(i));
+            if (field == null) {
+                throw new CommandException(MESSAGE_INVALID_SORT);
+            }
+            fields.add(field);
+            ascending.add(!"des".equals(sortOrders.get(sortOrders.size() == 1 ? 0 : i)));
+        }
+        return new PersonComparator(fields, ascending);
     }
 
     @Override
@@ -77,8 +77,7 @@ public class ProgressCommand extends Command {
             }
             personToEdit = lastShownList.get(index.getZeroBased());
         } else if (studentId != null) {
-            Optional<Person> personOptional = model.getFilteredPersonList().stream()
-                    .filter(person -> person.getStudentId().equals(studentId)).findFirst();
+            Optional<Person> personOptional = model.findPersonByStudentId(studentId);
             if (personOptional.isEmpty()) {
                 throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND + studentId);
             }
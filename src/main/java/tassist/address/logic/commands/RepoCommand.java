@@ -107,8 +107,7 @@ public class RepoCommand extends Command {
             personToEdit = lastShownList.get(index.getZeroBased());
         }
         if (studentId != null) {
-            Optional<Person> personOptional = model.getFilteredPersonList().stream().filter(
-                    person -> person.getStudentId().equals(studentId)).findFirst();
+            Optional<Person> personOptional = model.findPersonByStudentId(studentId);
             if (personOptional.isEmpty()) {
                 throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND + studentId);
             }
@@ -8,6 +8,7 @@ import tassist.address.commons.core.index.Index;
 import tassist.address.logic.Messages;
 import tassist.address.logic.commands.exceptions.CommandException;
 import tassist.address.model.Model;
+import tassist.address.model.person.Person;
 import tassist.address.model.timedevents.TimedEvent;
 
 /**
@@ -54,12 +55,12 @@ public class UnassignCommand extends Command implements ConfirmableCommand {
         TimedEvent eventToUnassign = lastShownList.get(targetIndex.getZeroBased());
 
         // Remove the event from all students who have it
-        model.getFilteredPersonList().stream()
-                .filter(person -> person.hasTimedEvent(eventToUnassign))
-                .forEach(person -> {
-                    person.removeTimedEvent(eventToUnassign);
-                    model.setPerson(person, person); // Trigger UI update
-                });
+        // Persons in the address book are replaced rather than changed in place, as snapshots may share them
+        for (Person person : model.getAssignedPersons(eventToUnassign)) {
+            Person unassignedPerson = person.copy();
+            unassignedPerson.removeTimedEvent(eventToUnassign);
+            model.setPerson(person, unassignedPerson);
+        }
 
         // Remove the event from the event list
         model.deleteTimedEvent(eventToUnassign);
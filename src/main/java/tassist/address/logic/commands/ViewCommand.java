@@ -1,50 +1,199 @@
 package tassist.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_FILTER;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_FILTER_VALUE;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
+import tassist.address.logic.commands.exceptions.CommandException;
 import tassist.address.model.Model;
 import tassist.address.model.timedevents.TimedEvent;
 
 /**
- * Lists all timed events in the system.
+ * Lists all timed events in the system, optionally only those matching a deadline filter.
  */
 public class ViewCommand extends Command {
 
     public static final String COMMAND_WORD = "view";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists timed events with optional filtering.\n"
+            + "Parameters: [" + PREFIX_FILTER + "FILTER_TYPE [" + PREFIX_FILTER_VALUE + "FILTER_VALUE]]\n"
+            + "Supported FILTER_TYPE: due (FILTER_VALUE: number of days), overdue, "
+            + "range (FILTER_VALUE: START_DATE END_DATE as dd-MM-yyyy)\n"
+            + "Example:\n"
+            + COMMAND_WORD + " " + PREFIX_FILTER + "due " + PREFIX_FILTER_VALUE + "7\n"
+            + COMMAND_WORD + " " + PREFIX_FILTER + "overdue\n"
+            + COMMAND_WORD + " " + PREFIX_FILTER + "range " + PREFIX_FILTER_VALUE + "01-03-2025 31-03-2025";
+
     public static final String MESSAGE_SUCCESS = "Listed all timed events:";
+    public static final String MESSAGE_SUCCESS_FILTERED = "Listed timed events with filter applied:";
     public static final String MESSAGE_NO_EVENTS = "No timed events found.";
+    public static final String MESSAGE_INVALID_FILTER = "Invalid filter type! Allowed filter type: due, overdue, "
+            + "range";
+    public static final String MESSAGE_INVALID_DUE_VALUE = "Please enter a non-negative number of days for the due "
+            + "filter.";
+    public static final String MESSAGE_INVALID_RANGE_VALUE = "Please enter the range as START_DATE END_DATE in "
+            + "dd-MM-yyyy format, with START_DATE not after END_DATE.";
+
+    public static final String FILTER_DUE = "due";
+    public static final String FILTER_OVERDUE = "overdue";
+    public static final String FILTER_RANGE = "range";
+    public static final List<String> VALID_FILTER_TYPES = Arrays.asList(FILTER_DUE, FILTER_OVERDUE, FILTER_RANGE);
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final DateTimeFormatter RANGE_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu")
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    public final String filterType;
+    public final String filterValue;
+
+    /**
+     * Constructs a {@code ViewCommand} that lists only the timed events matching the given deadline filter.
+     *
+     * @param filterType One of {@link #VALID_FILTER_TYPES}.
+     * @param filterValue Value of the filter, or null for {@code overdue}.
+     */
+    public ViewCommand(String filterType, String filterValue) {
+        this.filterType = filterType != null ? filterType.toLowerCase() : null;
+        this.filterValue = filterValue != null ? filterValue.trim() : null;
+    }
+
+    /**
+     * Constructs a {@code ViewCommand} that lists every timed event.
+     */
+    public ViewCommand() {
+        this(null, null);
+    }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<TimedEvent> timedEvents = model.getTimedEventList();
 
-        if (timedEvents.isEmpty()) {
+        if (filterType == null) {
+            if (timedEvents.isEmpty()) {
+                return new CommandResult(MESSAGE_NO_EVENTS);
+            }
+
+            StringBuilder result = new StringBuilder();
+            result.append(MESSAGE_SUCCESS).append("\n");
+            for (int i = 0; i < timedEvents.size(); i++) {
+                appendTimedEvent(result, i + 1, timedEvents.get(i));
+            }
+            return new CommandResult(result.toString());
+        }
+
+        List<TimedEvent> matchingEvents = findTimedEvents(model, filterType, filterValue);
+        if (matchingEvents.isEmpty()) {
             return new CommandResult(MESSAGE_NO_EVENTS);
         }
 
+        // Events are shown in time order but numbered by their position in the full list,
+        // so that the numbers can still be used with commands such as assign.
         StringBuilder result = new StringBuilder();
-        result.append(MESSAGE_SUCCESS).append("\n");
+        result.append(MESSAGE_SUCCESS_FILTERED).append("\n");
+        for (TimedEvent event : matchingEvents) {
+            int position = model.indexOfTimedEvent(event);
+            assert position >= 0 : "Timed event found by time is missing from the timed event list: " + event;
+            appendTimedEvent(result, position + 1, event);
+        }
+        return new CommandResult(result.toString());
+    }
+
+    private static void appendTimedEvent(StringBuilder result, int displayedIndex, TimedEvent event) {
+        result.append(String.format("%d. %s - %s\n   Due: %s\n",
+                displayedIndex,
+                event.getName(),
+                event.getClass().getSimpleName(),
+                event.getTime().format(DATE_FORMATTER)));
+    }
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-        for (int i = 0; i < timedEvents.size(); i++) {
-            TimedEvent event = timedEvents.get(i);
-            result.append(String.format("%d. %s - %s\n   Due: %s\n",
-                    i + 1,
-                    event.getName(),
-                    event.getClass().getSimpleName(),
-                    event.getTime().format(formatter)));
+    /**
+     * Returns the timed events in {@code model} matching the given deadline filter, in time order.
+     * Matching events are looked up in the model's time index rather than by scanning every event.
+     *
+     * @throws CommandException if {@code filterType} or {@code filterValue} is invalid.
+     */
+    public static List<TimedEvent> findTimedEvents(Model model, String filterType, String filterValue)
+            throws CommandException {
+        requireNonNull(model);
+        requireNonNull(filterType);
+        LocalDate today = LocalDate.now();
+        return switch (filterType.toLowerCase()) {
+        case FILTER_OVERDUE -> model.getTimedEventsBetween(LocalDate.MIN.atStartOfDay(),
+                today.plusDays(1).atStartOfDay());
+        case FILTER_DUE -> {
+            int days = parseDays(filterValue);
+            yield model.getTimedEventsBetween(today.plusDays(1).atStartOfDay(),
+                    today.plusDays(days + 1L).atStartOfDay());
         }
+        case FILTER_RANGE -> {
+            LocalDate[] range = parseRange(filterValue);
+            yield model.getTimedEventsBetween(range[0].atStartOfDay(), range[1].plusDays(1).atStartOfDay());
+        }
+        default -> throw new CommandException(MESSAGE_INVALID_FILTER);
+        };
+    }
 
-        return new CommandResult(result.toString());
+    private static int parseDays(String filterValue) throws CommandException {
+        try {
+            int days = Integer.parseInt(Objects.requireNonNullElse(filterValue, "").trim());
+            if (days < 0) {
+                throw new CommandException(MESSAGE_INVALID_DUE_VALUE);
+            }
+            return days;
+        } catch (NumberFormatException e) {
+            throw new CommandException(MESSAGE_INVALID_DUE_VALUE);
+        }
+    }
+
+    private static LocalDate[] parseRange(String filterValue) throws CommandException {
+        String[] dates = Objects.requireNonNullElse(filterValue, "").trim().split("\\s+");
+        if (dates.length != 2) {
+            throw new CommandException(MESSAGE_INVALID_RANGE_VALUE);
+        }
+        try {
+            LocalDate start = LocalDate.parse(dates[0], RANGE_DATE_FORMATTER);
+            LocalDate end = LocalDate.parse(dates[1], RANGE_DATE_FORMATTER);
+            if (start.isAfter(end)) {
+                throw new CommandException(MESSAGE_INVALID_RANGE_VALUE);
+            }
+            return new LocalDate[] {start, end};
+        } catch (DateTimeParseException e) {
+            throw new CommandException(MESSAGE_INVALID_RANGE_VALUE);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ViewCommand)) {
+            return false;
+        }
+
+        ViewCommand otherCommand = (ViewCommand) other;
+        return Objects.equals(filterType, otherCommand.filterType)
+                && Objects.equals(filterValue, otherCommand.filterValue);
     }
 
     @Override
     public String toString() {
-        return "ViewCommand{}";
+        if (filterType == null) {
+            return "ViewCommand{}";
+        }
+        return "ViewCommand{"
+                + "filterType='" + filterType + '\''
+                + ", filterValue='" + filterValue + '\''
+                + '}';
     }
 }
@@ -0,0 +1,165 @@
+package tassist.address.logic.jobs;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import tassist.address.commons.core.LogsCenter;
+import tassist.address.commons.util.StringUtil;
+import tassist.address.logic.commands.BackgroundJob;
+import tassist.address.logic.commands.BackgroundJob.Completion;
+import tassist.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Runs one {@link BackgroundJob} at a time on a single background thread, so that long imports and exports do not
+ * hold up the thread that owns the model.
+ *
+ * The progress of the running job is passed to the status handler as a line of text, and an empty line once the
+ * job is over. A finished job is handed back, as the {@link Completion} that commits its result, to the committer
+ * on the model thread. A cancelled job is stopped at its next progress report, and its result is never committed.
+ */
+public class BackgroundJobRunner {
+
+    public static final String MESSAGE_JOB_PROGRESS = "%1$s: %2$,d rows, %3$,d KB";
+    public static final String MESSAGE_JOB_FAILED = "%1$s failed unexpectedly.";
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundJobRunner.class);
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "background-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Executor modelThreadExecutor = Runnable::run;
+    private volatile Consumer<String> statusHandler = status -> { };
+    private RunningJob runningJob = null;
+
+    /**
+     * Sets the executor that runs tasks on the thread that owns the model, where finished jobs are committed.
+     * By default they are committed on the background thread.
+     */
+    public void setModelThreadExecutor(Executor modelThreadExecutor) {
+        requireNonNull(modelThreadExecutor);
+        this.modelThreadExecutor = modelThreadExecutor;
+    }
+
+    /**
+     * Sets the handler that is told, from any thread, the status line of the running job.
+     */
+    public void setStatusHandler(Consumer<String> statusHandler) {
+        requireNonNull(statusHandler);
+        this.statusHandler = statusHandler;
+    }
+
+    /**
+     * Returns the description of the running job, if any.
+     */
+    public synchronized Optional<String> getRunningJobDescription() {
+        return Optional.ofNullable(runningJob).map(running -> running.description);
+    }
+
+    /**
+     * Starts running {@code job} in the background. Unless it is cancelled first, its completion is passed to
+     * {@code committer} on the model thread once it finishes. A job that fails is completed by throwing its error.
+     * There must be no job running.
+     */
+    public synchronized void start(String description, BackgroundJob job, Consumer<Completion> committer) {
+        requireNonNull(description);
+        requireNonNull(job);
+        requireNonNull(committer);
+        if (runningJob != null) {
+            throw new IllegalStateException("A background job is already running");
+        }
+
+        RunningJob running = new RunningJob(description);
+        runningJob = running;
+        statusHandler.accept(description);
+        running.future = worker.submit(() -> run(running, job, committer));
+    }
+
+    /**
+     * Cancels the running job, and returns its description. Returns an empty {@code Optional} if there is no job
+     * running. The job is not interrupted, which would fail the file it is writing without cleaning it up, but
+     * stopped at its next progress report.
+     */
+    public synchronized Optional<String> cancel() {
+        if (runningJob == null) {
+            return Optional.empty();
+        }
+        RunningJob cancelled = runningJob;
+        runningJob = null;
+        cancelled.isCancelled = true;
+        cancelled.future.cancel(false);
+        statusHandler.accept("");
+        logger.info("Cancelled background job: " + cancelled.description);
+        return Optional.of(cancelled.description);
+    }
+
+    private void run(RunningJob running, BackgroundJob job, Consumer<Completion> committer) {
+        Completion completion = model -> {
+            throw new CommandException(String.format(MESSAGE_JOB_FAILED, running.description));
+        };
+        try {
+            completion = job.run((rowsProcessed, bytesProcessed) ->
+                    reportProgress(running, rowsProcessed, bytesProcessed));
+        } catch (CancellationException e) {
+            // Stopped at a progress report after being cancelled
+        } catch (CommandException e) {
+            completion = model -> {
+                throw e;
+            };
+        } catch (RuntimeException e) {
+            logger.warning("Background job failed: " + running.description + " " + StringUtil.getDetails(e));
+        } catch (Error e) {
+            logger.severe("Background job failed: " + running.description + " " + StringUtil.getDetails(e));
+            throw e;
+        } finally {
+            // However the job ended, it must be finished unless cancel() has already taken it off the runner
+            if (!running.isCancelled) {
+                Completion finished = completion;
+                modelThreadExecutor.execute(() -> finish(running, finished, committer));
+            }
+        }
+    }
+
+    private void reportProgress(RunningJob running, long rowsProcessed, long bytesProcessed) {
+        synchronized (this) {
+            if (running.isCancelled) {
+                throw new CancellationException();
+            }
+            statusHandler.accept(String.format(MESSAGE_JOB_PROGRESS, running.description, rowsProcessed,
+                    bytesProcessed / 1024));
+        }
+    }
+
+    private void finish(RunningJob running, Completion completion, Consumer<Completion> committer) {
+        synchronized (this) {
+            if (running.isCancelled) {
+                return;
+            }
+            runningJob = null;
+            statusHandler.accept("");
+        }
+        committer.accept(completion);
+    }
+
+    /**
+     * A job that has been started.
+     */
+    private static class RunningJob {
+        private final String description;
+        private volatile boolean isCancelled = false;
+        private Future<?> future;
+
+        RunningJob(String description) {
+            this.description = description;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import tassist.address.commons.core.LogsCenter;
 import tassist.address.logic.commands.AddCommand;
 import tassist.address.logic.commands.AssignCommand;
 import tassist.address.logic.commands.AssignmentCommand;
+import tassist.address.logic.commands.CancelCommand;
 import tassist.address.logic.commands.ClassCommand;
 import tassist.address.logic.commands.ClearCommand;
 import tassist.address.logic.commands.Command;
@@ -122,6 +123,9 @@ public class AddressBookParser {
         case ExportCommand.COMMAND_WORD:
             return new ExportCommandParser().parse(arguments);
 
+        case CancelCommand.COMMAND_WORD:
+            return new CancelCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -55,7 +55,7 @@ public class ClassCommandParser implements Parser<ClassCommand> {
 
         ClassNumber classNumber;
         try {
-            classNumber = new ClassNumber(classNumberString);
+            classNumber = ClassNumber.of(classNumberString);
         } catch (IllegalArgumentException e) {
             throw new ParseException(MESSAGE_CONSTRAINTS, e);
         }
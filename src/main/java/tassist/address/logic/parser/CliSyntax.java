@@ -23,4 +23,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_REPOSITORY = new Prefix("r/");
     public static final Prefix PREFIX_USERNAME = new Prefix("un/");
     public static final Prefix PREFIX_REPOSITORY_NAME = new Prefix("rn/");
+    public static final Prefix PREFIX_MODE = new Prefix("mode/");
+    public static final Prefix PREFIX_SCOPE = new Prefix("scope/");
+    public static final Prefix PREFIX_COLUMN = new Prefix("col/");
+    public static final Prefix PREFIX_READ = new Prefix("read/");
 }
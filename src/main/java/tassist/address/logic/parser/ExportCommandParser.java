@@ -5,20 +5,31 @@ import static tassist.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tassist.address.logic.Messages.MESSAGE_INVALID_FILE_PATH;
 import static tassist.address.logic.commands.ExportCommand.MESSAGE_EXPORT_FAILURE;
 import static tassist.address.logic.commands.ExportCommand.MESSAGE_PARENT_FOLDER_DOES_NOT_EXIST;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_COLUMN;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_SCOPE;
+import static tassist.address.storage.CsvAddressBookWriter.MESSAGE_INVALID_COLUMN;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import tassist.address.commons.exceptions.IllegalValueException;
 import tassist.address.logic.commands.ExportCommand;
 import tassist.address.logic.parser.exceptions.ParseException;
+import tassist.address.model.person.Person;
 
 /**
  * Parses input arguments and creates a new ExportCommand object
  */
 public class ExportCommandParser implements Parser<ExportCommand> {
 
+    public static final String MESSAGE_DUPLICATE_COLUMN = "Column %1$s is given more than once";
+
+    private static final String SCOPE_ALL = "all";
+    private static final String SCOPE_SHOWN = "shown";
+
     /**
      * Parses the given {@code String} of arguments in the context of the ExportCommand
      * and returns an ExportCommand object for execution.
@@ -33,18 +44,58 @@ public class ExportCommandParser implements Parser<ExportCommand> {
                     ExportCommand.MESSAGE_USAGE));
         }
 
+        // The file path may contain spaces, so it is everything before the options
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + trimmedArgs, PREFIX_SCOPE, PREFIX_COLUMN);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SCOPE);
+        boolean isShownOnly = false;
+        if (argMultimap.getValue(PREFIX_SCOPE).isPresent()) {
+            isShownOnly = parseIsShownOnly(argMultimap.getValue(PREFIX_SCOPE).get());
+        }
+        List<String> columns = Person.getAttributes();
+        if (!argMultimap.getAllValues(PREFIX_COLUMN).isEmpty()) {
+            columns = parseColumns(argMultimap.getAllValues(PREFIX_COLUMN));
+        }
+
         try {
-            Path filePath = ParserUtil.parseFilePath(trimmedArgs);
+            Path filePath = ParserUtil.parseFilePath(argMultimap.getPreamble());
 
             if (!Files.exists(filePath)) {
                 Files.createFile(filePath);
             }
 
-            return new ExportCommand(filePath);
+            return new ExportCommand(filePath, isShownOnly, columns);
         } catch (IllegalValueException ive) {
             throw new ParseException(MESSAGE_INVALID_FILE_PATH);
         } catch (IOException e) {
             throw new ParseException(MESSAGE_EXPORT_FAILURE + "\n" + MESSAGE_PARENT_FOLDER_DOES_NOT_EXIST);
         }
     }
+
+    private static boolean parseIsShownOnly(String scope) throws ParseException {
+        if (scope.trim().equalsIgnoreCase(SCOPE_SHOWN)) {
+            return true;
+        } else if (scope.trim().equalsIgnoreCase(SCOPE_ALL)) {
+            return false;
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Returns the person columns named by {@code columnNames}, ignoring case, in the given order.
+     */
+    private static List<String> parseColumns(List<String> columnNames) throws ParseException {
+        List<String> columns = new ArrayList<>();
+        for (String columnName : columnNames) {
+            String column = Person.getAttributes().stream()
+                    .filter(attribute -> attribute.equalsIgnoreCase(columnName.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new ParseException(String.format(MESSAGE_INVALID_COLUMN, columnName.trim())
+                            + "\n" + ExportCommand.MESSAGE_USAGE));
+            if (columns.contains(column)) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_COLUMN, column));
+            }
+            columns.add(column);
+        }
+        return columns;
+    }
 }
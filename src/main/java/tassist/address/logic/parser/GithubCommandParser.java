@@ -56,7 +56,7 @@ public class GithubCommandParser implements Parser<GithubCommand> {
         }
 
         try {
-            Github githubUrl = new Github(github);
+            Github githubUrl = Github.of(github);
         } catch (IllegalArgumentException e) {
             throw new ParseException(GithubCommand.MESSAGE_INVALID_GITHUB + " " + MESSAGE_CONSTRAINTS, e);
         }
@@ -64,7 +64,7 @@ public class GithubCommandParser implements Parser<GithubCommand> {
         if (trimmedArgs.matches(VALIDATION_REGEX)) {
             try {
                 StudentId studentId = ParserUtil.parseStudentId(trimmedArgs);
-                return new GithubCommand(studentId, new Github(github));
+                return new GithubCommand(studentId, Github.of(github));
             } catch (IllegalValueException ive) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                         MESSAGE_USAGE), ive);
@@ -73,7 +73,7 @@ public class GithubCommandParser implements Parser<GithubCommand> {
 
         try {
             Index index = ParserUtil.parseIndex(trimmedArgs);
-            return new GithubCommand(index, new Github(github));
+            return new GithubCommand(index, Github.of(github));
         } catch (IllegalValueException ive) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     MESSAGE_USAGE), ive);
@@ -3,6 +3,8 @@ package tassist.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static tassist.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tassist.address.logic.Messages.MESSAGE_INVALID_FILE_PATH;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_MODE;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_READ;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -16,6 +18,9 @@ import tassist.address.logic.parser.exceptions.ParseException;
  */
 public class ImportCommandParser implements Parser<ImportCommand> {
 
+    private static final String READ_STREAM = "stream";
+    private static final String READ_PARALLEL = "parallel";
+
     /**
      * Parses the given {@code String} of arguments in the context of the ImportCommand
      * and returns an ImportCommand object for execution.
@@ -30,17 +35,47 @@ public class ImportCommandParser implements Parser<ImportCommand> {
                     ImportCommand.MESSAGE_USAGE));
         }
 
+        // The file path may contain spaces, so it is everything before the options
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + trimmedArgs, PREFIX_MODE, PREFIX_READ);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MODE, PREFIX_READ);
+        ImportCommand.Mode mode = ImportCommand.Mode.REPLACE;
+        if (argMultimap.getValue(PREFIX_MODE).isPresent()) {
+            mode = parseMode(argMultimap.getValue(PREFIX_MODE).get());
+        }
+        boolean isParallelRead = false;
+        if (argMultimap.getValue(PREFIX_READ).isPresent()) {
+            isParallelRead = parseIsParallelRead(argMultimap.getValue(PREFIX_READ).get());
+        }
+
         try {
-            Path filePath = ParserUtil.parseFilePath(trimmedArgs);
+            Path filePath = ParserUtil.parseFilePath(argMultimap.getPreamble());
 
             if (!Files.exists(filePath)) {
                 throw new ParseException(MESSAGE_INVALID_FILE_PATH);
             }
 
-            return new ImportCommand(filePath);
+            return new ImportCommand(filePath, mode, isParallelRead);
         } catch (IllegalValueException ive) {
             throw new ParseException(MESSAGE_INVALID_FILE_PATH);
         }
 
     }
+
+    private static ImportCommand.Mode parseMode(String mode) throws ParseException {
+        for (ImportCommand.Mode validMode : ImportCommand.Mode.values()) {
+            if (validMode.name().equalsIgnoreCase(mode.trim())) {
+                return validMode;
+            }
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    private static boolean parseIsParallelRead(String read) throws ParseException {
+        if (read.trim().equalsIgnoreCase(READ_PARALLEL)) {
+            return true;
+        } else if (read.trim().equalsIgnoreCase(READ_STREAM)) {
+            return false;
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
 }
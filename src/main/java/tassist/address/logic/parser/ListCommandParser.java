@@ -10,7 +10,10 @@ import static tassist.address.logic.parser.CliSyntax.PREFIX_FILTER_VALUE;
 import static tassist.address.logic.parser.CliSyntax.PREFIX_ORDER;
 import static tassist.address.logic.parser.CliSyntax.PREFIX_SORT;
 
+import java.util.List;
+
 import tassist.address.logic.commands.ListCommand;
+import tassist.address.logic.commands.ViewCommand;
 import tassist.address.logic.parser.exceptions.ParseException;
 import tassist.address.model.person.Progress;
 
@@ -39,7 +42,7 @@ public class ListCommandParser implements Parser<ListCommand> {
         String filterValue = argMultimap.getValue(PREFIX_FILTER_VALUE).orElse(null);
 
         validateSortType(sortType, sortOrder);
-        validateSortOrder(sortOrder);
+        validateSortOrder(sortType, sortOrder);
         validateFilterType(filterType, filterValue);
         validateFilterValue(filterValue, filterType);
 
@@ -67,16 +70,24 @@ public class ListCommandParser implements Parser<ListCommand> {
             if (!VALID_FILTER_TYPES.contains(filterType.toLowerCase())) {
                 throw new ParseException(ListCommand.MESSAGE_INVALID_FILTER);
             }
-            if (filterValue == null) {
+            if (filterValue == null && !filterType.equalsIgnoreCase(ViewCommand.FILTER_OVERDUE)) {
                 throw new ParseException(ListCommand.MESSAGE_MISSING_FILTER_VALUE);
             }
         }
     }
 
-    private static void validateSortOrder(String sortOrder) throws ParseException {
-        if (sortOrder != null && !VALID_SORT_ORDERS.contains(sortOrder.toLowerCase())) {
+    private static void validateSortOrder(String sortType, String sortOrder) throws ParseException {
+        if (sortOrder == null) {
+            return;
+        }
+        List<String> sortOrders = ListCommand.splitSortValues(sortOrder.toLowerCase());
+        if (!VALID_SORT_ORDERS.containsAll(sortOrders)) {
             throw new ParseException(ListCommand.MESSAGE_INVALID_SORT_ORDER);
         }
+        if (sortType != null && !ListCommand.isMatchingSortOrderCount(ListCommand.splitSortValues(sortType),
+                sortOrders)) {
+            throw new ParseException(ListCommand.MESSAGE_MISMATCHED_SORT_ORDER);
+        }
     }
 
     private static void validateSortType(String sortType, String sortOrder) throws ParseException {
@@ -84,7 +95,7 @@ public class ListCommandParser implements Parser<ListCommand> {
             throw new ParseException(MESSAGE_MISSING_SORT_TYPE);
         }
         if (sortType != null) {
-            if (!VALID_SORT_TYPES.contains(sortType.toLowerCase())) {
+            if (!VALID_SORT_TYPES.containsAll(ListCommand.splitSortValues(sortType.toLowerCase()))) {
                 throw new ParseException(ListCommand.MESSAGE_INVALID_SORT);
             }
             if (sortOrder == null) {
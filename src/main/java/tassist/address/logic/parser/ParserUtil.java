@@ -87,7 +87,7 @@ public class ParserUtil {
         if (!Github.isValidGithub(trimmedGithub)) {
             throw new ParseException(Github.MESSAGE_CONSTRAINTS);
         }
-        return new Github(trimmedGithub);
+        return Github.of(trimmedGithub);
     }
 
     /**
@@ -117,7 +117,7 @@ public class ParserUtil {
         if (!ClassNumber.isValidClassNumber(trimmedClassNumber)) {
             throw new ParseException(ClassNumber.MESSAGE_CONSTRAINTS);
         }
-        return new ClassNumber(trimmedClassNumber);
+        return ClassNumber.of(trimmedClassNumber);
     }
 
     /**
@@ -132,7 +132,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -174,7 +174,7 @@ public class ParserUtil {
         if (!ProjectTeam.isValidProjectTeam(trimmedProjectTeam)) {
             throw new ParseException(ProjectTeam.MESSAGE_CONSTRAINTS);
         }
-        return new ProjectTeam(trimmedProjectTeam);
+        return ProjectTeam.of(trimmedProjectTeam);
     }
 
     /**
@@ -189,7 +189,7 @@ public class ParserUtil {
         if (!Repository.isValidRepository(trimmedRepository)) {
             throw new ParseException(Repository.MESSAGE_CONSTRAINTS);
         }
-        return new Repository(trimmedRepository);
+        return Repository.of(trimmedRepository);
     }
 
     /**
@@ -47,7 +47,7 @@ public class RepoCommandParser implements Parser<RepoCommand> {
 
         if (fullRepoUrl != null) {
             try {
-                repository = new Repository(fullRepoUrl);
+                repository = Repository.of(fullRepoUrl);
             } catch (IllegalArgumentException e) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                         RepoCommand.MESSAGE_INVALID_URL), e);
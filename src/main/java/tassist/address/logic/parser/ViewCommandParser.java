@@ -1,5 +1,8 @@
 package tassist.address.logic.parser;
 
+import static tassist.address.logic.parser.CliSyntax.PREFIX_FILTER;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_FILTER_VALUE;
+
 import tassist.address.logic.Messages;
 import tassist.address.logic.commands.ViewCommand;
 import tassist.address.logic.parser.exceptions.ParseException;
@@ -9,16 +12,39 @@ import tassist.address.logic.parser.exceptions.ParseException;
  */
 public class ViewCommandParser implements Parser<ViewCommand> {
 
+    public static final String MESSAGE_MISSING_FILTER_TYPE = "Please specify a filter type to filter the events! "
+            + "Refer to the usage below for how to use the `view` command:\n" + ViewCommand.MESSAGE_USAGE;
+    public static final String MESSAGE_MISSING_FILTER_VALUE = "Please enter filter value. view f/[FILTER TYPE] "
+            + "fv/[FILTER VALUE]";
+
     /**
      * Parses the given {@code String} of arguments in the context of the ViewCommand
      * and returns a ViewCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public ViewCommand parse(String args) throws ParseException {
-        if (!args.trim().isEmpty()) {
+        if (args.trim().isEmpty()) {
+            return new ViewCommand();
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILTER, PREFIX_FILTER_VALUE);
+        if (!argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
                     ViewCommand.COMMAND_WORD));
         }
-        return new ViewCommand();
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILTER, PREFIX_FILTER_VALUE);
+
+        String filterType = argMultimap.getValue(PREFIX_FILTER).orElse(null);
+        String filterValue = argMultimap.getValue(PREFIX_FILTER_VALUE).orElse(null);
+        if (filterType == null) {
+            throw new ParseException(MESSAGE_MISSING_FILTER_TYPE);
+        }
+        if (!ViewCommand.VALID_FILTER_TYPES.contains(filterType.toLowerCase())) {
+            throw new ParseException(ViewCommand.MESSAGE_INVALID_FILTER);
+        }
+        if (filterValue == null && !filterType.equalsIgnoreCase(ViewCommand.FILTER_OVERDUE)) {
+            throw new ParseException(MESSAGE_MISSING_FILTER_VALUE);
+        }
+        return new ViewCommand(filterType, filterValue);
     }
 }
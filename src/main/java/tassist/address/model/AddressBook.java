@@ -1,12 +1,21 @@
 package tassist.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import tassist.address.commons.util.ToStringBuilder;
+import tassist.address.model.person.Email;
+import tassist.address.model.person.Github;
 import tassist.address.model.person.Person;
+import tassist.address.model.person.Phone;
+import tassist.address.model.person.StudentId;
 import tassist.address.model.person.UniquePersonList;
 import tassist.address.model.timedevents.TimedEvent;
 import tassist.address.model.timedevents.UniqueTimedEventList;
@@ -19,6 +28,13 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueTimedEventList timedEvents;
+    private final PersonGroupIndex personsByClassNumber;
+    private final PersonGroupIndex personsByProjectTeam;
+    private final UniqueAttributeIndex uniqueAttributes;
+    private final NameTokenIndex nameTokens;
+    private final AssignmentIndex assignments;
+    private final TimedEventTimeIndex timedEventsByTime;
+    private AddressBookVersions versions;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -30,6 +46,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         timedEvents = new UniqueTimedEventList();
+        personsByClassNumber = new PersonGroupIndex(person -> person.getClassNumber().value);
+        personsByProjectTeam = new PersonGroupIndex(person -> person.getProjectTeam().value);
+        uniqueAttributes = new UniqueAttributeIndex();
+        nameTokens = new NameTokenIndex();
+        assignments = new AssignmentIndex();
+        timedEventsByTime = new TimedEventTimeIndex();
+        versions = new AddressBookVersions();
     }
 
     public AddressBook() {}
@@ -49,7 +72,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        // The classes of the replaced persons change too, as they may be left empty
+        for (Person person : this.persons) {
+            versions.markClassChanged(person.getClassNumber());
+        }
+        replacePersons(persons);
+        persons.forEach(person -> versions.markClassChanged(person.getClassNumber()));
+        versions.markPersonOrderChanged();
+    }
+
+    private void replacePersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        personsByClassNumber.setAll(persons);
+        personsByProjectTeam.setAll(persons);
+        uniqueAttributes.setAll(persons);
+        nameTokens.setAll(persons);
+        assignments.setAll(persons);
     }
 
     /**
@@ -58,15 +96,38 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setTimedEvents(List<TimedEvent> timedEvents) {
         this.timedEvents.setTimedEvents(timedEvents);
+        timedEventsByTime.setAll(timedEvents);
+        versions.markTimedEventsChanged();
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * The versions of {@code newData}, if it has any, are taken over along with its contents.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
         setPersons(newData.getPersonList());
         setTimedEvents(newData.getTimedEventList());
+        newData.getVersions().ifPresent(newVersions -> versions = newVersions.copy());
+    }
+
+    /**
+     * Replaces the contents of this address book with the result of {@code merge}, in a single change to each list.
+     * {@code merge} must have been computed from the current contents of this address book.
+     */
+    public void merge(AddressBookMerge merge) {
+        requireNonNull(merge);
+        // Every inserted, updated or removed person changes its class
+        if (!merge.getChangedClasses().isEmpty()) {
+            replacePersons(merge.getMergedPersons());
+            merge.getChangedClasses().forEach(versions::markClassChanged);
+        }
+        if (merge.hasChangedPersonOrder()) {
+            versions.markPersonOrderChanged();
+        }
+        if (merge.hasNewTimedEvents()) {
+            setTimedEvents(merge.getMergedTimedEvents());
+        }
     }
 
     //// person-level operations
@@ -79,12 +140,67 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in the address book with the given {@code studentId}, if any.
+     */
+    public Optional<Person> findPersonByStudentId(StudentId studentId) {
+        requireNonNull(studentId);
+        return persons.findByStudentId(studentId);
+    }
+
+    /**
+     * Returns the persons in the class {@code classNumber}, compared case-insensitively.
+     */
+    public List<Person> getPersonsInClass(String classNumber) {
+        return personsByClassNumber.get(classNumber);
+    }
+
+    /**
+     * Returns the persons in the project team {@code projectTeam}, compared case-insensitively.
+     */
+    public List<Person> getPersonsInTeam(String projectTeam) {
+        return personsByProjectTeam.get(projectTeam);
+    }
+
+    /**
+     * Returns the student IDs of the persons whose name contains any of {@code keywords}, matched word by word
+     * and ignoring case.
+     */
+    public Set<StudentId> findStudentIdsByNameKeywords(List<String> keywords) {
+        return nameTokens.findMatches(keywords);
+    }
+
+    /**
+     * Returns true if {@code phone} belongs to a person other than the one with {@code studentId}.
+     */
+    public boolean isPhoneTakenByOther(Phone phone, StudentId studentId) {
+        return uniqueAttributes.isPhoneTakenByOther(phone, studentId);
+    }
+
+    /**
+     * Returns true if {@code email} belongs to a person other than the one with {@code studentId}.
+     */
+    public boolean isEmailTakenByOther(Email email, StudentId studentId) {
+        return uniqueAttributes.isEmailTakenByOther(email, studentId);
+    }
+
+    /**
+     * Returns true if {@code github} belongs to a person other than the one with {@code studentId}.
+     * Persons without a GitHub never clash with each other.
+     */
+    public boolean isGithubTakenByOther(Github github, StudentId studentId) {
+        return uniqueAttributes.isGithubTakenByOther(github, studentId);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        addToIndexes(p);
+        versions.markClassChanged(p.getClassNumber());
+        versions.markPersonOrderChanged();
     }
 
     /**
@@ -93,8 +209,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
      */
     public void setPerson(Person target, Person editedPerson) {
+        requireNonNull(target);
         requireNonNull(editedPerson);
+        Optional<Person> storedTarget = persons.findByStudentId(target.getStudentId());
         persons.setPerson(target, editedPerson);
+        storedTarget.ifPresent(this::removeFromIndexes);
+        addToIndexes(editedPerson);
+        storedTarget.ifPresent(person -> versions.markClassChanged(person.getClassNumber()));
+        versions.markClassChanged(editedPerson.getClassNumber());
+        // The order of persons is kept by student ID, so a new student ID changes it
+        if (!target.getStudentId().equals(editedPerson.getStudentId())) {
+            versions.markPersonOrderChanged();
+        }
         // Verify data consistency
         assert hasPerson(editedPerson) : "Edited person should exist in address book";
     }
@@ -104,13 +230,68 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        Optional<Person> storedKey = persons.findByStudentId(key.getStudentId());
         persons.remove(key);
+        storedKey.ifPresent(this::removeFromIndexes);
+        storedKey.ifPresent(person -> versions.markClassChanged(person.getClassNumber()));
+        versions.markPersonOrderChanged();
         // Verify person was removed
         assert !hasPerson(key) : "Person should be removed from address book";
     }
 
+    private void addToIndexes(Person person) {
+        personsByClassNumber.add(person);
+        personsByProjectTeam.add(person);
+        uniqueAttributes.add(person);
+        nameTokens.add(person);
+        assignments.add(person);
+    }
+
+    private void removeFromIndexes(Person person) {
+        personsByClassNumber.remove(person);
+        personsByProjectTeam.remove(person);
+        uniqueAttributes.remove(person);
+        nameTokens.remove(person);
+        assignments.remove(person.getStudentId());
+    }
+
     //// timed event-level operations
 
+    /**
+     * Returns the persons that {@code timedEvent} is assigned to.
+     */
+    public List<Person> getAssignedPersons(TimedEvent timedEvent) {
+        requireNonNull(timedEvent);
+        List<Person> assignedPersons = new ArrayList<>();
+        for (StudentId studentId : assignments.getAssignedStudentIds(timedEvent)) {
+            persons.findByStudentId(studentId).ifPresent(assignedPersons::add);
+        }
+        return assignedPersons;
+    }
+
+    /**
+     * Returns the timed events due from {@code from} (inclusive) to {@code to} (exclusive), in time order.
+     */
+    public List<TimedEvent> getTimedEventsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return timedEventsByTime.getBetween(from, to);
+    }
+
+    /**
+     * Returns every timed event in time order.
+     */
+    public List<TimedEvent> getTimedEventsInTimeOrder() {
+        return timedEventsByTime.getAll();
+    }
+
+    /**
+     * Returns the position of {@code timedEvent} in the timed event list, or -1 if it is not in the address book.
+     */
+    public int indexOfTimedEvent(TimedEvent timedEvent) {
+        requireNonNull(timedEvent);
+        return timedEvents.indexOf(timedEvent);
+    }
+
     /**
      * Returns true if a timed event with the same identity as {@code timedEvent} exists.
      */
@@ -125,6 +306,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTimedEvent(TimedEvent timedEvent) {
         timedEvents.add(timedEvent);
+        timedEventsByTime.add(timedEvent);
+        versions.markTimedEventsChanged();
         // Verify timed event was added
         assert hasTimedEvent(timedEvent) : "Timed event should exist in address book";
     }
@@ -136,10 +319,25 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void removeTimedEvent(TimedEvent timedEvent) {
         requireNonNull(timedEvent);
         timedEvents.remove(timedEvent);
+        timedEventsByTime.remove(timedEvent);
+        versions.markTimedEventsChanged();
         // Verify timed event was removed
         assert !hasTimedEvent(timedEvent) : "Timed event should be removed from address book";
     }
 
+    /**
+     * Returns the number of changes made to the persons and timed events of this address book so far.
+     * Two equal readings mean the address book was not changed in between.
+     */
+    public long getModificationCount() {
+        return persons.getModificationCount() + timedEvents.getModificationCount();
+    }
+
+    @Override
+    public Optional<AddressBookVersions> getVersions() {
+        return Optional.of(versions.copy());
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,135 @@
+package tassist.address.model;
+
+import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import tassist.address.model.person.ClassNumber;
+import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
+import tassist.address.model.timedevents.TimedEvent;
+import tassist.address.model.timedevents.TimedEventIdentity;
+
+/**
+ * The result of merging incoming address book data into an existing address book, matching persons by student ID.
+ *
+ * Incoming persons not in the existing address book are inserted after the existing persons, in their incoming
+ * order. Existing persons are updated in place to the incoming details when these differ. Existing persons that are
+ * not incoming are kept, unless absent persons are to be removed. Incoming timed events are added if no timed event
+ * with the same identity exists. The merge takes time linear in the number of existing and incoming persons.
+ */
+public class AddressBookMerge {
+
+    private final List<Person> mergedPersons;
+    private final List<TimedEvent> mergedTimedEvents;
+    private final Set<ClassNumber> changedClasses = new HashSet<>();
+    private final boolean hasNewTimedEvents;
+    private int insertedCount;
+    private int updatedCount;
+    private int unchangedCount;
+    private int removedCount;
+
+    /**
+     * Merges {@code incoming} into {@code existing}, removing the persons of {@code existing} that are not in
+     * {@code incoming} if {@code removesAbsent}. Neither address book is modified.
+     */
+    public AddressBookMerge(ReadOnlyAddressBook existing, ReadOnlyAddressBook incoming, boolean removesAbsent) {
+        requireAllNonNull(existing, incoming);
+
+        // Persons left in this map once the existing persons have been matched are new
+        Map<StudentId, Person> incomingByStudentId = new LinkedHashMap<>();
+        for (Person person : incoming.getPersonList()) {
+            incomingByStudentId.put(person.getStudentId(), person);
+        }
+
+        mergedPersons = new ArrayList<>(existing.getPersonList().size() + incomingByStudentId.size());
+        for (Person existingPerson : existing.getPersonList()) {
+            Person incomingPerson = incomingByStudentId.remove(existingPerson.getStudentId());
+            if (incomingPerson == null) {
+                if (removesAbsent) {
+                    removedCount++;
+                    changedClasses.add(existingPerson.getClassNumber());
+                } else {
+                    mergedPersons.add(existingPerson);
+                }
+            } else if (existingPerson.hasSameDetails(incomingPerson)) {
+                unchangedCount++;
+                mergedPersons.add(existingPerson);
+            } else {
+                updatedCount++;
+                changedClasses.add(existingPerson.getClassNumber());
+                changedClasses.add(incomingPerson.getClassNumber());
+                mergedPersons.add(incomingPerson);
+            }
+        }
+        for (Person newPerson : incomingByStudentId.values()) {
+            insertedCount++;
+            changedClasses.add(newPerson.getClassNumber());
+            mergedPersons.add(newPerson);
+        }
+
+        mergedTimedEvents = new ArrayList<>(existing.getTimedEventList());
+        Set<TimedEventIdentity> existingIdentities = new HashSet<>();
+        existing.getTimedEventList().forEach(timedEvent -> existingIdentities.add(timedEvent.getIdentity()));
+        for (TimedEvent timedEvent : incoming.getTimedEventList()) {
+            if (existingIdentities.add(timedEvent.getIdentity())) {
+                mergedTimedEvents.add(timedEvent);
+            }
+        }
+        hasNewTimedEvents = mergedTimedEvents.size() > existing.getTimedEventList().size();
+    }
+
+    /**
+     * Returns the persons of the merged address book, in order.
+     */
+    public List<Person> getMergedPersons() {
+        return Collections.unmodifiableList(mergedPersons);
+    }
+
+    /**
+     * Returns the timed events of the merged address book, in order.
+     */
+    public List<TimedEvent> getMergedTimedEvents() {
+        return Collections.unmodifiableList(mergedTimedEvents);
+    }
+
+    /**
+     * Returns the classes whose persons are different in the merged address book.
+     */
+    public Set<ClassNumber> getChangedClasses() {
+        return Collections.unmodifiableSet(changedClasses);
+    }
+
+    /**
+     * Returns true if persons were inserted or removed, which changes the order of the persons.
+     */
+    public boolean hasChangedPersonOrder() {
+        return insertedCount > 0 || removedCount > 0;
+    }
+
+    public boolean hasNewTimedEvents() {
+        return hasNewTimedEvents;
+    }
+
+    public int getInsertedCount() {
+        return insertedCount;
+    }
+
+    public int getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public int getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    public int getRemovedCount() {
+        return removedCount;
+    }
+}
@@ -0,0 +1,58 @@
+package tassist.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import tassist.address.model.person.Person;
+import tassist.address.model.timedevents.TimedEvent;
+
+/**
+ * An unmodifiable copy of an address book, taken so that it can be read on another thread while the original
+ * keeps changing.
+ *
+ * Only the lists are copied. Timed events are immutable, and persons in an address book are replaced rather than
+ * changed in place, so both are shared with the original. Taking a snapshot does not copy any person or rebuild
+ * any of the indexes kept by {@code AddressBook}.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<TimedEvent> timedEvents;
+    private final Optional<AddressBookVersions> versions;
+
+    private AddressBookSnapshot(List<Person> persons, List<TimedEvent> timedEvents,
+            Optional<AddressBookVersions> versions) {
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.timedEvents = FXCollections.unmodifiableObservableList(FXCollections.observableList(timedEvents));
+        this.versions = versions;
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code addressBook}.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return new AddressBookSnapshot(new ArrayList<>(addressBook.getPersonList()),
+                new ArrayList<>(addressBook.getTimedEventList()), addressBook.getVersions());
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<TimedEvent> getTimedEventList() {
+        return timedEvents;
+    }
+
+    @Override
+    public Optional<AddressBookVersions> getVersions() {
+        return versions.map(AddressBookVersions::copy);
+    }
+}
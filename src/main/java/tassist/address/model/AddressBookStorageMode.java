@@ -0,0 +1,15 @@
+package tassist.address.model;
+
+/**
+ * The ways the address book can be kept on disk.
+ */
+public enum AddressBookStorageMode {
+    /** The whole address book is rewritten as one JSON file on every save. */
+    JSON,
+    /** Changes are appended to a journal beside a JSON snapshot, which is rewritten only now and then. */
+    JOURNAL,
+    /** The whole address book is rewritten as one compact binary snapshot beside the JSON file on every save. */
+    BINARY,
+    /** Each class is kept in its own JSON file in a directory beside the JSON file, and only changed ones are saved. */
+    SHARDED
+}
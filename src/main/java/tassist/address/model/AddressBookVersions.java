@@ -0,0 +1,100 @@
+package tassist.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import tassist.address.model.person.ClassNumber;
+
+/**
+ * Versions of the parts of an address book that can be saved on their own: the persons of each class, the order
+ * of all persons, and the timed events.
+ *
+ * Every change to a part gives it a version that no other change, in any address book, is given. So a part with
+ * the same version in two address books has the same contents in both, and storage that remembers the versions it
+ * last saved can tell which parts it needs to write again.
+ */
+public class AddressBookVersions {
+
+    private static final AtomicLong NEXT_VERSION = new AtomicLong(1);
+
+    private final Map<ClassNumber, Long> classVersions;
+    private long personOrderVersion;
+    private long timedEventsVersion;
+
+    /**
+     * Creates versions for an empty address book.
+     */
+    public AddressBookVersions() {
+        classVersions = new HashMap<>();
+        personOrderVersion = nextVersion();
+        timedEventsVersion = nextVersion();
+    }
+
+    private AddressBookVersions(AddressBookVersions toBeCopied) {
+        classVersions = new HashMap<>(toBeCopied.classVersions);
+        personOrderVersion = toBeCopied.personOrderVersion;
+        timedEventsVersion = toBeCopied.timedEventsVersion;
+    }
+
+    private static long nextVersion() {
+        return NEXT_VERSION.getAndIncrement();
+    }
+
+    /**
+     * Returns a copy of these versions that is unaffected by later changes to them.
+     */
+    public AddressBookVersions copy() {
+        return new AddressBookVersions(this);
+    }
+
+    /**
+     * Records that the persons in class {@code classNumber} changed.
+     */
+    void markClassChanged(ClassNumber classNumber) {
+        requireNonNull(classNumber);
+        classVersions.put(classNumber, nextVersion());
+    }
+
+    /**
+     * Records that persons were added to or removed from the person list, which changes their order.
+     */
+    void markPersonOrderChanged() {
+        personOrderVersion = nextVersion();
+    }
+
+    /**
+     * Records that the timed event list changed.
+     */
+    void markTimedEventsChanged() {
+        timedEventsVersion = nextVersion();
+    }
+
+    /**
+     * Returns true if the persons in class {@code classNumber} are the same as in the address book of {@code other}.
+     */
+    public boolean hasSameClass(AddressBookVersions other, ClassNumber classNumber) {
+        requireNonNull(other);
+        requireNonNull(classNumber);
+        Long version = classVersions.get(classNumber);
+        return version != null && version.equals(other.classVersions.get(classNumber));
+    }
+
+    /**
+     * Returns true if the persons are in the same order as in the address book of {@code other}.
+     */
+    public boolean hasSamePersonOrder(AddressBookVersions other) {
+        requireNonNull(other);
+        return personOrderVersion == other.personOrderVersion;
+    }
+
+    /**
+     * Returns true if the timed events are the same as in the address book of {@code other}.
+     */
+    public boolean hasSameTimedEvents(AddressBookVersions other) {
+        requireNonNull(other);
+        return timedEventsVersion == other.timedEventsVersion;
+    }
+}
@@ -0,0 +1,78 @@
+package tassist.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
+import tassist.address.model.timedevents.TimedEvent;
+import tassist.address.model.timedevents.TimedEventIdentity;
+
+/**
+ * A bidirectional index between timed events and the students they are assigned to.
+ *
+ * Timed events are matched by {@code TimedEventIdentity}, as in {@code TimedEvent#isSameTimedEvent(TimedEvent)}.
+ * The events of each student are kept here too, so that {@link #remove(StudentId)} needs only the student ID and
+ * visits only that student's events rather than every event in the index.
+ */
+class AssignmentIndex {
+
+    private final Map<TimedEventIdentity, Set<StudentId>> studentsByEvent = new HashMap<>();
+    private final Map<StudentId, Set<TimedEventIdentity>> eventsByStudent = new HashMap<>();
+
+    /**
+     * Records every timed event currently assigned to {@code person}.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        StudentId studentId = person.getStudentId();
+        for (TimedEvent timedEvent : person.getTimedEvents()) {
+            TimedEventIdentity key = timedEvent.getIdentity();
+            studentsByEvent.computeIfAbsent(key, unused -> new LinkedHashSet<>()).add(studentId);
+            eventsByStudent.computeIfAbsent(studentId, unused -> new LinkedHashSet<>()).add(key);
+        }
+    }
+
+    /**
+     * Forgets every assignment recorded for the student with {@code studentId}.
+     */
+    void remove(StudentId studentId) {
+        requireNonNull(studentId);
+        Set<TimedEventIdentity> keys = eventsByStudent.remove(studentId);
+        if (keys == null) {
+            return;
+        }
+        for (TimedEventIdentity key : keys) {
+            Set<StudentId> students = studentsByEvent.get(key);
+            students.remove(studentId);
+            if (students.isEmpty()) {
+                studentsByEvent.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the assignments of {@code persons}.
+     */
+    void setAll(List<Person> persons) {
+        requireNonNull(persons);
+        studentsByEvent.clear();
+        eventsByStudent.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the student IDs that {@code timedEvent} is assigned to, in the order they were recorded.
+     */
+    Set<StudentId> getAssignedStudentIds(TimedEvent timedEvent) {
+        requireNonNull(timedEvent);
+        Set<StudentId> students = studentsByEvent.get(timedEvent.getIdentity());
+        return students == null ? Collections.emptySet() : Collections.unmodifiableSet(students);
+    }
+}
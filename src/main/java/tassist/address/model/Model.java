@@ -1,12 +1,20 @@
 package tassist.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import tassist.address.commons.core.GuiSettings;
+import tassist.address.model.person.Email;
+import tassist.address.model.person.Github;
 import tassist.address.model.person.Person;
+import tassist.address.model.person.Phone;
+import tassist.address.model.person.StudentId;
 import tassist.address.model.timedevents.TimedEvent;
 
 /**
@@ -53,14 +61,64 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Replaces address book data with the result of {@code merge}, which must have been computed from the current
+     * address book.
+     */
+    void mergeAddressBook(AddressBookMerge merge);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a count that changes whenever the address book is modified, so that callers can tell whether it
+     * has changed since an earlier reading.
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person in the address book with the given {@code studentId}, if any.
+     * The lookup covers the whole address book, not just the filtered person list.
+     */
+    Optional<Person> findPersonByStudentId(StudentId studentId);
+
+    /**
+     * Returns the persons in the address book whose class number matches {@code classNumber}, ignoring case.
+     */
+    List<Person> getPersonsInClass(String classNumber);
+
+    /**
+     * Returns the persons in the address book whose project team matches {@code projectTeam}, ignoring case.
+     */
+    List<Person> getPersonsInTeam(String projectTeam);
+
+    /**
+     * Returns the student IDs of the persons whose name contains any of {@code keywords}, matched word by word
+     * and ignoring case, as by {@link tassist.address.model.person.NameContainsKeywordsPredicate}.
+     */
+    Set<StudentId> findStudentIdsByNameKeywords(List<String> keywords);
+
+    /**
+     * Returns true if {@code phone} belongs to a person in the address book other than {@code owner}.
+     */
+    boolean isPhoneTakenByOther(Phone phone, Person owner);
+
+    /**
+     * Returns true if {@code email} belongs to a person in the address book other than {@code owner}.
+     */
+    boolean isEmailTakenByOther(Email email, Person owner);
+
+    /**
+     * Returns true if {@code github} belongs to a person in the address book other than {@code owner}.
+     * {@code Github.NO_GITHUB} is never considered taken.
+     */
+    boolean isGithubTakenByOther(Github github, Person owner);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -91,6 +149,7 @@ public interface Model {
 
     /**
      * Sort the student list by the given {@code comparator}.
+     * Does not re-sort if an equal comparator is already in use.
      */
     void updateSortedPersonList(Comparator<Person> comparator);
 
@@ -99,6 +158,33 @@ public interface Model {
      */
     boolean hasTimedEvent(TimedEvent timedEvent);
 
+    /**
+     * Returns the persons in the address book that {@code timedEvent} is assigned to.
+     */
+    List<Person> getAssignedPersons(TimedEvent timedEvent);
+
+    /**
+     * Returns the persons in the filtered person list that {@code timedEvent} is assigned to, in the order of the
+     * filtered person list.
+     */
+    List<Person> getFilteredAssignedPersons(TimedEvent timedEvent);
+
+    /**
+     * Returns the timed events due from {@code from} (inclusive) to {@code to} (exclusive), in time order.
+     */
+    List<TimedEvent> getTimedEventsBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns every timed event in the address book in time order.
+     */
+    List<TimedEvent> getTimedEventsInTimeOrder();
+
+    /**
+     * Returns the position of {@code timedEvent} in {@link #getTimedEventList()}, or -1 if it is not in the
+     * address book.
+     */
+    int indexOfTimedEvent(TimedEvent timedEvent);
+
     /**
      * Adds the given timed event.
      * {@code timedEvent} must not already exist.
@@ -4,16 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import tassist.address.commons.core.GuiSettings;
 import tassist.address.commons.core.LogsCenter;
+import tassist.address.model.person.Email;
+import tassist.address.model.person.Github;
 import tassist.address.model.person.Person;
+import tassist.address.model.person.Phone;
+import tassist.address.model.person.StudentId;
 import tassist.address.model.timedevents.TimedEvent;
 
 /**
@@ -91,17 +101,69 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public void mergeAddressBook(AddressBookMerge merge) {
+        addressBook.merge(merge);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Optional<Person> findPersonByStudentId(StudentId studentId) {
+        requireNonNull(studentId);
+        return addressBook.findPersonByStudentId(studentId);
+    }
+
+    @Override
+    public List<Person> getPersonsInClass(String classNumber) {
+        requireNonNull(classNumber);
+        return addressBook.getPersonsInClass(classNumber);
+    }
+
+    @Override
+    public List<Person> getPersonsInTeam(String projectTeam) {
+        requireNonNull(projectTeam);
+        return addressBook.getPersonsInTeam(projectTeam);
+    }
+
+    @Override
+    public Set<StudentId> findStudentIdsByNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findStudentIdsByNameKeywords(keywords);
+    }
+
+    @Override
+    public boolean isPhoneTakenByOther(Phone phone, Person owner) {
+        requireAllNonNull(phone, owner);
+        return addressBook.isPhoneTakenByOther(phone, owner.getStudentId());
+    }
+
+    @Override
+    public boolean isEmailTakenByOther(Email email, Person owner) {
+        requireAllNonNull(email, owner);
+        return addressBook.isEmailTakenByOther(email, owner.getStudentId());
+    }
+
+    @Override
+    public boolean isGithubTakenByOther(Github github, Person owner) {
+        requireAllNonNull(github, owner);
+        return addressBook.isGithubTakenByOther(github, owner.getStudentId());
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -129,6 +191,45 @@ public class ModelManager implements Model {
         return addressBook.hasTimedEvent(timedEvent);
     }
 
+    @Override
+    public List<Person> getAssignedPersons(TimedEvent timedEvent) {
+        requireNonNull(timedEvent);
+        return addressBook.getAssignedPersons(timedEvent);
+    }
+
+    @Override
+    public List<Person> getFilteredAssignedPersons(TimedEvent timedEvent) {
+        requireNonNull(timedEvent);
+        // Only the assigned persons are filtered and sorted, not the whole filtered list
+        Stream<Person> assignedPersons = addressBook.getAssignedPersons(timedEvent).stream();
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        if (predicate != null) {
+            assignedPersons = assignedPersons.filter(predicate);
+        }
+        Comparator<? super Person> comparator = sortedPersons.getComparator();
+        if (comparator != null) {
+            assignedPersons = assignedPersons.sorted(comparator);
+        }
+        return assignedPersons.collect(Collectors.toList());
+    }
+
+    @Override
+    public List<TimedEvent> getTimedEventsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return addressBook.getTimedEventsBetween(from, to);
+    }
+
+    @Override
+    public List<TimedEvent> getTimedEventsInTimeOrder() {
+        return addressBook.getTimedEventsInTimeOrder();
+    }
+
+    @Override
+    public int indexOfTimedEvent(TimedEvent timedEvent) {
+        requireNonNull(timedEvent);
+        return addressBook.indexOfTimedEvent(timedEvent);
+    }
+
     @Override
     public void addTimedEvent(TimedEvent timedEvent) {
         addressBook.addTimedEvent(timedEvent);
@@ -178,6 +279,10 @@ public class ModelManager implements Model {
     @Override
     public void updateSortedPersonList(Comparator<Person> comparator) {
         requireNonNull(comparator);
+        if (comparator.equals(sortedPersons.getComparator())) {
+            // The sorted list already keeps itself in this order as persons are added, edited and removed
+            return;
+        }
         sortedPersons.setComparator(comparator);
         // Verify sorted list state
         assert sortedPersons.getComparator() == comparator : "Sorted list should use the provided comparator";
@@ -0,0 +1,91 @@
+package tassist.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
+
+/**
+ * An inverted index from the lowercase words of each person's name to the student IDs of the persons whose
+ * name contains that word.
+ *
+ * Keyword lookups follow the same rule as {@code StringUtil#containsWordIgnoreCase}: a keyword matches a person
+ * if it is contained in any word of the name, ignoring case. Lookups therefore scan the distinct name words,
+ * which are far fewer than the persons, and union the posting lists of the words that match.
+ */
+class NameTokenIndex {
+
+    private final Map<String, Set<StudentId>> postings = new HashMap<>();
+
+    /**
+     * Adds the words of {@code person}'s name to the index.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person)) {
+            postings.computeIfAbsent(token, key -> new HashSet<>()).add(person.getStudentId());
+        }
+    }
+
+    /**
+     * Removes the words of {@code person}'s name from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person)) {
+            Set<StudentId> posting = postings.get(token);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(person.getStudentId());
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the names of {@code persons}.
+     */
+    void setAll(List<Person> persons) {
+        requireNonNull(persons);
+        postings.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the student IDs of the persons whose name matches any of {@code keywords}.
+     */
+    Set<StudentId> findMatches(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<StudentId> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            String preppedKeyword = keyword.trim().toLowerCase();
+            if (preppedKeyword.isEmpty()) {
+                continue;
+            }
+            postings.forEach((token, posting) -> {
+                if (token.contains(preppedKeyword)) {
+                    matches.addAll(posting);
+                }
+            });
+        }
+        return matches;
+    }
+
+    private static Set<String> tokenize(Person person) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : person.getName().value.split("\\s+")) {
+            if (!word.isEmpty()) {
+                tokens.add(word.toLowerCase());
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,82 @@
+package tassist.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
+
+/**
+ * A multimap from a case-insensitive attribute value (e.g. class number or project team) to the persons
+ * holding that value. Within a group, persons are kept in insertion order and keyed by {@code StudentId}.
+ *
+ * The index does not observe the persons it holds; the owner must call {@link #add(Person)} and
+ * {@link #remove(Person)} whenever the underlying person list changes.
+ */
+class PersonGroupIndex {
+
+    private final Function<Person, String> keyExtractor;
+    private final Map<String, Map<StudentId, Person>> groups = new HashMap<>();
+
+    /**
+     * Creates an empty index that groups persons by the value returned by {@code keyExtractor}.
+     */
+    PersonGroupIndex(Function<Person, String> keyExtractor) {
+        requireNonNull(keyExtractor);
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Adds {@code person} to the group of its key, replacing any person in that group with the same student ID.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        groups.computeIfAbsent(keyOf(person), key -> new LinkedHashMap<>())
+                .put(person.getStudentId(), person);
+    }
+
+    /**
+     * Removes {@code person} from the group of its key, if present.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        String key = keyOf(person);
+        Map<StudentId, Person> group = groups.get(key);
+        if (group == null) {
+            return;
+        }
+        group.remove(person.getStudentId());
+        if (group.isEmpty()) {
+            groups.remove(key);
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    void setAll(List<Person> persons) {
+        requireNonNull(persons);
+        groups.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose key matches {@code value}, ignoring case.
+     */
+    List<Person> get(String value) {
+        requireNonNull(value);
+        Map<StudentId, Person> group = groups.get(value.toLowerCase());
+        return group == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(group.values()));
+    }
+
+    private String keyOf(Person person) {
+        return keyExtractor.apply(person).toLowerCase();
+    }
+}
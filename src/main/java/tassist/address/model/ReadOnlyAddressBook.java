@@ -1,5 +1,7 @@
 package tassist.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import tassist.address.model.person.Person;
 import tassist.address.model.timedevents.TimedEvent;
@@ -21,4 +23,12 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<TimedEvent> getTimedEventList();
 
+    /**
+     * Returns the versions of the separately saved parts of this address book, or an empty {@code Optional} if
+     * they are not tracked, in which case every part must be treated as changed.
+     */
+    default Optional<AddressBookVersions> getVersions() {
+        return Optional.empty();
+    }
+
 }
@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    AddressBookStorageMode getAddressBookStorageMode();
+
+    boolean isAddressBookPrettyPrinted();
+
+    boolean isAddressBookCompressed();
+
 }
@@ -0,0 +1,78 @@
+package tassist.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import tassist.address.model.timedevents.TimedEvent;
+
+/**
+ * A navigable index of timed events ordered by {@code TimedEvent#getTime()}.
+ * Events due at the same time are kept in insertion order.
+ */
+class TimedEventTimeIndex {
+
+    private final NavigableMap<LocalDateTime, List<TimedEvent>> eventsByTime = new TreeMap<>();
+
+    /**
+     * Adds {@code timedEvent} to the index.
+     */
+    void add(TimedEvent timedEvent) {
+        requireNonNull(timedEvent);
+        eventsByTime.computeIfAbsent(timedEvent.getTime(), time -> new ArrayList<>()).add(timedEvent);
+    }
+
+    /**
+     * Removes the timed event with the same identity as {@code timedEvent}, if present.
+     */
+    void remove(TimedEvent timedEvent) {
+        requireNonNull(timedEvent);
+        List<TimedEvent> eventsAtTime = eventsByTime.get(timedEvent.getTime());
+        if (eventsAtTime == null) {
+            return;
+        }
+        eventsAtTime.removeIf(timedEvent::isSameTimedEvent);
+        if (eventsAtTime.isEmpty()) {
+            eventsByTime.remove(timedEvent.getTime());
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code timedEvents}.
+     */
+    void setAll(List<TimedEvent> timedEvents) {
+        requireNonNull(timedEvents);
+        eventsByTime.clear();
+        timedEvents.forEach(this::add);
+    }
+
+    /**
+     * Returns the timed events due from {@code from} (inclusive) to {@code to} (exclusive), in time order.
+     */
+    List<TimedEvent> getBetween(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        if (!from.isBefore(to)) {
+            return new ArrayList<>();
+        }
+        return flatten(eventsByTime.subMap(from, true, to, false));
+    }
+
+    /**
+     * Returns every timed event in time order.
+     */
+    List<TimedEvent> getAll() {
+        return flatten(eventsByTime);
+    }
+
+    private static List<TimedEvent> flatten(Map<LocalDateTime, List<TimedEvent>> eventsByTime) {
+        List<TimedEvent> timedEvents = new ArrayList<>();
+        eventsByTime.values().forEach(timedEvents::addAll);
+        return timedEvents;
+    }
+}
@@ -0,0 +1,122 @@
+package tassist.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import tassist.address.model.person.Email;
+import tassist.address.model.person.Github;
+import tassist.address.model.person.Person;
+import tassist.address.model.person.Phone;
+import tassist.address.model.person.StudentId;
+
+/**
+ * Indexes the phone, email and GitHub values of a set of persons so that a value already held by another
+ * student can be detected in constant time. Persons are identified by their {@code StudentId}.
+ *
+ * The {@link Github#NO_GITHUB} placeholder is never indexed, since any number of students may have no GitHub.
+ */
+public class UniqueAttributeIndex {
+
+    private final Map<Phone, Set<StudentId>> phoneOwners = new HashMap<>();
+    private final Map<Email, Set<StudentId>> emailOwners = new HashMap<>();
+    private final Map<Github, Set<StudentId>> githubOwners = new HashMap<>();
+
+    /**
+     * Records the phone, email and GitHub of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        addOwner(phoneOwners, person.getPhone(), person.getStudentId());
+        addOwner(emailOwners, person.getEmail(), person.getStudentId());
+        if (!isPlaceholder(person.getGithub())) {
+            addOwner(githubOwners, person.getGithub(), person.getStudentId());
+        }
+    }
+
+    /**
+     * Forgets the phone, email and GitHub of {@code person}.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        removeOwner(phoneOwners, person.getPhone(), person.getStudentId());
+        removeOwner(emailOwners, person.getEmail(), person.getStudentId());
+        removeOwner(githubOwners, person.getGithub(), person.getStudentId());
+    }
+
+    /**
+     * Replaces the contents of this index with the attributes of {@code persons}.
+     */
+    public void setAll(List<Person> persons) {
+        requireNonNull(persons);
+        phoneOwners.clear();
+        emailOwners.clear();
+        githubOwners.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns true if {@code phone} belongs to a student other than {@code owner}.
+     */
+    public boolean isPhoneTakenByOther(Phone phone, StudentId owner) {
+        requireNonNull(phone);
+        return isTakenByOther(phoneOwners, phone, owner);
+    }
+
+    /**
+     * Returns true if {@code email} belongs to a student other than {@code owner}.
+     */
+    public boolean isEmailTakenByOther(Email email, StudentId owner) {
+        requireNonNull(email);
+        return isTakenByOther(emailOwners, email, owner);
+    }
+
+    /**
+     * Returns true if {@code github} belongs to a student other than {@code owner}.
+     * Always false for {@link Github#NO_GITHUB}.
+     */
+    public boolean isGithubTakenByOther(Github github, StudentId owner) {
+        requireNonNull(github);
+        return !isPlaceholder(github) && isTakenByOther(githubOwners, github, owner);
+    }
+
+    /**
+     * Returns true if any of the phone, email or GitHub of {@code person} belongs to another student.
+     */
+    public boolean hasConflict(Person person) {
+        requireNonNull(person);
+        StudentId owner = person.getStudentId();
+        return isPhoneTakenByOther(person.getPhone(), owner)
+                || isEmailTakenByOther(person.getEmail(), owner)
+                || isGithubTakenByOther(person.getGithub(), owner);
+    }
+
+    private static boolean isPlaceholder(Github github) {
+        return github.value.equals(Github.NO_GITHUB);
+    }
+
+    private static <T> void addOwner(Map<T, Set<StudentId>> owners, T value, StudentId owner) {
+        owners.computeIfAbsent(value, key -> new HashSet<>()).add(owner);
+    }
+
+    private static <T> void removeOwner(Map<T, Set<StudentId>> owners, T value, StudentId owner) {
+        Set<StudentId> valueOwners = owners.get(value);
+        if (valueOwners == null) {
+            return;
+        }
+        valueOwners.remove(owner);
+        if (valueOwners.isEmpty()) {
+            owners.remove(value);
+        }
+    }
+
+    private static <T> boolean isTakenByOther(Map<T, Set<StudentId>> owners, T value, StudentId owner) {
+        requireNonNull(owner);
+        Set<StudentId> valueOwners = owners.get(value);
+        return valueOwners != null && (valueOwners.size() > 1 || !valueOwners.contains(owner));
+    }
+}
@@ -15,6 +15,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private AddressBookStorageMode addressBookStorageMode = AddressBookStorageMode.JSON;
+    private boolean isAddressBookPrettyPrinted = true;
+    private boolean isAddressBookCompressed = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookStorageMode(newUserPrefs.getAddressBookStorageMode());
+        setAddressBookPrettyPrinted(newUserPrefs.isAddressBookPrettyPrinted());
+        setAddressBookCompressed(newUserPrefs.isAddressBookCompressed());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,31 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookStorageMode getAddressBookStorageMode() {
+        return addressBookStorageMode;
+    }
+
+    public void setAddressBookStorageMode(AddressBookStorageMode addressBookStorageMode) {
+        requireNonNull(addressBookStorageMode);
+        this.addressBookStorageMode = addressBookStorageMode;
+    }
+
+    public boolean isAddressBookPrettyPrinted() {
+        return isAddressBookPrettyPrinted;
+    }
+
+    public void setAddressBookPrettyPrinted(boolean isAddressBookPrettyPrinted) {
+        this.isAddressBookPrettyPrinted = isAddressBookPrettyPrinted;
+    }
+
+    public boolean isAddressBookCompressed() {
+        return isAddressBookCompressed;
+    }
+
+    public void setAddressBookCompressed(boolean isAddressBookCompressed) {
+        this.isAddressBookCompressed = isAddressBookCompressed;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +100,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookStorageMode == otherUserPrefs.addressBookStorageMode
+                && isAddressBookPrettyPrinted == otherUserPrefs.isAddressBookPrettyPrinted
+                && isAddressBookCompressed == otherUserPrefs.isAddressBookCompressed;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookStorageMode, isAddressBookPrettyPrinted,
+                isAddressBookCompressed);
     }
 
     @Override
@@ -3,6 +3,8 @@ package tassist.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static tassist.address.commons.util.AppUtil.checkArgument;
 
+import tassist.address.commons.util.Interner;
+
 /**
  * Represents a Student's tutorial class number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidClassNumber(String)}
@@ -17,7 +19,10 @@ public class ClassNumber {
             + "a capital letter suffix (e.g. L01A).";
     public static final String VALIDATION_REGEX = "^(?:(T|R)(0[1-9]|[1-9][0-9])|(L)(0[1-9]|[1-9][0-9])([A-Z])?)$";
     public static final String DEFAULT_CLASS = "No tutorial assigned";
+    private static final Interner<ClassNumber> INTERNER = new Interner<>(ClassNumber::new);
+
     public final String value;
+    private final String sortKey;
 
     /**
      * Constructs a {@code ClassNumber}.
@@ -28,6 +33,18 @@ public class ClassNumber {
         requireNonNull(classNumber);
         checkArgument(isValidClassNumber(classNumber), MESSAGE_CONSTRAINTS);
         value = classNumber;
+        sortKey = classNumber.toLowerCase();
+    }
+
+    /**
+     * Returns the shared {@code ClassNumber} for {@code classNumber}, creating it if needed.
+     * Prefer this over the constructor, so that persons with the same class number share one instance.
+     *
+     * @param classNumber A valid class number.
+     */
+    public static ClassNumber of(String classNumber) {
+        requireNonNull(classNumber);
+        return INTERNER.intern(classNumber);
     }
 
     /**
@@ -37,6 +54,13 @@ public class ClassNumber {
         return test.matches(DEFAULT_CLASS) || test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the precomputed lowercase form of this class number, used to sort without allocating.
+     */
+    public String getSortKey() {
+        return sortKey;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -29,11 +29,26 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, true);
+    }
+
+    private Email(String email, boolean isChecked) {
         requireNonNull(email);
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        }
         value = email;
     }
 
+    /**
+     * Returns an {@code Email} for {@code email} already known to be valid, without checking it again.
+     *
+     * @param email A valid email address.
+     */
+    public static Email ofTrusted(String email) {
+        return new Email(email, false);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
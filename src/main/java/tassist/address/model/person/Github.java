@@ -28,7 +28,12 @@ public class Github {
     private static final String GITHUB_URL_REGEX = "^https://github\\.com/";
     private static final String USERNAME_REGEX = "(?=.{1,39}$)[a-zA-Z0-9]+(-[a-zA-Z0-9]+)*";
     public static final String VALIDATION_REGEX = GITHUB_URL_REGEX + USERNAME_REGEX + "$";
+
+    /** The shared value used by every person without a GitHub link. */
+    private static final Github NO_GITHUB_VALUE = new Github(NO_GITHUB);
+
     public final String value;
+    private final String sortKey;
 
     /**
      * Constructs an {@code Github}.
@@ -36,12 +41,40 @@ public class Github {
      * @param github A valid Github.
      */
     public Github(String github) {
+        this(github, true);
+    }
+
+    private Github(String github, boolean isChecked) {
         requireNonNull(github);
-        checkArgument(isValidGithub(github), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidGithub(github), MESSAGE_CONSTRAINTS);
+        }
         value = github;
+        sortKey = github.toLowerCase();
     }
 
 
+    /**
+     * Returns a {@code Github} for {@code github}.
+     * Every person without one shares a single {@code NO_GITHUB} placeholder instance.
+     *
+     * @param github A valid Github.
+     */
+    public static Github of(String github) {
+        requireNonNull(github);
+        return NO_GITHUB.equals(github) ? NO_GITHUB_VALUE : new Github(github);
+    }
+
+    /**
+     * Similar to {@link #of(String)}, but skips checking {@code github}, which must already be known to be valid.
+     *
+     * @param github A valid Github.
+     */
+    public static Github ofTrusted(String github) {
+        requireNonNull(github);
+        return NO_GITHUB.equals(github) ? NO_GITHUB_VALUE : new Github(github, false);
+    }
+
     /**
      * Returns true if a given string is a valid Github link.
      */
@@ -49,6 +82,13 @@ public class Github {
         return test.matches(VALIDATION_REGEX) || test.matches(NO_GITHUB);
     }
 
+    /**
+     * Returns the precomputed lowercase form of this GitHub link, used to sort without allocating.
+     */
+    public String getSortKey() {
+        return sortKey;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -3,6 +3,9 @@ package tassist.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static tassist.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+import java.text.Collator;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,7 +21,18 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[a-zA-Z][a-zA-Z ]*";
 
+    /**
+     * Orders names for the current locale, ignoring case. Collators are not thread-safe, so each thread has its own,
+     * which lets names be created on several threads at once.
+     */
+    private static final ThreadLocal<Collator> COLLATOR = ThreadLocal.withInitial(() -> {
+        Collator collator = Collator.getInstance();
+        collator.setStrength(Collator.SECONDARY);
+        return collator;
+    });
+
     public final String value;
+    private final CollationKey sortKey;
 
     /**
      * Constructs a {@code Name}.
@@ -26,10 +40,29 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, true);
+    }
+
+    private Name(String name, boolean isChecked) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        }
         value = name;
+        sortKey = toCollationKey(name);
+    }
 
+    /**
+     * Returns a {@code Name} for {@code name} already known to be valid, without checking it again.
+     *
+     * @param name A valid name.
+     */
+    public static Name ofTrusted(String name) {
+        return new Name(name, false);
+    }
+
+    private static CollationKey toCollationKey(String name) {
+        return COLLATOR.get().getCollationKey(name);
     }
 
     /**
@@ -39,6 +72,12 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the precomputed key that orders this name case-insensitively for the current locale.
+     */
+    public CollationKey getSortKey() {
+        return sortKey;
+    }
 
     @Override
     public String toString() {
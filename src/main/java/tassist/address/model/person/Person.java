@@ -155,6 +155,8 @@ public class Person {
     /**
      * Adds a timed event to the person's list.
      * The timed event must not already exist in the list.
+     * A person already in an address book must not be changed this way, as snapshots of the address book share it;
+     * replace it with a changed {@link #copy()} instead.
      */
     public void addTimedEvent(TimedEvent timedEvent) {
         timedEvents.add(timedEvent);
@@ -163,6 +165,7 @@ public class Person {
     /**
      * Removes a timed event from the person's list.
      * The timed event must exist in the list.
+     * As with {@link #addTimedEvent}, a person already in an address book must not be changed this way.
      */
     public void removeTimedEvent(TimedEvent timedEvent) {
         timedEvents.remove(timedEvent);
@@ -175,6 +178,40 @@ public class Person {
         return timedEvents.contains(timedEvent);
     }
 
+    /**
+     * Returns a copy of this person with its own timed event list, which is unaffected by later
+     * changes to this person's timed events.
+     */
+    public Person copy() {
+        UniqueTimedEventList copiedTimedEvents = new UniqueTimedEventList();
+        copiedTimedEvents.setTimedEvents(timedEvents);
+        return new Person(name, phone, email, classNumber, studentId, github, projectTeam, repository, tags,
+                progress, copiedTimedEvents);
+    }
+
+    /**
+     * Returns true if both persons have the same data fields and timed events.
+     * This defines a stronger notion of equality than {@link #equals(Object)}, which only compares student IDs.
+     */
+    public boolean hasSameDetails(Person otherPerson) {
+        if (otherPerson == this) {
+            return true;
+        }
+
+        return otherPerson != null
+                && name.equals(otherPerson.name)
+                && phone.equals(otherPerson.phone)
+                && email.equals(otherPerson.email)
+                && classNumber.equals(otherPerson.classNumber)
+                && studentId.equals(otherPerson.studentId)
+                && github.equals(otherPerson.github)
+                && projectTeam.equals(otherPerson.projectTeam)
+                && repository.equals(otherPerson.repository)
+                && tags.equals(otherPerson.tags)
+                && progress.equals(otherPerson.progress)
+                && timedEvents.equals(otherPerson.timedEvents);
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -0,0 +1,110 @@
+package tassist.address.model.person;
+
+import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Orders {@code Person}s by one or more sort fields, each ascending or descending.
+ * Later fields only break ties left by earlier ones.
+ *
+ * Comparisons read the sort keys precomputed by each field's value object, so sorting does not allocate.
+ * Two comparators with the same fields and orders are equal, which lets the model tell when a requested
+ * sort is already in place.
+ */
+public class PersonComparator implements Comparator<Person> {
+
+    /**
+     * A field that persons can be sorted by.
+     */
+    public enum SortField {
+        NAME("name", Comparator.comparing(person -> person.getName().getSortKey())),
+        PROGRESS("progress", Comparator.comparingInt(person -> person.getProgress().value)),
+        GITHUB("github", Comparator.comparing(person -> person.getGithub().getSortKey())),
+        CLASS("class", Comparator.comparing(person -> person.getClassNumber().getSortKey())),
+        TEAM("team", Comparator.comparing(person -> person.getProjectTeam().getSortKey()));
+
+        private final String keyword;
+        private final Comparator<Person> comparator;
+
+        SortField(String keyword, Comparator<Person> comparator) {
+            this.keyword = keyword;
+            this.comparator = comparator;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        /**
+         * Returns the sort field with the given {@code keyword}, ignoring case, or null if there is none.
+         */
+        public static SortField fromKeyword(String keyword) {
+            return Arrays.stream(values())
+                    .filter(field -> field.keyword.equalsIgnoreCase(keyword.trim()))
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+
+    private final List<SortField> fields;
+    private final List<Boolean> ascending;
+
+    /**
+     * Creates a comparator that sorts by {@code fields} in turn, where {@code ascending.get(i)} gives the
+     * order of {@code fields.get(i)}. Both lists must be non-empty and of the same size.
+     */
+    public PersonComparator(List<SortField> fields, List<Boolean> ascending) {
+        requireAllNonNull(fields, ascending);
+        if (fields.isEmpty() || fields.size() != ascending.size()) {
+            throw new IllegalArgumentException("Each sort field needs exactly one sort order.");
+        }
+        this.fields = new ArrayList<>(fields);
+        this.ascending = new ArrayList<>(ascending);
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        for (int i = 0; i < fields.size(); i++) {
+            int result = fields.get(i).comparator.compare(first, second);
+            if (result != 0) {
+                return ascending.get(i) ? result : -result;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonComparator)) {
+            return false;
+        }
+
+        PersonComparator otherComparator = (PersonComparator) other;
+        return fields.equals(otherComparator.fields) && ascending.equals(otherComparator.ascending);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fields, ascending);
+    }
+
+    @Override
+    public String toString() {
+        List<String> parts = new ArrayList<>();
+        for (int i = 0; i < fields.size(); i++) {
+            parts.add(fields.get(i).keyword + " " + (ascending.get(i) ? "asc" : "des"));
+        }
+        return parts.stream().collect(Collectors.joining(", ", "PersonComparator{", "}"));
+    }
+}
@@ -21,11 +21,26 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, true);
+    }
+
+    private Phone(String phone, boolean isChecked) {
         requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        }
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} for {@code phone} already known to be valid, without checking it again.
+     *
+     * @param phone A valid phone number.
+     */
+    public static Phone ofTrusted(String phone) {
+        return new Phone(phone, false);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
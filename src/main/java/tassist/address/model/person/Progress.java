@@ -26,6 +26,18 @@ public class Progress {
         this.value = Integer.parseInt(progressValue);
     }
 
+    private Progress(int value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns a {@code Progress} of {@code value} percent, already known to be between 0 and 100, without checking
+     * it again.
+     */
+    public static Progress ofTrusted(int value) {
+        return new Progress(value);
+    }
+
     /**
      * Returns a boolean, showing whether the progress value is between 0 and 100.
      *
@@ -3,6 +3,8 @@ package tassist.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static tassist.address.commons.util.AppUtil.checkArgument;
 
+import tassist.address.commons.util.Interner;
+
 /**
  * Represents a student's Project Team in TAssist.
  */
@@ -17,7 +19,10 @@ public class ProjectTeam {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<ProjectTeam> INTERNER = new Interner<>(ProjectTeam::new);
+
     public final String value;
+    private final String sortKey;
 
     /**
      * Constructs an {@code ProjectTeam}.
@@ -28,6 +33,18 @@ public class ProjectTeam {
         requireNonNull(projectTeam);
         checkArgument(isValidProjectTeam(projectTeam), MESSAGE_CONSTRAINTS);
         value = projectTeam;
+        sortKey = projectTeam.toLowerCase();
+    }
+
+    /**
+     * Returns the shared {@code ProjectTeam} for {@code projectTeam}, creating it if needed.
+     * Prefer this over the constructor, so that persons with the same project team share one instance.
+     *
+     * @param projectTeam A valid project team.
+     */
+    public static ProjectTeam of(String projectTeam) {
+        requireNonNull(projectTeam);
+        return INTERNER.intern(projectTeam);
     }
 
     /**
@@ -37,6 +54,13 @@ public class ProjectTeam {
         return test.matches(VALIDATION_REGEX) || test.matches(NO_PROJECT_TEAM);
     }
 
+    /**
+     * Returns the precomputed lowercase form of this project team, used to sort without allocating.
+     */
+    public String getSortKey() {
+        return sortKey;
+    }
+
     @Override
     public String toString() {
         return this.value;
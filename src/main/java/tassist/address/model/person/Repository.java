@@ -38,6 +38,9 @@ public class Repository {
             + "/" + VALID_REPOSITORY_REGEX + "$";
     public static final String NO_REPOSITORY = "No Repository";
 
+    /** The shared value used by every person without a repository. */
+    private static final Repository NO_REPOSITORY_VALUE = new Repository(NO_REPOSITORY);
+
     public final String value;
 
     /**
@@ -46,8 +49,14 @@ public class Repository {
      * @param repository A valid repository.
      */
     public Repository(String repository) {
+        this(repository, true);
+    }
+
+    private Repository(String repository, boolean isChecked) {
         requireNonNull(repository);
-        checkArgument(isValidRepository(repository), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidRepository(repository), MESSAGE_CONSTRAINTS);
+        }
         value = repository;
     }
 
@@ -66,6 +75,27 @@ public class Repository {
     }
 
 
+    /**
+     * Returns a {@code Repository} for {@code repository}.
+     * Every person without one shares a single {@code NO_REPOSITORY} placeholder instance.
+     *
+     * @param repository A valid repository.
+     */
+    public static Repository of(String repository) {
+        requireNonNull(repository);
+        return NO_REPOSITORY.equals(repository) ? NO_REPOSITORY_VALUE : new Repository(repository);
+    }
+
+    /**
+     * Similar to {@link #of(String)}, but skips checking {@code repository}, which must already be known to be valid.
+     *
+     * @param repository A valid repository.
+     */
+    public static Repository ofTrusted(String repository) {
+        requireNonNull(repository);
+        return NO_REPOSITORY.equals(repository) ? NO_REPOSITORY_VALUE : new Repository(repository, false);
+    }
+
     /**
      * Returns true if a given string is a valid repository link.
      */
@@ -25,11 +25,26 @@ public class StudentId {
      * @param studentId A valid studentId.
      */
     public StudentId(String studentId) {
+        this(studentId, true);
+    }
+
+    private StudentId(String studentId, boolean isChecked) {
         requireNonNull(studentId);
-        checkArgument(isValidStudentId(studentId), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidStudentId(studentId), MESSAGE_CONSTRAINTS);
+        }
         value = studentId;
     }
 
+    /**
+     * Returns a {@code StudentId} for {@code studentId} already known to be valid, without checking it again.
+     *
+     * @param studentId A valid studentId.
+     */
+    public static StudentId ofTrusted(String studentId) {
+        return new StudentId(studentId, false);
+    }
+
     /**
      * Returns if a given string is a valid studentId.
      */
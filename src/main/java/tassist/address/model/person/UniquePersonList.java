@@ -3,8 +3,11 @@ package tassist.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +21,9 @@ import tassist.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are also indexed by {@code StudentId}, the identity field used by {@code Person#isSamePerson(Person)},
+ * so that identity lookups do not need to scan the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +33,23 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<StudentId, Person> personsByStudentId = new HashMap<>();
+    private long modificationCount = 0;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByStudentId.containsKey(toCheck.getStudentId());
+    }
+
+    /**
+     * Returns the person in the list with the given {@code studentId}, if any.
+     */
+    public Optional<Person> findByStudentId(StudentId studentId) {
+        requireNonNull(studentId);
+        return Optional.ofNullable(personsByStudentId.get(studentId));
     }
 
     /**
@@ -46,9 +62,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        modificationCount++;
+        personsByStudentId.put(toAdd.getStudentId(), toAdd);
         // Verify list invariants
-        assert !internalList.contains(null) : "List should not contain null elements";
-        assert personsAreUnique(internalList) : "List should not contain duplicate persons";
+        assert personsByStudentId.size() == internalList.size() : "Index should match the list";
     }
 
     /**
@@ -69,9 +86,11 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        modificationCount++;
+        personsByStudentId.remove(target.getStudentId());
+        personsByStudentId.put(editedPerson.getStudentId(), editedPerson);
         // Verify list invariants after modification
-        assert !internalList.contains(null) : "List should not contain null elements";
-        assert personsAreUnique(internalList) : "List should not contain duplicate persons";
+        assert personsByStudentId.size() == internalList.size() : "Index should match the list";
     }
 
     /**
@@ -83,14 +102,18 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        modificationCount++;
+        personsByStudentId.remove(toRemove.getStudentId());
         // Verify list invariants after removal
-        assert !internalList.contains(null) : "List should not contain null elements";
-        assert personsAreUnique(internalList) : "List should not contain duplicate persons";
+        assert personsByStudentId.size() == internalList.size() : "Index should match the list";
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        personsByStudentId.clear();
+        personsByStudentId.putAll(replacement.personsByStudentId);
         internalList.setAll(replacement.internalList);
+        modificationCount++;
     }
 
     /**
@@ -99,14 +122,19 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<StudentId, Person> replacementIndex = new HashMap<>();
+        for (Person person : persons) {
+            if (replacementIndex.put(person.getStudentId(), person) != null) {
+                throw new DuplicatePersonException();
+            }
         }
 
+        personsByStudentId.clear();
+        personsByStudentId.putAll(replacementIndex);
         internalList.setAll(persons);
+        modificationCount++;
         // Verify list invariants after setting all persons
-        assert !internalList.contains(null) : "List should not contain null elements";
-        assert personsAreUnique(internalList) : "List should not contain duplicate persons";
+        assert personsByStudentId.size() == internalList.size() : "Index should match the list";
     }
 
     /**
@@ -116,6 +144,14 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the number of changes made to this list so far.
+     * The count only grows, so callers can compare two readings to tell whether the list was changed in between.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -145,18 +181,4 @@ public class UniquePersonList implements Iterable<Person> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -3,6 +3,8 @@ package tassist.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static tassist.address.commons.util.AppUtil.checkArgument;
 
+import tassist.address.commons.util.Interner;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +14,8 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Interner<Tag> INTERNER = new Interner<>(Tag::new);
+
     public final String tagName;
 
     /**
@@ -25,6 +29,17 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} for {@code tagName}, creating it if needed.
+     * Prefer this over the constructor, so that persons with the same tag name share one instance.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        return INTERNER.intern(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -20,6 +20,7 @@ public abstract class TimedEvent {
     private final String name;
     private final String description;
     private final LocalDateTime time;
+    private final TimedEventIdentity identity;
 
     /**
      * Every field must be present and not null.
@@ -36,6 +37,7 @@ public abstract class TimedEvent {
         this.name = name;
         this.description = description;
         this.time = time;
+        this.identity = new TimedEventIdentity(name, time);
     }
 
     public String getName() {
@@ -50,6 +52,13 @@ public abstract class TimedEvent {
         return time;
     }
 
+    /**
+     * Returns the identity of this timed event, as used by {@link #isSameTimedEvent(TimedEvent)}.
+     */
+    public TimedEventIdentity getIdentity() {
+        return identity;
+    }
+
     public static List<String> getAttributes() {
         List<String> attributes = new ArrayList<>();
         attributes.add("name");
@@ -125,8 +134,7 @@ public abstract class TimedEvent {
         }
 
         return otherTimedEvent != null
-                && otherTimedEvent.getName().equalsIgnoreCase(getName())
-                && otherTimedEvent.getTime().equals(getTime());
+                && otherTimedEvent.getIdentity().equals(getIdentity());
     }
 
     /**
@@ -151,8 +159,8 @@ public abstract class TimedEvent {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return toString().hashCode();
+        // events equal by equals() share a name and time, hence an identity; its hash is precomputed
+        return identity.hashCode();
     }
 
     @Override
@@ -0,0 +1,67 @@
+package tassist.address.model.timedevents;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * The identity of a {@code TimedEvent}: its case-folded name and its time.
+ * Two timed events have equal identities exactly when {@link TimedEvent#isSameTimedEvent(TimedEvent)} holds.
+ * The hash code is computed once on construction, so hashing an identity never allocates.
+ */
+public final class TimedEventIdentity {
+
+    private final String foldedName;
+    private final LocalDateTime time;
+    private final int hash;
+
+    /**
+     * Creates the identity of a timed event with the given {@code name} and {@code time}.
+     */
+    public TimedEventIdentity(String name, LocalDateTime time) {
+        requireNonNull(name);
+        requireNonNull(time);
+        this.foldedName = fold(name);
+        this.time = time;
+        this.hash = 31 * foldedName.hashCode() + time.hashCode();
+    }
+
+    /**
+     * Folds {@code name} the same way {@link String#equalsIgnoreCase(String)} compares characters,
+     * so that two names are equal ignoring case exactly when their folded forms are equal.
+     */
+    private static String fold(String name) {
+        StringBuilder folded = new StringBuilder(name.length());
+        name.codePoints()
+                .map(codePoint -> Character.toLowerCase(Character.toUpperCase(codePoint)))
+                .forEach(folded::appendCodePoint);
+        return folded.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TimedEventIdentity)) {
+            return false;
+        }
+
+        TimedEventIdentity otherIdentity = (TimedEventIdentity) other;
+        return hash == otherIdentity.hash
+                && foldedName.equals(otherIdentity.foldedName)
+                && time.equals(otherIdentity.time);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return foldedName + "@" + time;
+    }
+}
@@ -2,8 +2,10 @@ package tassist.address.model.timedevents;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -16,6 +18,9 @@ import tassist.address.model.timedevents.exceptions.TimedEventNotFoundException;
  * As such, adding and updating of timed events uses TimedEvent#isSameTimedEvent(TimedEvent) for equality
  * so as to ensure that the timed event with exactly the same fields (name and time) cannot exist in the list.
  *
+ * The position of each timed event is also indexed by its {@code TimedEventIdentity}, so that identity checks and
+ * position lookups do not need to scan the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see TimedEvent#isSameTimedEvent(TimedEvent)
@@ -25,13 +30,23 @@ public class UniqueTimedEventList implements Iterable<TimedEvent> {
     private final ObservableList<TimedEvent> internalList = FXCollections.observableArrayList();
     private final ObservableList<TimedEvent> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<TimedEventIdentity, Integer> positionsByIdentity = new HashMap<>();
+    private long modificationCount = 0;
 
     /**
      * Returns true if the list contains an equivalent timed event as the given argument.
      */
     public boolean contains(TimedEvent toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTimedEvent);
+        return positionsByIdentity.containsKey(toCheck.getIdentity());
+    }
+
+    /**
+     * Returns the position in the list of the timed event equivalent to {@code toFind}, or -1 if there is none.
+     */
+    public int indexOf(TimedEvent toFind) {
+        requireNonNull(toFind);
+        return positionsByIdentity.getOrDefault(toFind.getIdentity(), -1);
     }
 
     /**
@@ -43,7 +58,9 @@ public class UniqueTimedEventList implements Iterable<TimedEvent> {
         if (contains(toAdd)) {
             throw new DuplicateTimedEventException();
         }
+        positionsByIdentity.put(toAdd.getIdentity(), internalList.size());
         internalList.add(toAdd);
+        modificationCount++;
     }
 
     /**
@@ -65,6 +82,9 @@ public class UniqueTimedEventList implements Iterable<TimedEvent> {
         }
 
         internalList.set(index, editedTimedEvent);
+        modificationCount++;
+        positionsByIdentity.remove(target.getIdentity());
+        positionsByIdentity.put(editedTimedEvent.getIdentity(), index);
     }
 
     /**
@@ -73,15 +93,24 @@ public class UniqueTimedEventList implements Iterable<TimedEvent> {
      */
     public void remove(TimedEvent toRemove) {
         requireNonNull(toRemove);
-        boolean removed = internalList.removeIf(event -> event.isSameTimedEvent(toRemove));
-        if (!removed) {
+        Integer position = positionsByIdentity.remove(toRemove.getIdentity());
+        if (position == null) {
             throw new TimedEventNotFoundException();
         }
+        internalList.remove((int) position);
+        modificationCount++;
+        // The events after the removed one each move up one position, as they do in the list itself
+        for (int i = position; i < internalList.size(); i++) {
+            positionsByIdentity.put(internalList.get(i).getIdentity(), i);
+        }
     }
 
     public void setTimedEvents(UniqueTimedEventList replacement) {
         requireNonNull(replacement);
+        positionsByIdentity.clear();
+        positionsByIdentity.putAll(replacement.positionsByIdentity);
         internalList.setAll(replacement.internalList);
+        modificationCount++;
     }
 
     /**
@@ -90,10 +119,17 @@ public class UniqueTimedEventList implements Iterable<TimedEvent> {
      */
     public void setTimedEvents(List<TimedEvent> timedEvents) {
         requireNonNull(timedEvents);
-        if (!timedEventsAreUnique(timedEvents)) {
-            throw new DuplicateTimedEventException();
+        Map<TimedEventIdentity, Integer> replacementIndex = new HashMap<>();
+        for (int i = 0; i < timedEvents.size(); i++) {
+            if (replacementIndex.put(timedEvents.get(i).getIdentity(), i) != null) {
+                throw new DuplicateTimedEventException();
+            }
         }
+
+        positionsByIdentity.clear();
+        positionsByIdentity.putAll(replacementIndex);
         internalList.setAll(timedEvents);
+        modificationCount++;
     }
 
     /**
@@ -103,6 +139,14 @@ public class UniqueTimedEventList implements Iterable<TimedEvent> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the number of changes made to this list so far.
+     * The count only grows, so callers can compare two readings to tell whether the list was changed in between.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public Iterator<TimedEvent> iterator() {
         return internalUnmodifiableList.iterator();
@@ -127,20 +171,6 @@ public class UniqueTimedEventList implements Iterable<TimedEvent> {
         return internalList.hashCode();
     }
 
-    /**
-     * Returns true if {@code timedEvents} contains only unique timed events.
-     */
-    private boolean timedEventsAreUnique(List<TimedEvent> timedEvents) {
-        for (int i = 0; i < timedEvents.size() - 1; i++) {
-            for (int j = i + 1; j < timedEvents.size(); j++) {
-                if (timedEvents.get(i).isSameTimedEvent(timedEvents.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
-
     @Override
     public String toString() {
         return internalList.toString();
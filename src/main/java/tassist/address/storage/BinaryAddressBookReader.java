@@ -0,0 +1,260 @@
+package tassist.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import tassist.address.commons.exceptions.IllegalValueException;
+import tassist.address.model.AddressBook;
+import tassist.address.model.person.ClassNumber;
+import tassist.address.model.person.Email;
+import tassist.address.model.person.Github;
+import tassist.address.model.person.Name;
+import tassist.address.model.person.Person;
+import tassist.address.model.person.Phone;
+import tassist.address.model.person.Progress;
+import tassist.address.model.person.ProjectTeam;
+import tassist.address.model.person.Repository;
+import tassist.address.model.person.StudentId;
+import tassist.address.model.person.exceptions.DuplicatePersonException;
+import tassist.address.model.tag.Tag;
+import tassist.address.model.timedevents.Assignment;
+import tassist.address.model.timedevents.TimedEvent;
+import tassist.address.model.timedevents.exceptions.DuplicateTimedEventException;
+
+/**
+ * Reads an address book in the binary snapshot format written by {@link BinaryAddressBookWriter}.
+ *
+ * Class numbers, project teams, tags and timed events are validated and converted once per distinct value rather
+ * than once per person, and the persons are added to the address book in a single bulk replacement.
+ * The constraint messages reported are the same as those of {@link JsonAdaptedPerson#toModelType()}.
+ */
+class BinaryAddressBookReader {
+
+    public static final String MESSAGE_CORRUPTED = "Binary address book is corrupted";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version: %d";
+
+    private final ByteBuffer buffer;
+    private byte[] stringBytes = new byte[64];
+
+    private BinaryAddressBookReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Reads the address book in {@code buffer}, from its current position.
+     *
+     * @throws IllegalValueException if the data is corrupted or there were any data constraints violated.
+     */
+    public static AddressBook read(ByteBuffer buffer) throws IllegalValueException {
+        requireNonNull(buffer);
+        try {
+            return new BinaryAddressBookReader(buffer).readAddressBook();
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+        }
+    }
+
+    private AddressBook readAddressBook() throws IllegalValueException {
+        if (buffer.getInt() != BinaryAddressBookStorage.MAGIC) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        int version = buffer.getInt();
+        if (version != BinaryAddressBookStorage.FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        List<ClassNumber> classNumbers = readClassNumbers();
+        List<ProjectTeam> projectTeams = readProjectTeams();
+        List<Tag> tags = readTags();
+        List<TimedEvent> events = readTimedEvents();
+
+        int timedEventCount = readCount();
+        List<TimedEvent> timedEvents = new ArrayList<>(timedEventCount);
+        for (int i = 0; i < timedEventCount; i++) {
+            timedEvents.add(events.get(readId(events.size())));
+        }
+
+        int personCount = readCount();
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            persons.add(readPerson(classNumbers, projectTeams, tags, events));
+        }
+        if (buffer.hasRemaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        try {
+            addressBook.setTimedEvents(timedEvents);
+        } catch (DuplicateTimedEventException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TIMED_EVENT);
+        }
+        return addressBook;
+    }
+
+    private List<ClassNumber> readClassNumbers() throws IllegalValueException {
+        int count = readCount();
+        List<ClassNumber> classNumbers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String classNumber = readString();
+            if (!ClassNumber.isValidClassNumber(classNumber)) {
+                throw new IllegalValueException(ClassNumber.MESSAGE_CONSTRAINTS);
+            }
+            classNumbers.add(ClassNumber.of(classNumber));
+        }
+        return classNumbers;
+    }
+
+    private List<ProjectTeam> readProjectTeams() throws IllegalValueException {
+        int count = readCount();
+        List<ProjectTeam> projectTeams = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String projectTeam = readString();
+            if (!ProjectTeam.isValidProjectTeam(projectTeam)) {
+                throw new IllegalValueException(ProjectTeam.MESSAGE_CONSTRAINTS);
+            }
+            projectTeams.add(ProjectTeam.of(projectTeam));
+        }
+        return projectTeams;
+    }
+
+    private List<Tag> readTags() throws IllegalValueException {
+        int count = readCount();
+        List<Tag> tags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String tagName = readString();
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(Tag.of(tagName));
+        }
+        return tags;
+    }
+
+    private List<TimedEvent> readTimedEvents() throws IllegalValueException {
+        int count = readCount();
+        List<TimedEvent> timedEvents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String type = readString();
+            String name = readString();
+            String description = readString();
+            long epochSecond = buffer.getLong();
+            int nano = buffer.getInt();
+            try {
+                LocalDateTime time = LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+                switch (type) {
+                case "Assignment":
+                    timedEvents.add(new Assignment(name, description, time));
+                    break;
+                default:
+                    throw new IllegalValueException("Invalid timed event type: " + type);
+                }
+            } catch (DateTimeException e) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(e.getMessage());
+            }
+        }
+        return timedEvents;
+    }
+
+    private Person readPerson(List<ClassNumber> classNumbers, List<ProjectTeam> projectTeams, List<Tag> tags,
+            List<TimedEvent> events) throws IllegalValueException {
+        String name = readString();
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        String phone = readString();
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        String email = readString();
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        String studentId = readString();
+        if (!StudentId.isValidStudentId(studentId)) {
+            throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+        }
+        String github = readString();
+        if (!Github.isValidGithub(github)) {
+            throw new IllegalValueException(Github.MESSAGE_CONSTRAINTS);
+        }
+        String repository = readString();
+        if (!Repository.isValidRepository(repository)) {
+            throw new IllegalValueException(Repository.MESSAGE_CONSTRAINTS);
+        }
+        ClassNumber classNumber = classNumbers.get(readId(classNumbers.size()));
+        ProjectTeam projectTeam = projectTeams.get(readId(projectTeams.size()));
+        String progress = Integer.toString(buffer.get());
+        if (!Progress.isValidProgress(progress)) {
+            throw new IllegalValueException(Progress.MESSAGE_CONSTRAINTS);
+        }
+
+        int tagCount = readCount();
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            personTags.add(tags.get(readId(tags.size())));
+        }
+
+        Person person = new Person(new Name(name), new Phone(phone), new Email(email), classNumber,
+                new StudentId(studentId), Github.of(github), projectTeam, Repository.of(repository), personTags,
+                new Progress(progress));
+
+        int timedEventCount = readCount();
+        for (int i = 0; i < timedEventCount; i++) {
+            TimedEvent timedEvent = events.get(readId(events.size()));
+            if (person.hasTimedEvent(timedEvent)) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            person.addTimedEvent(timedEvent);
+        }
+        return person;
+    }
+
+    /**
+     * Reads a count of entries, each of which takes at least one byte.
+     */
+    private int readCount() throws IllegalValueException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+
+    private int readId(int tableSize) throws IllegalValueException {
+        int id = buffer.getInt();
+        if (id < 0 || id >= tableSize) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return id;
+    }
+
+    private String readString() throws IllegalValueException {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        if (length > stringBytes.length) {
+            stringBytes = new byte[Math.max(length, stringBytes.length * 2)];
+        }
+        buffer.get(stringBytes, 0, length);
+        return new String(stringBytes, 0, length, UTF_8);
+    }
+}
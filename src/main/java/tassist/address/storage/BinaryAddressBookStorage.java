@@ -0,0 +1,159 @@
+package tassist.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tassist.address.commons.core.LogsCenter;
+import tassist.address.commons.exceptions.DataLoadingException;
+import tassist.address.commons.exceptions.IllegalValueException;
+import tassist.address.commons.util.FileUtil;
+import tassist.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ *
+ * The snapshot keeps each distinct class number, project team, tag and timed event once, and is loaded from a
+ * memory-mapped view of the file, so that startup neither parses JSON nor revalidates repeated values.
+ * JSON remains the format for import, export and hand editing; see {@link BinaryJsonConverter}.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The first four bytes of every binary address book, "TAB1" in ASCII. */
+    public static final int MAGIC = 0x54414231;
+    public static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final String JSON_EXTENSION = ".json";
+    private static final String BINARY_EXTENSION = ".bin";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    // A mapped file cannot be replaced on Windows until the mapping is garbage collected, so it is read instead
+    private static final boolean IS_MAPPING_SAFE = !System.getProperty("os.name", "").startsWith("Windows");
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary snapshot kept in place of the JSON file at {@code jsonFilePath}, which is the
+     * same path with its {@code .json} extension replaced by {@code .bin}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + BINARY_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A file that is not a binary address book is read as a JSON address book instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!isBinaryFile(filePath)) {
+                return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+            }
+            logger.info("Binary file " + filePath + " found.");
+            return Optional.of(BinaryAddressBookReader.read(readFile(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The snapshot is written to a temporary file first, so an interrupted write leaves the old snapshot in place.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_SUFFIX);
+        BinaryAddressBookWriter.write(addressBook, temporaryPath);
+        try {
+            Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with {@link #MAGIC}.
+     */
+    static boolean isBinaryFile(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] header = in.readNBytes(Integer.BYTES);
+            return header.length == Integer.BYTES && ByteBuffer.wrap(header).getInt() == MAGIC;
+        }
+    }
+
+    /**
+     * Returns the contents of the file at {@code filePath}, mapped into memory where that is safe.
+     */
+    private static ByteBuffer readFile(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Binary file " + filePath + " is too large: " + size + " bytes");
+            }
+            if (IS_MAPPING_SAFE) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("Binary file " + filePath + " was truncated while being read");
+                }
+            }
+            return buffer.flip();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package tassist.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import tassist.address.model.ReadOnlyAddressBook;
+import tassist.address.model.person.Person;
+import tassist.address.model.tag.Tag;
+import tassist.address.model.timedevents.TimedEvent;
+
+/**
+ * Writes an address book in the binary snapshot format read by {@link BinaryAddressBookReader}.
+ *
+ * The file starts with {@link BinaryAddressBookStorage#MAGIC} and {@link BinaryAddressBookStorage#FORMAT_VERSION},
+ * followed by the distinct class numbers, project teams and tag names, then a table of every distinct timed event
+ * and the ids of those in the address book's own list, and finally the persons. Persons refer to their class,
+ * team, tags and timed events by their index in these tables, so each repeated value is stored only once.
+ * Strings are written as their UTF-8 length followed by their UTF-8 bytes; times as UTC epoch seconds and nanos.
+ */
+class BinaryAddressBookWriter {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private BinaryAddressBookWriter() {} // prevents instantiation
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath}, replacing any existing contents.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        List<TimedEvent> timedEvents = addressBook.getTimedEventList();
+        Dictionary<String> classNumbers = new Dictionary<>();
+        Dictionary<String> projectTeams = new Dictionary<>();
+        Dictionary<String> tagNames = new Dictionary<>();
+        Dictionary<TimedEvent> events = new Dictionary<>();
+        timedEvents.forEach(events::idOf);
+        for (Person person : persons) {
+            classNumbers.idOf(person.getClassNumber().value);
+            projectTeams.idOf(person.getProjectTeam().value);
+            person.getTags().forEach(tag -> tagNames.idOf(tag.tagName));
+            person.getTimedEvents().forEach(events::idOf);
+        }
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(filePath), WRITE_BUFFER_SIZE))) {
+            out.writeInt(BinaryAddressBookStorage.MAGIC);
+            out.writeInt(BinaryAddressBookStorage.FORMAT_VERSION);
+
+            writeStrings(out, classNumbers.values());
+            writeStrings(out, projectTeams.values());
+            writeStrings(out, tagNames.values());
+
+            out.writeInt(events.size());
+            for (TimedEvent event : events.values()) {
+                writeString(out, event.getClass().getSimpleName());
+                writeString(out, event.getName());
+                writeString(out, event.getDescription());
+                out.writeLong(event.getTime().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(event.getTime().getNano());
+            }
+            out.writeInt(timedEvents.size());
+            for (TimedEvent timedEvent : timedEvents) {
+                out.writeInt(events.idOf(timedEvent));
+            }
+
+            out.writeInt(persons.size());
+            for (Person person : persons) {
+                writeString(out, person.getName().value);
+                writeString(out, person.getPhone().value);
+                writeString(out, person.getEmail().value);
+                writeString(out, person.getStudentId().value);
+                writeString(out, person.getGithub().value);
+                writeString(out, person.getRepository().value);
+                out.writeInt(classNumbers.idOf(person.getClassNumber().value));
+                out.writeInt(projectTeams.idOf(person.getProjectTeam().value));
+                out.writeByte(person.getProgress().value);
+
+                Set<Tag> tags = person.getTags();
+                out.writeInt(tags.size());
+                for (Tag tag : tags) {
+                    out.writeInt(tagNames.idOf(tag.tagName));
+                }
+                List<TimedEvent> personTimedEvents = person.getTimedEvents();
+                out.writeInt(personTimedEvents.size());
+                for (TimedEvent timedEvent : personTimedEvents) {
+                    out.writeInt(events.idOf(timedEvent));
+                }
+            }
+        }
+    }
+
+    private static void writeStrings(DataOutputStream out, Collection<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Assigns consecutive ids to distinct values in the order they are first seen.
+     */
+    private static class Dictionary<T> {
+        private final Map<T, Integer> ids = new LinkedHashMap<>();
+
+        int idOf(T value) {
+            return ids.computeIfAbsent(value, unused -> ids.size());
+        }
+
+        int size() {
+            return ids.size();
+        }
+
+        Collection<T> values() {
+            return ids.keySet();
+        }
+    }
+}
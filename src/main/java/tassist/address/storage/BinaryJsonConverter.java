@@ -0,0 +1,53 @@
+package tassist.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import tassist.address.commons.exceptions.DataLoadingException;
+import tassist.address.model.ReadOnlyAddressBook;
+
+/**
+ * A utility class that handles the conversion between the JSON and binary address book formats.
+ */
+public class BinaryJsonConverter {
+
+    /**
+     * Converts the JSON address book at {@code jsonFilePath} into a binary snapshot at {@code binaryFilePath}.
+     *
+     * @param jsonFilePath the path to the JSON address book to be converted
+     * @param binaryFilePath the path to the binary snapshot to be written
+     * @throws DataLoadingException if the JSON address book is missing or could not be read
+     * @throws IOException if there is an error writing the binary snapshot
+     */
+    public void convertJsonToBinary(Path jsonFilePath, Path binaryFilePath) throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+        requireNonNull(binaryFilePath);
+
+        ReadOnlyAddressBook addressBook = read(new JsonAddressBookStorage(jsonFilePath), jsonFilePath);
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Converts the binary snapshot at {@code binaryFilePath} into an indented JSON address book at
+     * {@code jsonFilePath}.
+     *
+     * @param binaryFilePath the path to the binary snapshot to be converted
+     * @param jsonFilePath the path to the JSON address book to be written
+     * @throws DataLoadingException if the binary snapshot is missing or could not be read
+     * @throws IOException if there is an error writing the JSON address book
+     */
+    public void convertBinaryToJson(Path binaryFilePath, Path jsonFilePath) throws DataLoadingException, IOException {
+        requireNonNull(binaryFilePath);
+        requireNonNull(jsonFilePath);
+
+        ReadOnlyAddressBook addressBook = read(new BinaryAddressBookStorage(binaryFilePath), binaryFilePath);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook);
+    }
+
+    private static ReadOnlyAddressBook read(AddressBookStorage storage, Path filePath) throws DataLoadingException {
+        return storage.readAddressBook().orElseThrow(() ->
+                new DataLoadingException(new IOException("Address book " + filePath + " not found")));
+    }
+}
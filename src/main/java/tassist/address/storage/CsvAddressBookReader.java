@@ -0,0 +1,403 @@
+package tassist.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvException;
+
+import tassist.address.commons.core.ProgressListener;
+import tassist.address.commons.exceptions.IllegalValueException;
+import tassist.address.model.AddressBook;
+import tassist.address.model.person.Person;
+import tassist.address.model.person.exceptions.DuplicatePersonException;
+import tassist.address.model.timedevents.TimedEvent;
+import tassist.address.model.timedevents.exceptions.DuplicateTimedEventException;
+
+/**
+ * Reads an address book from a UTF-8 CSV file in the format written by {@link CsvAddressBookWriter}, one row at a
+ * time, building the model objects directly.
+ *
+ * Unlike converting the file to JSON with {@link CsvJsonConverter#convertCsvToJson} and reading that back, this
+ * reads the file once, writes nothing, and holds at most one batch of rows besides the address book being built.
+ * The values of each row are interpreted as that conversion interprets them, and checked as the JSON file would
+ * be when read.
+ *
+ * Callers that can hold the whole file in memory may instead read it with {@link #readInParallel(Path)}, which
+ * parses chunks of rows on several threads with the same result.
+ * Progress can be reported to a {@link ProgressListener} after each batch of rows, which may also stop the read.
+ */
+public class CsvAddressBookReader {
+
+    private static final String TIMED_EVENTS_MARKER = "timedEvents";
+    private static final int PERSON_FIELD_COUNT = Person.getAttributes().size();
+    private static final int TIMED_EVENT_FIELD_COUNT = TimedEvent.getAttributes().size();
+    private static final int PERSON_BATCH_SIZE = 8192;
+    private static final int MIN_ROWS_PER_CHUNK = 1024;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private CsvAddressBookReader() {} // prevents instantiation
+
+    /**
+     * Reads the address book in the CSV file at {@code csvFilePath}, one row at a time.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws CsvException if the file is empty or is not in the expected CSV format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path csvFilePath) throws IOException, CsvException, IllegalValueException {
+        return read(csvFilePath, ProgressListener.NONE);
+    }
+
+    /**
+     * Similar to {@link #read(Path)}, but reports the rows and bytes read so far to {@code progress}.
+     *
+     * @throws java.util.concurrent.CancellationException if {@code progress} stops the read.
+     */
+    public static AddressBook read(Path csvFilePath, ProgressListener progress) throws IOException, CsvException,
+            IllegalValueException {
+        requireNonNull(csvFilePath);
+        requireNonNull(progress);
+
+        List<Person> persons = new ArrayList<>();
+        List<TimedEvent> timedEvents = new ArrayList<>();
+        CountingInputStream input = new CountingInputStream(Files.newInputStream(csvFilePath));
+        try (CSVReader csvReader = new CSVReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            if (!readRows(csvReader, persons, timedEvents, rows -> progress.update(rows, input.getCount()))) {
+                throw new CsvException("No data");
+            }
+        }
+        return toAddressBook(persons, timedEvents);
+    }
+
+    /**
+     * Similar to {@link #read(Path)}, but reads the whole file into memory, splits its persons into chunks of
+     * whole rows and parses and checks the chunks on the common fork-join pool. Errors are reported as reading
+     * the rows one at a time would report them: the first row in the file that cannot be parsed or holds an
+     * invalid or duplicate person decides the error.
+     * The file, a copy of its text and all its parsed rows are held at once, so this is only used by callers that
+     * ask for it and can spare the memory.
+     */
+    public static AddressBook readInParallel(Path csvFilePath) throws IOException, CsvException,
+            IllegalValueException {
+        return readInParallel(csvFilePath, ProgressListener.NONE);
+    }
+
+    /**
+     * Similar to {@link #readInParallel(Path)}, but reports progress to {@code progress} once the file has been
+     * read, once its persons have been parsed and once the whole address book has been read.
+     */
+    public static AddressBook readInParallel(Path csvFilePath, ProgressListener progress) throws IOException,
+            CsvException, IllegalValueException {
+        requireNonNull(csvFilePath);
+        requireNonNull(progress);
+
+        byte[] bytes = Files.readAllBytes(csvFilePath);
+        progress.update(0, bytes.length);
+        String content = new String(bytes, StandardCharsets.UTF_8);
+        int[] rowStarts = findRowStarts(content);
+        int rowCount = rowStarts.length - 1;
+        if (rowCount == 0) {
+            throw new CsvException("No data");
+        }
+        int markerRow = findTimedEventsMarker(content, rowStarts);
+
+        // The first row names the columns of the persons, unless the persons section is missing altogether
+        int firstPersonRow = Math.min(1, markerRow);
+        int personCount = markerRow - firstPersonRow;
+        int chunkSize = Math.max(MIN_ROWS_PER_CHUNK,
+                personCount / (ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD) + 1);
+        int chunkCount = (personCount + chunkSize - 1) / chunkSize;
+        JsonAdaptedPerson[] adaptedPersons = new JsonAdaptedPerson[personCount];
+        // The row at which each chunk failed, or the end of the chunk if it did not
+        int[] chunkEnds = new int[chunkCount];
+        Exception[] chunkErrors = new Exception[chunkCount];
+
+        IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+            int from = firstPersonRow + chunk * chunkSize;
+            int to = Math.min(markerRow, from + chunkSize);
+            String chunkContent = content.substring(rowStarts[from], rowStarts[to]);
+            try (CSVReader csvReader = new CSVReader(new StringReader(chunkContent))) {
+                for (int row = from; row < to; row++) {
+                    chunkEnds[chunk] = row;
+                    String[] values = csvReader.readNext();
+                    if (values == null) {
+                        throw new CsvException("Rows do not match the lines of the file");
+                    }
+                    checkFieldCount(values, PERSON_FIELD_COUNT, row + 1);
+                    adaptedPersons[row - firstPersonRow] = toAdaptedPerson(values);
+                }
+                chunkEnds[chunk] = to;
+            } catch (IOException | CsvException e) {
+                chunkErrors[chunk] = e;
+            }
+        });
+
+        int failedRow = markerRow;
+        Exception error = null;
+        for (int chunk = 0; chunk < chunkCount && error == null; chunk++) {
+            if (chunkErrors[chunk] != null) {
+                failedRow = chunkEnds[chunk];
+                error = chunkErrors[chunk];
+            }
+        }
+        // Persons before the row that could not be parsed are checked first, as they come first in the file
+        List<Person> persons = new ArrayList<>(personCount);
+        new JsonAdaptedPersonConverter(false).convert(
+                Arrays.asList(adaptedPersons).subList(0, failedRow - firstPersonRow), persons);
+        if (error instanceof CsvException) {
+            throw (CsvException) error;
+        } else if (error instanceof IOException) {
+            throw (IOException) error;
+        }
+        progress.update(markerRow, bytes.length);
+
+        // The timed events are few, so they are read one at a time
+        List<TimedEvent> timedEvents = new ArrayList<>();
+        if (markerRow < rowCount) {
+            try (CSVReader csvReader = new CSVReader(new StringReader(content.substring(rowStarts[markerRow])))) {
+                readRows(csvReader, new ArrayList<>(), timedEvents, rows -> { });
+            }
+        }
+        progress.update(rowCount, bytes.length);
+        return toAddressBook(persons, timedEvents);
+    }
+
+    /**
+     * Reads the rows of {@code csvReader} into {@code persons} and {@code timedEvents}, passing the number of rows
+     * read so far to {@code onBatchRead} after each batch of persons and after the last row.
+     * The first row in the file that cannot be parsed or holds an invalid person decides the error, as it does for
+     * {@link #readInParallel(Path)}.
+     * Returns false if there were no rows to read.
+     */
+    private static boolean readRows(CSVReader csvReader, List<Person> persons, List<TimedEvent> timedEvents,
+            LongConsumer onBatchRead) throws IOException, CsvException, IllegalValueException {
+        String[] row = csvReader.readNext();
+        if (row == null) {
+            return false;
+        }
+
+        JsonAdaptedPersonConverter converter = new JsonAdaptedPersonConverter(false);
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        boolean isTimedEventSection = false;
+        // The first row of each section names its columns
+        boolean isHeader = true;
+        long rowsRead = 0;
+        try {
+            for (; row != null; row = csvReader.readNext()) {
+                rowsRead++;
+                if (row.length > 0 && row[0].equalsIgnoreCase(TIMED_EVENTS_MARKER)) {
+                    // We reached the timedEvents section, so the persons are all checked before any timed event
+                    converter.convert(batch, persons);
+                    batch.clear();
+                    isHeader = isHeader || !isTimedEventSection;
+                    isTimedEventSection = true;
+                } else if (isHeader) {
+                    isHeader = false;
+                } else if (isTimedEventSection) {
+                    checkFieldCount(row, TIMED_EVENT_FIELD_COUNT, csvReader.getLinesRead());
+                    timedEvents.add(new JsonAdaptedTimedEvent(processAttribute(row[0]), processAttribute(row[1]),
+                            processAttribute(row[2]), processAttribute(row[3])).toModelType());
+                } else {
+                    checkFieldCount(row, PERSON_FIELD_COUNT, csvReader.getLinesRead());
+                    batch.add(toAdaptedPerson(row));
+                    if (batch.size() == PERSON_BATCH_SIZE) {
+                        converter.convert(batch, persons);
+                        batch.clear();
+                        onBatchRead.accept(rowsRead);
+                    }
+                }
+            }
+        } catch (IOException | CsvException e) {
+            // Persons before the row that could not be parsed are checked first, as they come first in the file
+            converter.convert(batch, persons);
+            throw e;
+        }
+        converter.convert(batch, persons);
+        onBatchRead.accept(rowsRead);
+        return true;
+    }
+
+    private static AddressBook toAddressBook(List<Person> persons, List<TimedEvent> timedEvents)
+            throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        try {
+            addressBook.setTimedEvents(timedEvents);
+        } catch (DuplicateTimedEventException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TIMED_EVENT);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the offset in {@code content} at which each row starts, followed by the length of {@code content}.
+     * Line breaks inside quoted values do not end a row. Quotes are read as the default {@code CSVReader} reads
+     * them: a doubled quote, or a quote after a backslash, inside a quoted value does not end the value.
+     */
+    static int[] findRowStarts(String content) {
+        int[] rowStarts = new int[16];
+        int rowCount = 0;
+        boolean isInQuotes = false;
+        int length = content.length();
+        for (int i = 0; i < length; i++) {
+            if (i == 0 || (!isInQuotes && content.charAt(i - 1) == '\n')) {
+                if (rowCount + 1 == rowStarts.length) {
+                    rowStarts = Arrays.copyOf(rowStarts, rowStarts.length * 2);
+                }
+                rowStarts[rowCount++] = i;
+            }
+            char c = content.charAt(i);
+            if (c == '"') {
+                isInQuotes = !isInQuotes;
+            } else if (c == '\\' && isInQuotes && i + 1 < length
+                    && (content.charAt(i + 1) == '"' || content.charAt(i + 1) == '\\')) {
+                i++;
+            }
+        }
+        rowStarts[rowCount] = length;
+        return Arrays.copyOf(rowStarts, rowCount + 1);
+    }
+
+    /**
+     * Returns the index of the row that starts the timed events section, or the number of rows if there is none.
+     */
+    private static int findTimedEventsMarker(String content, int[] rowStarts) {
+        int row = 0;
+        while (row < rowStarts.length - 1 && !isTimedEventsMarker(content, rowStarts[row])) {
+            row++;
+        }
+        return row;
+    }
+
+    /**
+     * Returns true if the row starting at offset {@code start} of {@code content} starts the timed events section.
+     */
+    private static boolean isTimedEventsMarker(String content, int start) {
+        int i = start;
+        boolean isQuoted = i < content.length() && content.charAt(i) == '"';
+        if (isQuoted) {
+            i++;
+        }
+        if (!content.regionMatches(true, i, TIMED_EVENTS_MARKER, 0, TIMED_EVENTS_MARKER.length())) {
+            return false;
+        }
+        i += TIMED_EVENTS_MARKER.length();
+        if (isQuoted) {
+            if (i >= content.length() || content.charAt(i) != '"') {
+                return false;
+            }
+            i++;
+        }
+        return i >= content.length() || ",\r\n".indexOf(content.charAt(i)) >= 0;
+    }
+
+    private static void checkFieldCount(String[] row, int fieldCount, long lineNumber) throws CsvException {
+        if (row.length < fieldCount) {
+            CsvException e = new CsvException("Expected " + fieldCount + " values but found " + row.length);
+            e.setLineNumber(lineNumber);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the person in {@code row}, whose values are in the order of {@link Person#getAttributes()}.
+     */
+    private static JsonAdaptedPerson toAdaptedPerson(String[] row) {
+        return new JsonAdaptedPerson(processAttribute(row[0]), processAttribute(row[1]), processAttribute(row[2]),
+                processAttribute(row[3]), processAttribute(row[4]), processAttribute(row[5]),
+                processAttribute(row[6]), processAttribute(row[7]), processTags(row[8]), processAttribute(row[9]),
+                processPersonTimedEvents(row[10]));
+    }
+
+    private static String processAttribute(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return "";
+        } else {
+            return value;
+        }
+    }
+
+    private static List<JsonAdaptedTag> processTags(String value) {
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        if (value == null || value.trim().isEmpty()) {
+            return tags;
+        }
+        for (String tagName : value.split(",")) {
+            tags.add(new JsonAdaptedTag(tagName));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the timed events in {@code value}, which holds the name, description, time and type of each in turn,
+     * all separated by commas.
+     */
+    private static List<JsonAdaptedTimedEvent> processPersonTimedEvents(String value) {
+        List<JsonAdaptedTimedEvent> timedEvents = new ArrayList<>();
+        String[] splitted = value.split(",");
+        for (int i = 0; i + TIMED_EVENT_FIELD_COUNT <= splitted.length; i += TIMED_EVENT_FIELD_COUNT) {
+            timedEvents.add(new JsonAdaptedTimedEvent(splitted[i].trim(), splitted[i + 1].trim(),
+                    splitted[i + 2].trim(), splitted[i + 3].trim()));
+        }
+        return timedEvents;
+    }
+
+    /**
+     * Counts the bytes read from the stream it wraps.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package tassist.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static tassist.address.commons.util.AppUtil.checkArgument;
+import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import tassist.address.commons.core.ProgressListener;
+import tassist.address.model.person.Person;
+import tassist.address.model.tag.Tag;
+import tassist.address.model.timedevents.TimedEvent;
+
+/**
+ * Writes persons and timed events to a CSV file in the format read by {@link CsvAddressBookReader}, optionally with
+ * only some of the person columns.
+ *
+ * Each value is written straight to a buffered UTF-8 writer, quoted the way the default {@code CSVWriter} quotes
+ * it, without building the rows or the combined tag and timed event values first. So the memory used does not grow
+ * with the number of rows written.
+ */
+public class CsvAddressBookWriter {
+
+    public static final String MESSAGE_INVALID_COLUMN = "Unknown column: %1$s";
+
+    private static final String TIMED_EVENTS_MARKER = "timedEvents";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int PROGRESS_INTERVAL = 8192;
+    private static final List<String> PERSON_COLUMNS = Person.getAttributes();
+    /** The writer of the value of each person column, by column name. */
+    private static final Map<String, PersonValueWriter> PERSON_VALUE_WRITERS = createPersonValueWriters();
+
+    private final List<String> personColumns;
+    /** The value writer of each column written. */
+    private final List<PersonValueWriter> columnWriters;
+
+    /**
+     * Creates a writer that writes every person column.
+     */
+    public CsvAddressBookWriter() {
+        this(PERSON_COLUMNS);
+    }
+
+    /**
+     * Creates a writer that writes only the person columns in {@code personColumns}, in that order.
+     * Every column must be one of {@link Person#getAttributes()}.
+     */
+    public CsvAddressBookWriter(List<String> personColumns) {
+        requireAllNonNull(personColumns);
+        checkArgument(!personColumns.isEmpty());
+        this.personColumns = List.copyOf(personColumns);
+        List<PersonValueWriter> writers = new ArrayList<>();
+        for (String column : personColumns) {
+            PersonValueWriter columnWriter = PERSON_VALUE_WRITERS.get(column);
+            checkArgument(columnWriter != null, String.format(MESSAGE_INVALID_COLUMN, column));
+            writers.add(columnWriter);
+        }
+        columnWriters = List.copyOf(writers);
+    }
+
+    /**
+     * Returns the writer of each person column by its name in {@link Person#getAttributes()}.
+     *
+     * @throws IllegalStateException if the columns written do not match the person attributes, so that a new or
+     *     renamed attribute cannot be written under the wrong header.
+     */
+    private static Map<String, PersonValueWriter> createPersonValueWriters() {
+        Map<String, PersonValueWriter> writers = new HashMap<>();
+        writers.put("name", (writer, person) -> writeEscaped(writer, person.getName().toString()));
+        writers.put("phone", (writer, person) -> writeEscaped(writer, person.getPhone().toString()));
+        writers.put("email", (writer, person) -> writeEscaped(writer, person.getEmail().toString()));
+        writers.put("classNumber", (writer, person) -> writeEscaped(writer, person.getClassNumber().toString()));
+        writers.put("studentId", (writer, person) -> writeEscaped(writer, person.getStudentId().toString()));
+        writers.put("github", (writer, person) -> writeEscaped(writer, person.getGithub().toString()));
+        writers.put("projectTeam", (writer, person) -> writeEscaped(writer, person.getProjectTeam().toString()));
+        writers.put("repository", (writer, person) -> writeEscaped(writer, person.getRepository().toString()));
+        writers.put("tags", CsvAddressBookWriter::writeTags);
+        writers.put("progress", (writer, person) -> writeEscaped(writer, person.getProgress().toString()));
+        writers.put("timedEvents", CsvAddressBookWriter::writePersonTimedEvents);
+
+        if (!writers.keySet().equals(new HashSet<>(PERSON_COLUMNS))) {
+            throw new IllegalStateException("Person columns " + writers.keySet()
+                    + " do not match the person attributes " + PERSON_COLUMNS);
+        }
+        return Map.copyOf(writers);
+    }
+
+    /**
+     * Writes {@code persons}, followed by {@code timedEvents}, to the CSV file at {@code csvFilePath}, replacing it
+     * if it exists.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    public void write(Path csvFilePath, List<Person> persons, List<TimedEvent> timedEvents) throws IOException {
+        write(csvFilePath, persons, timedEvents, ProgressListener.NONE);
+    }
+
+    /**
+     * Similar to {@link #write(Path, List, List)}, but reports the rows written so far, and the bytes that have
+     * reached the file, to {@code progress} after each batch of persons and once the file is written.
+     *
+     * @throws java.util.concurrent.CancellationException if {@code progress} stops the write. The part of the file
+     *     already written is left as it is.
+     */
+    public void write(Path csvFilePath, List<Person> persons, List<TimedEvent> timedEvents,
+            ProgressListener progress) throws IOException {
+        requireAllNonNull(csvFilePath, persons, timedEvents, progress);
+
+        CountingOutputStream output = new CountingOutputStream(Files.newOutputStream(csvFilePath));
+        long rowsWritten = 0;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8),
+                BUFFER_SIZE)) {
+            writeRow(writer, personColumns);
+            for (Person person : persons) {
+                if (rowsWritten > 0 && rowsWritten % PROGRESS_INTERVAL == 0) {
+                    progress.update(rowsWritten, output.getCount());
+                }
+                rowsWritten++;
+                for (int i = 0; i < columnWriters.size(); i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writer.write('"');
+                    columnWriters.get(i).write(writer, person);
+                    writer.write('"');
+                }
+                writer.write('\n');
+            }
+
+            writeRow(writer, List.of(TIMED_EVENTS_MARKER));
+            writeRow(writer, TimedEvent.getAttributes());
+            for (TimedEvent timedEvent : timedEvents) {
+                writer.write('"');
+                writeTimedEventValues(writer, timedEvent, "\",\"");
+                writer.write("\"\n");
+            }
+        }
+        progress.update(rowsWritten + timedEvents.size(), output.getCount());
+    }
+
+    private static void writeRow(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write('"');
+            writeEscaped(writer, values.get(i));
+            writer.write('"');
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Writes the tags of {@code person}, unquoted and separated by commas within the one value.
+     */
+    private static void writeTags(Writer writer, Person person) throws IOException {
+        boolean isFirstTag = true;
+        for (Tag tag : person.getTags()) {
+            if (!isFirstTag) {
+                writer.write(',');
+            }
+            writeEscaped(writer, tag.tagName);
+            isFirstTag = false;
+        }
+    }
+
+    /**
+     * Writes the timed events of {@code person}, unquoted, each taking four comma-separated parts of the one value.
+     */
+    private static void writePersonTimedEvents(Writer writer, Person person) throws IOException {
+        boolean isFirstTimedEvent = true;
+        for (TimedEvent timedEvent : person.getTimedEvents()) {
+            if (!isFirstTimedEvent) {
+                writer.write(',');
+            }
+            writeTimedEventValues(writer, timedEvent, ",");
+            isFirstTimedEvent = false;
+        }
+    }
+
+    /**
+     * Writes the name, description, time and type of {@code timedEvent}, unquoted and separated by
+     * {@code separator}.
+     */
+    private static void writeTimedEventValues(Writer writer, TimedEvent timedEvent, String separator)
+            throws IOException {
+        writeEscaped(writer, timedEvent.getName());
+        writer.write(separator);
+        writeEscaped(writer, timedEvent.getDescription());
+        writer.write(separator);
+        writeEscaped(writer, timedEvent.getTime().toString());
+        writer.write(separator);
+        writeEscaped(writer, timedEvent.getClass().getSimpleName());
+    }
+
+    /**
+     * Writes {@code value}, doubling the quotes in it, for use inside a quoted value.
+     */
+    private static void writeEscaped(Writer writer, String value) throws IOException {
+        requireNonNull(value);
+        int start = 0;
+        for (int quote = value.indexOf('"'); quote >= 0; quote = value.indexOf('"', quote + 1)) {
+            writer.write(value, start, quote + 1 - start);
+            writer.write('"');
+            start = quote + 1;
+        }
+        writer.write(value, start, value.length() - start);
+    }
+
+    /**
+     * Writes one person value, unquoted.
+     */
+    @FunctionalInterface
+    private interface PersonValueWriter {
+        void write(Writer writer, Person person) throws IOException;
+    }
+
+    /**
+     * Counts the bytes written to the stream it wraps.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
@@ -2,26 +2,22 @@ package tassist.address.storage;
 
 import java.io.File;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.opencsv.CSVReader;
-import com.opencsv.CSVWriter;
 import com.opencsv.exceptions.CsvException;
 
-import javafx.collections.ObservableList;
 import tassist.address.model.ReadOnlyAddressBook;
 import tassist.address.model.person.Person;
-import tassist.address.model.tag.Tag;
 import tassist.address.model.timedevents.TimedEvent;
 
 /**
@@ -42,7 +38,7 @@ public class CsvJsonConverter {
      * @throws CsvException if there is an error during CSV parsing
      */
     public void convertCsvToJson(Path csvFilePath, Path jsonFilePath) throws IOException, CsvException {
-        try (FileReader fileReader = new FileReader(csvFilePath.toString());
+        try (FileReader fileReader = new FileReader(csvFilePath.toString(), StandardCharsets.UTF_8);
              CSVReader csvReader = new CSVReader(fileReader)) {
 
             List<String[]> rows = csvReader.readAll();
@@ -153,6 +149,7 @@ public class CsvJsonConverter {
      * into the specified {@code csvFilePath}. It first writes the headers for persons and timed events,
      * followed by their respective data. It ensures that all person-related data (like name, email, tags, etc.)
      * and timed event-related data (like name, description, time, etc.) are properly formatted in the CSV.
+     * The file is written by {@link CsvAddressBookWriter}, in UTF-8.
      * </p>
      *
      * @param csvFilePath The path where the CSV file should be saved. This path must be valid and writable.
@@ -160,98 +157,6 @@ public class CsvJsonConverter {
      * @throws IOException If an error occurs during file writing, such as file access issues or invalid paths.
      */
     public void convertJsonToCsv(Path csvFilePath, ReadOnlyAddressBook addressBook) throws IOException {
-        try (FileWriter fileWriter = new FileWriter(csvFilePath.toString());
-             CSVWriter csvWriter = new CSVWriter(fileWriter)) {
-
-            ObservableList<Person> persons = addressBook.getPersonList();
-            ObservableList<TimedEvent> timedEvents = addressBook.getTimedEventList();
-
-            writePersons(csvWriter, persons);
-
-            csvWriter.writeNext(new String[]{"timedEvents"});
-
-            writeTimedEvents(csvWriter, timedEvents);
-        }
-    }
-
-    private void writePersons(CSVWriter csvWriter, ObservableList<Person> persons) {
-        String[] personHeader = Person.getAttributes().toArray(new String[0]);
-        csvWriter.writeNext(personHeader);
-
-        for (Person person : persons) {
-            String[] personData = {
-                    person.getName().toString(),
-                    person.getPhone().toString(),
-                    person.getEmail().toString(),
-                    person.getClassNumber().toString(),
-                    person.getStudentId().toString(),
-                    person.getGithub().toString(),
-                    person.getProjectTeam().toString(),
-                    person.getRepository().toString(),
-                    convertTagsToCsvString(person.getTags()),
-                    person.getProgress().toString(),
-                    convertTimedEventsToCsvString(person.getTimedEvents())
-            };
-
-            csvWriter.writeNext(personData);
-        }
-    }
-
-    private void writeTimedEvents(CSVWriter csvWriter, ObservableList<TimedEvent> timedEvents) {
-        String[] timedEventHeader = TimedEvent.getAttributes().toArray(new String[0]);
-        csvWriter.writeNext(timedEventHeader);
-
-        for (TimedEvent timedEvent : timedEvents) {
-            String[] timedEventData = {
-                    timedEvent.getName(),
-                    timedEvent.getDescription(),
-                    timedEvent.getTime().toString(),
-                    timedEvent.getClass().getSimpleName()
-            };
-
-            csvWriter.writeNext(timedEventData);
-        }
-    }
-
-    private String convertTagsToCsvString(Set<Tag> tags) {
-        if (tags == null || tags.isEmpty()) {
-            return "";
-        }
-
-        StringBuilder tagsData = new StringBuilder();
-        for (Tag tag : tags) {
-            tagsData.append(tag.toString().replaceAll("[\\[\\]]", ""))
-                    .append(",");
-        }
-
-        if (tagsData.length() > 0) {
-            tagsData.setLength(tagsData.length() - 1); // Remove the last comma
-        }
-
-        return tagsData.toString();
-    }
-
-    private String convertTimedEventsToCsvString(ObservableList<TimedEvent> timedEvents) {
-        if (timedEvents.isEmpty()) {
-            return "";
-        }
-
-        StringBuilder timedEventData = new StringBuilder();
-        for (TimedEvent timedEvent : timedEvents) {
-            timedEventData.append(timedEvent.getName())
-                    .append(",")
-                    .append(timedEvent.getDescription())
-                    .append(",")
-                    .append(timedEvent.getTime())
-                    .append(",")
-                    .append(timedEvent.getClass().getSimpleName())
-                    .append(",");
-        };
-
-        if (timedEventData.length() > 0) {
-            timedEventData.setLength(timedEventData.length() - 1); // Remove the last comma
-        }
-
-        return timedEventData.toString();
+        new CsvAddressBookWriter().write(csvFilePath, addressBook.getPersonList(), addressBook.getTimedEventList());
     }
 }
@@ -0,0 +1,502 @@
+package tassist.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import tassist.address.commons.core.LogsCenter;
+import tassist.address.commons.exceptions.DataLoadingException;
+import tassist.address.commons.exceptions.IllegalValueException;
+import tassist.address.commons.util.FileUtil;
+import tassist.address.commons.util.JsonUtil;
+import tassist.address.commons.util.StringUtil;
+import tassist.address.model.AddressBook;
+import tassist.address.model.ReadOnlyAddressBook;
+import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
+import tassist.address.model.timedevents.TimedEvent;
+import tassist.address.model.timedevents.TimedEventIdentity;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a JSON snapshot plus a journal of later changes.
+ *
+ * Each save compares the address book with the one last written and appends one line per added, changed or
+ * removed person or timed event to the journal, so the amount written grows with the size of the change rather
+ * than the size of the address book. Once the journal passes a size threshold, a background compactor folds it
+ * into a new snapshot. Reading loads the snapshot and replays the journal on top of it.
+ *
+ * The journal starts with the checksum of the snapshot it applies to, and a journal whose snapshot has since been
+ * replaced, for instance by a hand-edited or imported file, is ignored.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    /** Journal size, in bytes, above which the journal is folded into a new snapshot. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    /**
+     * When appended journal records are forced to the disk.
+     */
+    public enum SyncPolicy {
+        /** Every save returns only once its records are on the disk. */
+        EVERY_SAVE,
+        /** Records are left for the operating system to write out. */
+        NONE
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final SyncPolicy syncPolicy;
+    private final long compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The address book as last read or written, or null if the next save must write a new snapshot. */
+    private JournalState savedState;
+    private Future<?> compaction;
+
+    /**
+     * Creates a storage with its snapshot at {@code filePath} that forces every save to the disk.
+     */
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, SyncPolicy.EVERY_SAVE, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage with its snapshot at {@code filePath} that syncs its journal according to
+     * {@code syncPolicy} and compacts it once it is larger than {@code compactionThreshold} bytes.
+     */
+    public JournalAddressBookStorage(Path filePath, SyncPolicy syncPolicy, long compactionThreshold) {
+        requireNonNull(filePath);
+        requireNonNull(syncPolicy);
+        this.filePath = filePath;
+        this.journalPath = getJournalPath(filePath);
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+        this.syncPolicy = syncPolicy;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal kept beside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Folds the journal beside the snapshot at {@code filePath}, if there is one, into a new snapshot and deletes
+     * the journal, so that storages that read only the snapshot see the changes in it. The new snapshot keeps the
+     * time of the last change in the journal as its modification time.
+     *
+     * @return true if there was a journal to fold.
+     * @throws DataLoadingException if the snapshot or its journal could not be read.
+     * @throws IOException if there is an error writing the new snapshot or deleting the journal.
+     */
+    public static boolean foldJournal(Path filePath) throws DataLoadingException, IOException {
+        requireNonNull(filePath);
+        Path journalPath = getJournalPath(filePath);
+        if (!Files.exists(journalPath)) {
+            return false;
+        }
+
+        JournalState state = load(filePath);
+        if (state != null) {
+            FileTime lastChangeTime = Files.getLastModifiedTime(journalPath);
+            FileTime snapshotTime = Files.getLastModifiedTime(filePath);
+            new JsonAddressBookStorage(filePath).saveAddressBook(state.toAddressBook());
+            Files.setLastModifiedTime(filePath,
+                    lastChangeTime.compareTo(snapshotTime) > 0 ? lastChangeTime : snapshotTime);
+        }
+        Files.delete(journalPath);
+        return true;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        savedState = null;
+        JournalState state = load(filePath);
+        savedState = state;
+        return state == null ? Optional.empty() : Optional.of(state.toAddressBook());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            return readAddressBook();
+        }
+
+        JournalState state = load(filePath);
+        return state == null ? Optional.empty() : Optional.of(state.toAddressBook());
+    }
+
+    /**
+     * Returns the snapshot at {@code filePath} with its journal replayed on top, or null if there is no snapshot.
+     */
+    private static JournalState load(Path filePath) throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> snapshot = new JsonAddressBookStorage(filePath).readAddressBook();
+        if (!snapshot.isPresent()) {
+            return null;
+        }
+
+        JournalState state = JournalState.of(snapshot.get());
+        Path journalPath = getJournalPath(filePath);
+        if (!Files.exists(journalPath)) {
+            return state;
+        }
+
+        try {
+            state.snapshotChecksum = FileUtil.computeChecksum(filePath);
+            state.isJournalCurrent = replay(journalPath, state);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return state;
+    }
+
+    /**
+     * Applies the records of the journal at {@code journalPath} to {@code state}.
+     * A journal that does not start from the snapshot in {@code state} is ignored, and so is an incomplete last
+     * record left by an interrupted save.
+     *
+     * @return true if the whole journal was applied, so that further records can be appended to it.
+     */
+    private static boolean replay(Path journalPath, JournalState state) throws IOException, DataLoadingException {
+        List<String> lines = Files.readAllLines(journalPath, UTF_8);
+        if (lines.isEmpty() || !isBaseRecord(lines.get(0), state.snapshotChecksum)) {
+            logger.warning("Journal " + journalPath + " does not match its snapshot and is ignored.");
+            return false;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last record of journal " + journalPath);
+                    return false;
+                }
+                throw new DataLoadingException(e);
+            }
+
+            try {
+                state.apply(record);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBaseRecord(String line, String snapshotChecksum) {
+        try {
+            JsonAdaptedJournalRecord record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+            return record.getOperation() == JsonAdaptedJournalRecord.Operation.BASE
+                    && record.getSnapshotChecksum().equals(snapshotChecksum);
+        } catch (IOException | IllegalValueException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        if (savedState == null || !savedState.isJournalCurrent) {
+            writeSnapshot(addressBook);
+            return;
+        }
+
+        List<Person> changedPersons = new ArrayList<>();
+        List<Person> removedPersons = new ArrayList<>();
+        List<TimedEvent> changedTimedEvents = new ArrayList<>();
+        List<TimedEvent> removedTimedEvents = new ArrayList<>();
+        boolean isOrderKept = findChanges(savedState.persons, addressBook.getPersonList(), Person::getStudentId,
+                Person::hasSameDetails, changedPersons, removedPersons)
+                && findChanges(savedState.timedEvents, addressBook.getTimedEventList(), TimedEvent::getIdentity,
+                        TimedEvent::equals, changedTimedEvents, removedTimedEvents);
+        if (!isOrderKept) {
+            // Replaying puts and removals cannot reorder the snapshot, so a reordered address book is rewritten
+            writeSnapshot(addressBook);
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        for (Person person : removedPersons) {
+            appendRecord(records, JsonAdaptedJournalRecord.removePerson(person.getStudentId()));
+        }
+        for (Person person : changedPersons) {
+            appendRecord(records, JsonAdaptedJournalRecord.putPerson(person));
+        }
+        for (TimedEvent timedEvent : removedTimedEvents) {
+            appendRecord(records, JsonAdaptedJournalRecord.removeTimedEvent(timedEvent));
+        }
+        for (TimedEvent timedEvent : changedTimedEvents) {
+            appendRecord(records, JsonAdaptedJournalRecord.putTimedEvent(timedEvent));
+        }
+        if (records.length() == 0) {
+            return;
+        }
+
+        JournalState state = savedState;
+        savedState = null;
+        long journalSize = writeJournal(records.toString(), StandardOpenOption.APPEND);
+        removedPersons.forEach(person -> state.persons.remove(person.getStudentId()));
+        changedPersons.forEach(person -> state.persons.put(person.getStudentId(), person.copy()));
+        removedTimedEvents.forEach(timedEvent -> state.timedEvents.remove(timedEvent.getIdentity()));
+        changedTimedEvents.forEach(timedEvent -> state.timedEvents.put(timedEvent.getIdentity(), timedEvent));
+        savedState = state;
+
+        if (journalSize > compactionThreshold && (compaction == null || compaction.isDone())) {
+            compaction = compactor.submit(this::compact);
+        }
+    }
+
+    /**
+     * Finds the values of {@code current} that were added or changed since {@code saved}, and the values of
+     * {@code saved} that were removed.
+     *
+     * @return false if {@code current} is not {@code saved} with removed values left out and added values appended,
+     *     in which case the changes found are incomplete.
+     */
+    private static <K, V> boolean findChanges(Map<K, V> saved, List<V> current, Function<V, K> keyOf,
+            BiPredicate<V, V> isUnchanged, List<V> changed, List<V> removed) {
+        Map<K, V> currentByKey = new HashMap<>();
+        current.forEach(value -> currentByKey.put(keyOf.apply(value), value));
+
+        int index = 0;
+        for (Map.Entry<K, V> entry : saved.entrySet()) {
+            V currentValue = currentByKey.get(entry.getKey());
+            if (currentValue == null) {
+                removed.add(entry.getValue());
+                continue;
+            }
+            if (current.get(index) != currentValue) {
+                return false;
+            }
+            index++;
+            if (!isUnchanged.test(entry.getValue(), currentValue)) {
+                changed.add(currentValue);
+            }
+        }
+        changed.addAll(current.subList(index, current.size()));
+        return true;
+    }
+
+    private static void appendRecord(StringBuilder records, JsonAdaptedJournalRecord record) throws IOException {
+        records.append(JsonUtil.toCompactJsonString(record)).append('\n');
+    }
+
+    /**
+     * Writes {@code text} to the journal, opened with {@code mode}, and returns the new size of the journal.
+     */
+    private long writeJournal(String text, OpenOption mode) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, mode)) {
+            ByteBuffer buffer = UTF_8.encode(text);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (syncPolicy == SyncPolicy.EVERY_SAVE) {
+                channel.force(false);
+            }
+            return channel.size();
+        }
+    }
+
+    /**
+     * Returns the path of the temporary file that a new snapshot for {@code filePath} is written to.
+     * It is compressed when written if the snapshot at {@code filePath} is.
+     */
+    private static Path getTemporaryPath(Path filePath) {
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_SUFFIX);
+        return JsonUtil.isCompressedPath(filePath)
+                ? JsonAddressBookStorage.getCompressedFilePath(temporaryPath)
+                : temporaryPath;
+    }
+
+    /**
+     * Replaces the snapshot with {@code addressBook} and starts a new, empty journal for it.
+     * The new snapshot is written to a temporary file first, so an interrupted write leaves the old snapshot
+     * and journal in place.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        savedState = null;
+        Path temporaryPath = getTemporaryPath(filePath);
+        snapshotStorage.saveAddressBook(addressBook, temporaryPath);
+        if (syncPolicy == SyncPolicy.EVERY_SAVE) {
+            try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+        }
+        String snapshotChecksum = FileUtil.computeChecksum(temporaryPath);
+        try {
+            Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        // Until the journal is restarted, its base record does not match the new snapshot and it is ignored
+        StringBuilder baseRecord = new StringBuilder();
+        appendRecord(baseRecord, JsonAdaptedJournalRecord.base(snapshotChecksum));
+        writeJournal(baseRecord.toString(), StandardOpenOption.TRUNCATE_EXISTING);
+
+        JournalState state = JournalState.of(addressBook);
+        state.snapshotChecksum = snapshotChecksum;
+        state.isJournalCurrent = true;
+        savedState = state;
+    }
+
+    /**
+     * Folds the journal into a new snapshot. Runs on the compactor thread.
+     */
+    private synchronized void compact() {
+        if (savedState == null || !savedState.isJournalCurrent) {
+            return;
+        }
+
+        try {
+            if (!savedState.snapshotChecksum.equals(FileUtil.computeChecksum(filePath))) {
+                // The snapshot was replaced by another writer, so the journal no longer applies to it
+                savedState.isJournalCurrent = false;
+                return;
+            }
+            logger.fine("Compacting journal " + journalPath);
+            writeSnapshot(savedState.toAddressBook());
+        } catch (IOException e) {
+            logger.warning("Failed to compact journal " + journalPath + " " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Blocks until the compaction started by the last save, if any, has finished.
+     */
+    void waitForCompaction() throws InterruptedException, ExecutionException {
+        Future<?> lastCompaction;
+        synchronized (this) {
+            lastCompaction = compaction;
+        }
+        if (lastCompaction != null) {
+            lastCompaction.get();
+        }
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a path other than this storage's own writes a plain snapshot without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            saveAddressBook(addressBook);
+        } else {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * The persons and timed events of an address book in their stored order, keyed by student ID and identity.
+     * Persons are copies, so they are unaffected by later changes to the model's timed event lists.
+     */
+    private static class JournalState {
+        private final Map<StudentId, Person> persons = new LinkedHashMap<>();
+        private final Map<TimedEventIdentity, TimedEvent> timedEvents = new LinkedHashMap<>();
+        private String snapshotChecksum;
+        private boolean isJournalCurrent;
+
+        static JournalState of(ReadOnlyAddressBook addressBook) {
+            JournalState state = new JournalState();
+            addressBook.getPersonList().forEach(person -> state.persons.put(person.getStudentId(), person.copy()));
+            addressBook.getTimedEventList().forEach(event -> state.timedEvents.put(event.getIdentity(), event));
+            return state;
+        }
+
+        /**
+         * Applies the change recorded in {@code record}.
+         *
+         * @throws IllegalValueException if the record is not a change or its values are invalid.
+         */
+        void apply(JsonAdaptedJournalRecord record) throws IllegalValueException {
+            switch (record.getOperation()) {
+            case PUT_PERSON:
+                Person person = record.toModelPerson();
+                persons.put(person.getStudentId(), person);
+                break;
+            case REMOVE_PERSON:
+                persons.remove(record.toModelStudentId());
+                break;
+            case PUT_TIMED_EVENT:
+                TimedEvent timedEvent = record.toModelTimedEvent();
+                timedEvents.put(timedEvent.getIdentity(), timedEvent);
+                break;
+            case REMOVE_TIMED_EVENT:
+                timedEvents.remove(record.toModelTimedEvent().getIdentity());
+                break;
+            default:
+                throw new IllegalValueException("Unexpected journal record: " + record.getOperation());
+            }
+        }
+
+        /**
+         * Returns a new {@code AddressBook} with copies of the persons and timed events in this state.
+         */
+        AddressBook toAddressBook() {
+            List<Person> personCopies = new ArrayList<>(persons.size());
+            persons.values().forEach(person -> personCopies.add(person.copy()));
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(personCopies);
+            addressBook.setTimedEvents(new ArrayList<>(timedEvents.values()));
+            return addressBook;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package tassist.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tassist.address.commons.exceptions.IllegalValueException;
+import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
+import tassist.address.model.timedevents.TimedEvent;
+
+/**
+ * Jackson-friendly version of one change recorded in the journal of a {@link JournalAddressBookStorage}.
+ * Only the fields used by the record's operation are written.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+
+    /**
+     * The kinds of journal records.
+     */
+    enum Operation {
+        /** Starts a journal and names the snapshot that its changes apply to. */
+        BASE,
+        /** Adds a person, or replaces the person with the same student ID. */
+        PUT_PERSON,
+        REMOVE_PERSON,
+        /** Adds a timed event, or replaces the timed event with the same identity. */
+        PUT_TIMED_EVENT,
+        REMOVE_TIMED_EVENT
+    }
+
+    private final Operation operation;
+    private final String snapshotChecksum;
+    private final String studentId;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedTimedEvent timedEvent;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("operation") Operation operation,
+            @JsonProperty("snapshotChecksum") String snapshotChecksum,
+            @JsonProperty("studentId") String studentId,
+            @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("timedEvent") JsonAdaptedTimedEvent timedEvent) {
+        this.operation = operation;
+        this.snapshotChecksum = snapshotChecksum;
+        this.studentId = studentId;
+        this.person = person;
+        this.timedEvent = timedEvent;
+    }
+
+    /**
+     * Returns the record that starts a journal for the snapshot with the given checksum.
+     */
+    public static JsonAdaptedJournalRecord base(String snapshotChecksum) {
+        return new JsonAdaptedJournalRecord(Operation.BASE, snapshotChecksum, null, null, null);
+    }
+
+    public static JsonAdaptedJournalRecord putPerson(Person person) {
+        return new JsonAdaptedJournalRecord(Operation.PUT_PERSON, null, null, new JsonAdaptedPerson(person), null);
+    }
+
+    public static JsonAdaptedJournalRecord removePerson(StudentId studentId) {
+        return new JsonAdaptedJournalRecord(Operation.REMOVE_PERSON, null, studentId.value, null, null);
+    }
+
+    public static JsonAdaptedJournalRecord putTimedEvent(TimedEvent timedEvent) {
+        return new JsonAdaptedJournalRecord(Operation.PUT_TIMED_EVENT, null, null, null,
+                new JsonAdaptedTimedEvent(timedEvent));
+    }
+
+    public static JsonAdaptedJournalRecord removeTimedEvent(TimedEvent timedEvent) {
+        return new JsonAdaptedJournalRecord(Operation.REMOVE_TIMED_EVENT, null, null, null,
+                new JsonAdaptedTimedEvent(timedEvent));
+    }
+
+    /**
+     * Returns the operation of this record.
+     *
+     * @throws IllegalValueException if the record has no operation.
+     */
+    public Operation getOperation() throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+        return operation;
+    }
+
+    /**
+     * Returns the checksum of the snapshot that a {@code BASE} record starts the journal for.
+     *
+     * @throws IllegalValueException if the record has no checksum.
+     */
+    public String getSnapshotChecksum() throws IllegalValueException {
+        if (snapshotChecksum == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "snapshotChecksum"));
+        }
+        return snapshotChecksum;
+    }
+
+    /**
+     * Converts the student ID of a {@code REMOVE_PERSON} record into the model's {@code StudentId} object.
+     *
+     * @throws IllegalValueException if the student ID is missing or invalid.
+     */
+    public StudentId toModelStudentId() throws IllegalValueException {
+        if (studentId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "studentId"));
+        }
+        if (!StudentId.isValidStudentId(studentId)) {
+            throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+        }
+        return new StudentId(studentId);
+    }
+
+    /**
+     * Converts the person of a {@code PUT_PERSON} record into the model's {@code Person} object.
+     *
+     * @throws IllegalValueException if the person is missing or any of its fields are invalid.
+     */
+    public Person toModelPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType();
+    }
+
+    /**
+     * Converts the timed event of a {@code PUT_TIMED_EVENT} or {@code REMOVE_TIMED_EVENT} record into the
+     * model's {@code TimedEvent} object.
+     *
+     * @throws IllegalValueException if the timed event is missing or any of its fields are invalid.
+     */
+    public TimedEvent toModelTimedEvent() throws IllegalValueException {
+        if (timedEvent == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "timedEvent"));
+        }
+        return timedEvent.toModelType();
+    }
+}
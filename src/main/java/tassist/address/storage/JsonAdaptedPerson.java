@@ -137,7 +137,7 @@ class JsonAdaptedPerson {
         if (!ClassNumber.isValidClassNumber(classNumber)) {
             throw new IllegalValueException(ClassNumber.MESSAGE_CONSTRAINTS);
         }
-        final ClassNumber modelClassNumber = new ClassNumber(classNumber);
+        final ClassNumber modelClassNumber = ClassNumber.of(classNumber);
 
         if (studentId == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -154,7 +154,7 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Github.class.getSimpleName()));
         }
 
-        final Github modelGithub = new Github(github);
+        final Github modelGithub = Github.of(github);
 
         if (projectTeam == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -164,7 +164,7 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(ProjectTeam.MESSAGE_CONSTRAINTS);
         }
 
-        final ProjectTeam modelProjectTeam = new ProjectTeam(projectTeam);
+        final ProjectTeam modelProjectTeam = ProjectTeam.of(projectTeam);
 
         if (repository == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -175,7 +175,7 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(Repository.MESSAGE_CONSTRAINTS);
         }
 
-        final Repository modelRepository = new Repository(repository);
+        final Repository modelRepository = Repository.of(repository);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
@@ -200,4 +200,28 @@ class JsonAdaptedPerson {
 
         return person;
     }
+
+    /**
+     * Similar to {@link #toModelType()}, but does not check the person's fields again.
+     * Only for persons read from a data file that has not changed since this app saved it.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted timed events.
+     */
+    public Person toTrustedModelType() throws IllegalValueException {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(Tag.of(tag.getTagName()));
+        }
+
+        Person person = new Person(Name.ofTrusted(name), Phone.ofTrusted(phone), Email.ofTrusted(email),
+                ClassNumber.of(classNumber), StudentId.ofTrusted(studentId), Github.ofTrusted(github),
+                ProjectTeam.of(projectTeam), Repository.ofTrusted(repository), modelTags,
+                Progress.ofTrusted(Integer.parseInt(progress)));
+
+        for (JsonAdaptedTimedEvent timedEvent : timedEvents) {
+            person.addTimedEvent(timedEvent.toModelType());
+        }
+
+        return person;
+    }
 }
@@ -0,0 +1,100 @@
+package tassist.address.storage;
+
+import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import tassist.address.commons.exceptions.IllegalValueException;
+import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s into {@code Person}s in parallel on the common fork-join pool, and checks
+ * them for duplicate student IDs as it goes.
+ *
+ * The persons of an address book may be converted in several batches, one after another. Errors are reported as
+ * converting the persons one at a time would report them: the first person, in file order, that is invalid or has
+ * the student ID of an earlier person decides the error, however the work was split between threads.
+ */
+class JsonAdaptedPersonConverter {
+
+    private static final int MIN_CHUNK_SIZE = 512;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final boolean isTrusted;
+    /** The position in the file of the first person converted with each student ID. */
+    private final Map<StudentId, Integer> firstPositions = new ConcurrentHashMap<>();
+    private int convertedCount;
+
+    /**
+     * Creates a converter that does not check the fields of each person again if {@code isTrusted}.
+     */
+    JsonAdaptedPersonConverter(boolean isTrusted) {
+        this.isTrusted = isTrusted;
+    }
+
+    /**
+     * Converts {@code adaptedPersons}, which come after every person converted so far, and adds them to
+     * {@code persons} in the same order.
+     *
+     * @throws IllegalValueException if one of them is invalid or has the student ID of an earlier person.
+     */
+    public void convert(List<JsonAdaptedPerson> adaptedPersons, List<Person> persons) throws IllegalValueException {
+        requireAllNonNull(adaptedPersons, persons);
+
+        int size = adaptedPersons.size();
+        int chunkSize = Math.max(MIN_CHUNK_SIZE,
+                size / (ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD) + 1);
+        int chunkCount = (size + chunkSize - 1) / chunkSize;
+        int firstPosition = convertedCount;
+        Person[] converted = new Person[size];
+        // The index at which each chunk failed, or the end of the chunk if it did not
+        int[] chunkEnds = new int[chunkCount];
+        IllegalValueException[] chunkErrors = new IllegalValueException[chunkCount];
+
+        IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+            int end = Math.min(size, (chunk + 1) * chunkSize);
+            for (int i = chunk * chunkSize; i < end; i++) {
+                try {
+                    JsonAdaptedPerson adaptedPerson = adaptedPersons.get(i);
+                    Person person = isTrusted ? adaptedPerson.toTrustedModelType() : adaptedPerson.toModelType();
+                    converted[i] = person;
+                    firstPositions.merge(person.getStudentId(), firstPosition + i, Math::min);
+                } catch (IllegalValueException e) {
+                    chunkEnds[chunk] = i;
+                    chunkErrors[chunk] = e;
+                    return;
+                }
+            }
+            chunkEnds[chunk] = end;
+        });
+
+        int failedIndex = size;
+        IllegalValueException error = null;
+        for (int chunk = 0; chunk < chunkCount && error == null; chunk++) {
+            if (chunkErrors[chunk] != null) {
+                failedIndex = chunkEnds[chunk];
+                error = chunkErrors[chunk];
+            }
+        }
+        // Only persons before the first invalid one would have been reached one at a time
+        OptionalInt duplicateIndex = IntStream.range(0, failedIndex).parallel()
+                .filter(i -> firstPositions.get(converted[i].getStudentId()) != firstPosition + i)
+                .findFirst();
+        if (duplicateIndex.isPresent()) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        if (error != null) {
+            throw error;
+        }
+
+        persons.addAll(Arrays.asList(converted));
+        convertedCount += size;
+    }
+}
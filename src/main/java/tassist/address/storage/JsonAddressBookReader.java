@@ -0,0 +1,136 @@
+package tassist.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import tassist.address.commons.exceptions.IllegalValueException;
+import tassist.address.commons.util.JsonUtil;
+import tassist.address.model.AddressBook;
+import tassist.address.model.person.Person;
+import tassist.address.model.person.exceptions.DuplicatePersonException;
+import tassist.address.model.timedevents.TimedEvent;
+import tassist.address.model.timedevents.exceptions.DuplicateTimedEventException;
+
+/**
+ * Reads an address book in the JSON format of {@link JsonSerializableAddressBook} one person or timed event at a
+ * time. Persons are converted into model objects in batches, each converted in parallel as soon as it is parsed.
+ *
+ * Unlike binding the whole file to a {@code JsonSerializableAddressBook}, this never holds the file contents or
+ * the full list of adapted persons in memory, so the memory used while loading is close to that of the loaded
+ * address book itself. The checks made and the messages reported are the same as those of
+ * {@link JsonSerializableAddressBook#toModelType()}.
+ */
+class JsonAddressBookReader {
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String TIMED_EVENTS_FIELD = "timedEvents";
+    private static final int PERSON_BATCH_SIZE = 8192;
+
+    private JsonAddressBookReader() {} // prevents instantiation
+
+    /**
+     * Reads the address book in the JSON file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not a JSON address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, false);
+    }
+
+    /**
+     * Similar to {@link #read(Path)}, but if {@code isTrusted}, the fields of each person are not checked again.
+     * Only trust a file that has not changed since this app saved it.
+     */
+    public static AddressBook read(Path filePath, boolean isTrusted) throws IOException, IllegalValueException {
+        Contents contents = readContents(filePath, isTrusted);
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(contents.persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        try {
+            addressBook.setTimedEvents(contents.timedEvents);
+        } catch (DuplicateTimedEventException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TIMED_EVENT);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Similar to {@link #read(Path, boolean)}, but returns the persons and timed events in the file without
+     * checking them for duplicates or building an address book from them.
+     */
+    public static Contents readContents(Path filePath, boolean isTrusted) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        Contents contents = new Contents();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            boolean hasPersons = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (PERSONS_FIELD.equals(field) && value != JsonToken.VALUE_NULL) {
+                    expectToken(parser, value, JsonToken.START_ARRAY);
+                    readPersons(parser, contents.persons, isTrusted);
+                    hasPersons = true;
+                } else if (TIMED_EVENTS_FIELD.equals(field) && value != JsonToken.VALUE_NULL) {
+                    expectToken(parser, value, JsonToken.START_ARRAY);
+                    readTimedEvents(parser, contents.timedEvents);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+            if (!hasPersons) {
+                throw new IOException("Address book in " + filePath + " has no persons list");
+            }
+        }
+        return contents;
+    }
+
+    private static void readPersons(JsonParser parser, List<Person> persons, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        JsonAdaptedPersonConverter converter = new JsonAdaptedPersonConverter(isTrusted);
+        List<JsonAdaptedPerson> batch = new ArrayList<>(PERSON_BATCH_SIZE);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+            if (batch.size() == PERSON_BATCH_SIZE) {
+                converter.convert(batch, persons);
+                batch.clear();
+            }
+        }
+        converter.convert(batch, persons);
+    }
+
+    private static void readTimedEvents(JsonParser parser, List<TimedEvent> timedEvents)
+            throws IOException, IllegalValueException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            timedEvents.add(parser.readValueAs(JsonAdaptedTimedEvent.class).toModelType());
+        }
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Expected " + expected + " but found " + actual + " at "
+                    + parser.getCurrentLocation());
+        }
+    }
+
+    /**
+     * The persons and timed events of an address book file, in the order they appear.
+     */
+    static class Contents {
+        final List<Person> persons = new ArrayList<>();
+        final List<TimedEvent> timedEvents = new ArrayList<>();
+    }
+}
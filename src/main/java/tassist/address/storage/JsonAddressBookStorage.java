@@ -3,6 +3,7 @@ package tassist.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -16,15 +17,48 @@ import tassist.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * A file whose name ends with {@code .gz} is written gzip-compressed, and a compressed file is read at any path.
+ *
+ * Each save of the storage's own file also writes the checksum of that file to a sidecar file. If the file still
+ * matches that checksum when it is next read, it has not been edited or replaced since, and its persons are loaded
+ * without checking their fields again.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String CHECKSUM_SUFFIX = ".checksum";
+    private static final String COMPRESSED_SUFFIX = ".gz";
+
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath} that writes indented JSON if {@code isPrettyPrinted},
+     * or JSON without any whitespace otherwise.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    /**
+     * Returns the path of the file that holds the checksum of the address book saved at {@code filePath}.
+     */
+    public static Path getChecksumPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CHECKSUM_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the gzip-compressed file kept in place of the JSON file at {@code filePath}.
+     * Files at that path are compressed when written; see {@link JsonUtil#isCompressedPath(Path)}.
+     */
+    public static Path getCompressedFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPRESSED_SUFFIX);
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +79,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(JsonAddressBookReader.read(filePath, isUnchangedSinceSave(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -74,7 +110,33 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonAddressBookWriter.write(addressBook, filePath, isPrettyPrinted);
+        // Other paths are exports and temporary files, which are never read back through the trusted path
+        if (filePath.equals(this.filePath)) {
+            writeChecksum(filePath);
+        }
+    }
+
+    /**
+     * Writes the checksum of the file at {@code filePath} beside it, so that it can be trusted when read back.
+     */
+    static void writeChecksum(Path filePath) throws IOException {
+        FileUtil.writeToFile(getChecksumPath(filePath), FileUtil.computeChecksum(filePath));
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} matches the checksum written when it was last saved.
+     */
+    static boolean isUnchangedSinceSave(Path filePath) throws IOException {
+        Path checksumPath = getChecksumPath(filePath);
+        if (!Files.exists(checksumPath)) {
+            return false;
+        }
+        boolean isUnchanged = FileUtil.readFromFile(checksumPath).trim().equals(FileUtil.computeChecksum(filePath));
+        if (!isUnchanged) {
+            logger.info("JSON file " + filePath + " has changed since it was saved and will be checked in full.");
+        }
+        return isUnchanged;
     }
 
 }
@@ -0,0 +1,68 @@
+package tassist.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import tassist.address.commons.util.JsonUtil;
+import tassist.address.model.ReadOnlyAddressBook;
+import tassist.address.model.person.Person;
+import tassist.address.model.timedevents.TimedEvent;
+
+/**
+ * Writes an address book in the JSON format of {@link JsonSerializableAddressBook} one person or timed event at a
+ * time, straight to the file.
+ *
+ * Unlike converting the address book to a {@code JsonSerializableAddressBook} and then to a {@code String}, this
+ * never holds the whole document in memory, so the memory used while saving does not grow with the size of the
+ * file. Pretty-printed output is identical to that of {@link JsonUtil#saveJsonFile(Object, Path)}.
+ */
+class JsonAddressBookWriter {
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String TIMED_EVENTS_FIELD = "timedEvents";
+
+    private JsonAddressBookWriter() {} // prevents instantiation
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath}, replacing its contents.
+     *
+     * @param isPrettyPrinted whether to break lines and indent the output, which makes the file easier to edit by
+     *     hand but larger.
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isPrettyPrinted)
+            throws IOException {
+        requireNonNull(addressBook);
+        write(addressBook.getPersonList(), addressBook.getTimedEventList(), filePath, isPrettyPrinted);
+    }
+
+    /**
+     * Similar to {@link #write(ReadOnlyAddressBook, Path, boolean)}, but writes an address book of just
+     * {@code persons} and {@code timedEvents}.
+     */
+    public static void write(List<Person> persons, List<TimedEvent> timedEvents, Path filePath,
+            boolean isPrettyPrinted) throws IOException {
+        requireAllNonNull(persons, timedEvents, filePath);
+
+        try (JsonGenerator generator = JsonUtil.createGenerator(filePath, isPrettyPrinted)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : persons) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart(TIMED_EVENTS_FIELD);
+            for (TimedEvent timedEvent : timedEvents) {
+                generator.writeObject(new JsonAdaptedTimedEvent(timedEvent));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
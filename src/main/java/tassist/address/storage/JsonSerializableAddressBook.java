@@ -55,14 +55,10 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        new JsonAdaptedPersonConverter(false).convert(persons, modelPersons);
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-        }
+        addressBook.setPersons(modelPersons);
         for (JsonAdaptedTimedEvent jsonAdaptedTimedEvent : timedEvents) {
             TimedEvent timedEvent = jsonAdaptedTimedEvent.toModelType();
             if (addressBook.hasTimedEvent(timedEvent)) {
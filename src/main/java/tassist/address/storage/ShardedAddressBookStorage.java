@@ -0,0 +1,375 @@
+package tassist.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import tassist.address.commons.core.LogsCenter;
+import tassist.address.commons.exceptions.DataLoadingException;
+import tassist.address.commons.exceptions.IllegalValueException;
+import tassist.address.model.AddressBook;
+import tassist.address.model.AddressBookVersions;
+import tassist.address.model.ReadOnlyAddressBook;
+import tassist.address.model.person.ClassNumber;
+import tassist.address.model.person.Person;
+import tassist.address.model.timedevents.TimedEvent;
+import tassist.address.model.timedevents.exceptions.DuplicateTimedEventException;
+
+/**
+ * A class to access AddressBook data stored as a directory of JSON files on the hard disk, one for the persons of
+ * each class, one for the timed events and one for the order of the persons.
+ *
+ * A save rewrites only the files whose part of the address book changed since the last read or save, as told by
+ * {@link AddressBookVersions}, and writes them in parallel. A read loads every file in parallel and merges them.
+ * Each file is written in the format of {@link JsonSerializableAddressBook}, with a checksum beside it, so an
+ * unchanged file is loaded without checking its persons again.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String JSON_EXTENSION = ".json";
+    private static final String SHARDS_EXTENSION = ".shards";
+    private static final String CLASSES_DIRECTORY = "classes";
+    private static final String UNASSIGNED_CLASS_FILE = "unassigned" + JSON_EXTENSION;
+    private static final String TIMED_EVENTS_FILE = "timedEvents" + JSON_EXTENSION;
+    private static final String ORDER_FILE = "order.txt";
+
+    private static final int THREAD_COUNT = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+    private static final ExecutorService SHARD_EXECUTOR = Executors.newFixedThreadPool(THREAD_COUNT, runnable -> {
+        Thread thread = new Thread(runnable, "address-book-shard-io");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path directory;
+    private final boolean isPrettyPrinted;
+
+    /** The versions of the address book last read from or saved to the directory, or null if unknown. */
+    private AddressBookVersions savedVersions;
+
+    public ShardedAddressBookStorage(Path directory) {
+        this(directory, true);
+    }
+
+    /**
+     * Creates a storage for the directory at {@code directory} that writes indented JSON if
+     * {@code isPrettyPrinted}, or JSON without any whitespace otherwise.
+     */
+    public ShardedAddressBookStorage(Path directory, boolean isPrettyPrinted) {
+        requireNonNull(directory);
+        this.directory = directory;
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    /**
+     * Returns the path of the directory of shards kept in place of the JSON file at {@code jsonFilePath}, which is
+     * the same path with its {@code .json} extension replaced by {@code .shards}.
+     */
+    public static Path getShardDirectory(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + SHARDS_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the file that holds the persons of class {@code classNumber} in {@code directory}.
+     */
+    static Path getClassFilePath(Path directory, ClassNumber classNumber) {
+        String fileName = ClassNumber.DEFAULT_CLASS.equals(classNumber.value)
+                ? UNASSIGNED_CLASS_FILE
+                : classNumber.value + JSON_EXTENSION;
+        return directory.resolve(CLASSES_DIRECTORY).resolve(fileName);
+    }
+
+    public Path getAddressBookFilePath() {
+        return directory;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(directory);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A regular file is read as a JSON address book instead.
+     *
+     * @param directory location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path directory) throws DataLoadingException {
+        requireNonNull(directory);
+
+        if (!Files.exists(directory)) {
+            return Optional.empty();
+        }
+        if (!Files.isDirectory(directory)) {
+            return new JsonAddressBookStorage(directory).readAddressBook(directory);
+        }
+        logger.info("Shard directory " + directory + " found.");
+
+        boolean isOwnDirectory = directory.equals(this.directory);
+        if (isOwnDirectory) {
+            savedVersions = null;
+        }
+        try {
+            AddressBook addressBook = load(directory);
+            if (isOwnDirectory) {
+                savedVersions = addressBook.getVersions().orElse(null);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from shard directory " + directory + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directory);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Every shard is written unless {@code directory} is this storage's own directory.
+     *
+     * @param directory location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path directory) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directory);
+
+        boolean isOwnDirectory = directory.equals(this.directory);
+        AddressBookVersions versions = addressBook.getVersions().orElse(null);
+        AddressBookVersions previousVersions = isOwnDirectory ? savedVersions : null;
+        boolean isWrittenInFull = versions == null || previousVersions == null;
+        // Until this save completes, the files on disk may match neither the previous nor the new versions
+        if (isOwnDirectory) {
+            savedVersions = null;
+        }
+
+        Files.createDirectories(directory.resolve(CLASSES_DIRECTORY));
+        Map<ClassNumber, List<Person>> personsByClass = groupByClass(addressBook.getPersonList());
+        deleteRemovedClassFiles(directory, personsByClass.keySet());
+
+        List<Callable<Void>> writes = new ArrayList<>();
+        for (Map.Entry<ClassNumber, List<Person>> entry : personsByClass.entrySet()) {
+            if (isWrittenInFull || !versions.hasSameClass(previousVersions, entry.getKey())) {
+                Path classFilePath = getClassFilePath(directory, entry.getKey());
+                writes.add(() -> writeShard(entry.getValue(), List.of(), classFilePath, isOwnDirectory));
+            }
+        }
+        if (isWrittenInFull || !versions.hasSameTimedEvents(previousVersions)) {
+            List<TimedEvent> timedEvents = new ArrayList<>(addressBook.getTimedEventList());
+            Path timedEventsPath = directory.resolve(TIMED_EVENTS_FILE);
+            writes.add(() -> writeShard(List.of(), timedEvents, timedEventsPath, isOwnDirectory));
+        }
+        if (isWrittenInFull || !versions.hasSamePersonOrder(previousVersions)) {
+            List<String> studentIds = new ArrayList<>();
+            addressBook.getPersonList().forEach(person -> studentIds.add(person.getStudentId().value));
+            writes.add(() -> {
+                Files.write(directory.resolve(ORDER_FILE), studentIds, StandardCharsets.UTF_8);
+                return null;
+            });
+        }
+        logger.fine("Writing " + writes.size() + " shards to " + directory);
+        try {
+            awaitAll(submitAll(writes));
+        } catch (IllegalValueException e) {
+            throw new AssertionError("Writing shards does not check values", e);
+        }
+
+        if (isOwnDirectory) {
+            savedVersions = versions;
+        }
+    }
+
+    /**
+     * Returns the persons in {@code persons} grouped by their class, each group in the order of {@code persons}.
+     */
+    private static Map<ClassNumber, List<Person>> groupByClass(List<Person> persons) {
+        Map<ClassNumber, List<Person>> personsByClass = new LinkedHashMap<>();
+        for (Person person : persons) {
+            personsByClass.computeIfAbsent(person.getClassNumber(), classNumber -> new ArrayList<>()).add(person);
+        }
+        return personsByClass;
+    }
+
+    /**
+     * Deletes the files in {@code directory} of classes that are not in {@code classNumbers}, along with their
+     * checksums.
+     */
+    private static void deleteRemovedClassFiles(Path directory, Set<ClassNumber> classNumbers) throws IOException {
+        Set<Path> classFilePaths = new HashSet<>();
+        classNumbers.forEach(classNumber -> classFilePaths.add(getClassFilePath(directory, classNumber)));
+        for (Path classFilePath : listClassFiles(directory)) {
+            if (!classFilePaths.contains(classFilePath)) {
+                Files.delete(classFilePath);
+                Files.deleteIfExists(JsonAddressBookStorage.getChecksumPath(classFilePath));
+            }
+        }
+    }
+
+    private Void writeShard(List<Person> persons, List<TimedEvent> timedEvents, Path filePath, boolean hasChecksum)
+            throws IOException {
+        JsonAddressBookWriter.write(persons, timedEvents, filePath, isPrettyPrinted);
+        if (hasChecksum) {
+            JsonAddressBookStorage.writeChecksum(filePath);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the address book in the shards in {@code directory}.
+     * If several shards cannot be read, the error of the first one, in the order of their file names, is thrown.
+     */
+    private static AddressBook load(Path directory) throws IOException, IllegalValueException {
+        List<Path> shardPaths = listClassFiles(directory);
+        Path timedEventsPath = directory.resolve(TIMED_EVENTS_FILE);
+        if (Files.exists(timedEventsPath)) {
+            shardPaths.add(timedEventsPath);
+        }
+
+        List<Callable<JsonAddressBookReader.Contents>> reads = new ArrayList<>();
+        for (Path shardPath : shardPaths) {
+            reads.add(() -> JsonAddressBookReader.readContents(shardPath,
+                    JsonAddressBookStorage.isUnchangedSinceSave(shardPath)));
+        }
+        List<JsonAddressBookReader.Contents> shards = awaitAll(submitAll(reads));
+
+        Map<String, Person> personsByStudentId = new LinkedHashMap<>();
+        List<TimedEvent> timedEvents = new ArrayList<>();
+        for (JsonAddressBookReader.Contents shard : shards) {
+            for (Person person : shard.persons) {
+                if (personsByStudentId.putIfAbsent(person.getStudentId().value, person) != null) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+            }
+            timedEvents.addAll(shard.timedEvents);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(orderPersons(directory, personsByStudentId));
+        try {
+            addressBook.setTimedEvents(timedEvents);
+        } catch (DuplicateTimedEventException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TIMED_EVENT);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the persons in {@code personsByStudentId} in the order kept in {@code directory}.
+     * Persons missing from that order, such as those added to a shard by hand, come last.
+     */
+    private static List<Person> orderPersons(Path directory, Map<String, Person> personsByStudentId)
+            throws IOException {
+        Path orderPath = directory.resolve(ORDER_FILE);
+        if (!Files.exists(orderPath)) {
+            return new ArrayList<>(personsByStudentId.values());
+        }
+        Map<String, Person> unorderedPersons = new HashMap<>(personsByStudentId);
+        List<Person> persons = new ArrayList<>(personsByStudentId.size());
+        for (String studentId : Files.readAllLines(orderPath, StandardCharsets.UTF_8)) {
+            Person person = unorderedPersons.remove(studentId);
+            if (person != null) {
+                persons.add(person);
+            }
+        }
+        for (Person person : personsByStudentId.values()) {
+            if (unorderedPersons.containsKey(person.getStudentId().value)) {
+                persons.add(person);
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the class files in {@code directory}, sorted by file name.
+     */
+    private static List<Path> listClassFiles(Path directory) throws IOException {
+        List<Path> classFilePaths = new ArrayList<>();
+        Path classesDirectory = directory.resolve(CLASSES_DIRECTORY);
+        if (!Files.isDirectory(classesDirectory)) {
+            return classFilePaths;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(classesDirectory, "*" + JSON_EXTENSION)) {
+            stream.forEach(classFilePaths::add);
+        }
+        classFilePaths.sort(null);
+        return classFilePaths;
+    }
+
+    private static <T> List<Future<T>> submitAll(List<Callable<T>> tasks) {
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(SHARD_EXECUTOR.submit(task));
+        }
+        return futures;
+    }
+
+    /**
+     * Waits for every one of {@code futures} and returns their results in order.
+     * All of them are waited for even if some fail, so that no file is still being written or read afterwards;
+     * then the error of the first that failed is thrown.
+     */
+    private static <T> List<T> awaitAll(List<Future<T>> futures) throws IOException, IllegalValueException {
+        List<T> results = new ArrayList<>(futures.size());
+        Throwable firstError = null;
+        boolean isInterrupted = false;
+        for (Future<T> future : futures) {
+            while (true) {
+                try {
+                    results.add(future.get());
+                    break;
+                } catch (ExecutionException e) {
+                    firstError = firstError == null ? e.getCause() : firstError;
+                    break;
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (firstError instanceof IOException) {
+            throw (IOException) firstError;
+        } else if (firstError instanceof IllegalValueException) {
+            throw (IllegalValueException) firstError;
+        } else if (firstError instanceof RuntimeException) {
+            throw (RuntimeException) firstError;
+        } else if (firstError instanceof Error) {
+            throw (Error) firstError;
+        } else if (isInterrupted) {
+            throw new InterruptedIOException("Interrupted while waiting for shards");
+        }
+        return results;
+    }
+}
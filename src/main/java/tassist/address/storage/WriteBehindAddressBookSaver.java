@@ -0,0 +1,112 @@
+package tassist.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import tassist.address.commons.core.LogsCenter;
+import tassist.address.commons.util.StringUtil;
+import tassist.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address book snapshots on a single background thread, so that callers do not wait for the file to be
+ * written.
+ *
+ * Snapshots submitted while a write is in progress are coalesced: only the latest one is written once the
+ * current write finishes. Failed writes are reported to the failure handler on the writer thread.
+ */
+public class WriteBehindAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+    private volatile Consumer<IOException> failureHandler = e -> { };
+    private Future<?> lastWrite;
+
+    /**
+     * Creates a saver that writes snapshots to {@code storage}.
+     */
+    public WriteBehindAddressBookSaver(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler that is called, on the writer thread, with the exception of each failed write.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be written. {@code snapshot} must not be modified afterwards.
+     * If an earlier snapshot has not been written yet, it is replaced by {@code snapshot}.
+     */
+    public synchronized void submit(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            lastWrite = writer.submit(this::writePendingSnapshot);
+        }
+    }
+
+    private void writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            storage.saveAddressBook(snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Blocks until every submitted snapshot has been written or has failed.
+     */
+    public void flush() {
+        Future<?> write;
+        synchronized (this) {
+            write = lastWrite;
+        }
+        if (write == null) {
+            return;
+        }
+        try {
+            write.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Address book writer failed " + StringUtil.getDetails(e.getCause()));
+        }
+    }
+
+    /**
+     * Writes any pending snapshot and stops the writer thread.
+     */
+    public void shutdown() {
+        flush();
+        writer.shutdown();
+        try {
+            writer.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -3,10 +3,9 @@ package tassist.address.ui;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
-import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -44,19 +43,15 @@ public class CalendarView extends UiPart<Region> {
 
     /**
      * Updates the calendar view with the given list of timed events.
+     * {@code events} must be in time order, as returned by {@code Logic#getTimedEventsInTimeOrder()}.
      */
     public void updateEvents(List<TimedEvent> events) {
         calendarGrid.getChildren().clear();
 
-        // Sort events by date
-        List<TimedEvent> sortedEvents = events.stream()
-                .sorted((e1, e2) -> e1.getTime().compareTo(e2.getTime()))
-                .collect(Collectors.toList());
+        // Group events by date; the events are already in time order, so insertion order is chronological
+        Map<LocalDateTime, List<TimedEvent>> eventsByDate = new LinkedHashMap<>();
 
-        // Group events by date using a TreeMap with custom comparator for chronological order
-        Map<LocalDateTime, List<TimedEvent>> eventsByDate = new TreeMap<>((d1, d2) -> d1.compareTo(d2));
-
-        for (TimedEvent event : sortedEvents) {
+        for (TimedEvent event : events) {
             LocalDateTime eventDate = event.getTime().toLocalDate().atStartOfDay();
             eventsByDate.computeIfAbsent(eventDate, k -> new ArrayList<>()).add(event);
         }
@@ -66,9 +61,6 @@ public class CalendarView extends UiPart<Region> {
             String date = entry.getKey().format(DATE_FORMATTER);
             List<TimedEvent> dayEvents = entry.getValue();
 
-            // Sort events within the day by time
-            dayEvents.sort((e1, e2) -> e1.getTime().compareTo(e2.getTime()));
-
             // Create a column for this date
             VBox dateColumn = new VBox(10);
             dateColumn.getStyleClass().add("calendar-date-column");
@@ -128,11 +120,9 @@ public class CalendarView extends UiPart<Region> {
     }
 
     /**
-     * Gets the list of persons assigned to a timed event.
+     * Gets the list of persons in the filtered person list that are assigned to a timed event.
      */
     private List<Person> getAssignedPersons(TimedEvent event) {
-        return logic.getFilteredPersonList().stream()
-                .filter(person -> person.hasTimedEvent(event))
-                .collect(Collectors.toList());
+        return logic.getFilteredAssignedPersons(event);
     }
 }
@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Scene;
@@ -150,11 +151,15 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        calendarView = new CalendarView(logic.getTimedEventList(), logic);
+        calendarView = new CalendarView(logic.getTimedEventsInTimeOrder(), logic);
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.setJobHandlers(Platform::runLater,
+                status -> Platform.runLater(() -> statusBarFooter.setJobStatus(status)),
+                this::handleJobResult);
 
         commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -231,6 +236,19 @@ public class MainWindow extends UiPart<Stage> {
         return personListPanel;
     }
 
+    /**
+     * Shows the result of an import or export that finished in the background.
+     */
+    private void handleJobResult(String message) {
+        logger.info("Background job result: " + message);
+        resultDisplay.setFeedbackToUser(message);
+
+        // Refresh calendar view if it's visible
+        if (calendarViewPlaceholder.isVisible()) {
+            calendarView.updateEvents(logic.getTimedEventsInTimeOrder());
+        }
+    }
+
     /**
      * Executes the command and returns the result.
      *
@@ -244,7 +262,7 @@ public class MainWindow extends UiPart<Stage> {
 
             // Refresh calendar view if it's visible
             if (calendarViewPlaceholder.isVisible()) {
-                calendarView.updateEvents(logic.getTimedEventList());
+                calendarView.updateEvents(logic.getTimedEventsInTimeOrder());
             }
 
             if (commandResult.isShowHelp()) {
@@ -319,7 +337,7 @@ public class MainWindow extends UiPart<Stage> {
             calendarViewPlaceholder.getChildren().clear();
             calendarViewPlaceholder.getChildren().add(calendarView.getRoot());
             // Refresh the events in calendar view
-            calendarView.updateEvents(logic.getTimedEventList());
+            calendarView.updateEvents(logic.getTimedEventsInTimeOrder());
             // Request focus on command box
             commandBox.requestFocus();
         }
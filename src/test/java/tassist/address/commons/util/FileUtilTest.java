@@ -1,13 +1,23 @@
 package tassist.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tassist.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,58 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void computeChecksum() throws Exception {
+        Path file = testFolder.resolve("checksum.txt");
+
+        // the standard CRC-32 check value
+        FileUtil.writeToFile(file, "123456789");
+        assertEquals("cbf43926", FileUtil.computeChecksum(file));
+
+        // any change to the contents changes the checksum
+        FileUtil.writeToFile(file, "123456780");
+        assertNotEquals("cbf43926", FileUtil.computeChecksum(file));
+    }
+
+    @Test
+    public void isNewer() throws Exception {
+        Path older = testFolder.resolve("older.txt");
+        Path newer = testFolder.resolve("newer.txt");
+        Path missing = testFolder.resolve("missing.txt");
+        FileUtil.writeToFile(older, "older");
+        FileUtil.writeToFile(newer, "newer");
+        Files.setLastModifiedTime(older, FileTime.fromMillis(1_000_000));
+        Files.setLastModifiedTime(newer, FileTime.fromMillis(2_000_000));
+
+        assertTrue(FileUtil.isNewer(newer, older));
+        assertFalse(FileUtil.isNewer(older, newer));
+        assertFalse(FileUtil.isNewer(older, older));
+
+        // a missing target is older than any source, and a missing source is never newer
+        assertTrue(FileUtil.isNewer(older, missing));
+        assertFalse(FileUtil.isNewer(missing, older));
+        assertFalse(FileUtil.isNewer(missing, missing));
+    }
+
+    @Test
+    public void isNewer_directory_newestFileInside() throws Exception {
+        Path directory = testFolder.resolve("directory");
+        Path file = directory.resolve("nested").resolve("file.txt");
+        Path other = testFolder.resolve("other.txt");
+        FileUtil.createFile(file);
+        FileUtil.writeToFile(other, "other");
+        Files.setLastModifiedTime(directory, FileTime.fromMillis(1_000_000));
+        Files.setLastModifiedTime(directory.resolve("nested"), FileTime.fromMillis(1_000_000));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000));
+        Files.setLastModifiedTime(other, FileTime.fromMillis(2_000_000));
+
+        assertTrue(FileUtil.isNewer(other, directory));
+        assertFalse(FileUtil.isNewer(directory, other));
+
+        // rewriting a file deep inside makes the whole directory newer
+        Files.setLastModifiedTime(file, FileTime.fromMillis(3_000_000));
+        assertTrue(FileUtil.isNewer(directory, other));
+        assertFalse(FileUtil.isNewer(other, directory));
+    }
+
 }
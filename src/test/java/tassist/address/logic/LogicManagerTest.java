@@ -1,6 +1,9 @@
 package tassist.address.logic;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tassist.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static tassist.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static tassist.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
@@ -10,14 +13,19 @@ import static tassist.address.logic.commands.CommandTestUtil.REPOSITORY_DESC_AMY
 import static tassist.address.logic.commands.CommandTestUtil.STUDENTID_DESC_AMY;
 import static tassist.address.testutil.Assert.assertThrows;
 import static tassist.address.testutil.TypicalPersons.AMY;
+import static tassist.address.testutil.TypicalPersons.BOB;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,8 +33,11 @@ import org.junit.jupiter.api.io.TempDir;
 
 import tassist.address.logic.browser.BrowserService;
 import tassist.address.logic.commands.AddCommand;
+import tassist.address.logic.commands.CancelCommand;
 import tassist.address.logic.commands.CommandResult;
 import tassist.address.logic.commands.DeleteCommand;
+import tassist.address.logic.commands.ExportCommand;
+import tassist.address.logic.commands.ImportCommand;
 import tassist.address.logic.commands.ListCommand;
 import tassist.address.logic.commands.OpenCommand;
 import tassist.address.logic.commands.exceptions.CommandException;
@@ -153,17 +164,99 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureReportedForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureReportedForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_validCommand_savesAddressBookInBackground() throws Exception {
+        model.addPerson(new PersonBuilder(AMY).build());
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flushPendingSaves();
+        assertEquals(model.getAddressBook().getPersonList(),
+                addressBookStorage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        model.addPerson(new PersonBuilder(AMY).build());
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flushPendingSaves();
+        Path addressBookFilePath = addressBookStorage.getAddressBookFilePath();
+        Files.delete(addressBookFilePath);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flushPendingSaves();
+        assertFalse(Files.exists(addressBookFilePath));
+
+        model.deletePerson(AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flushPendingSaves();
+        assertTrue(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void execute_importCommand_commitsWhenJobFinishes() throws Exception {
+        BlockingQueue<Runnable> modelThread = new LinkedBlockingQueue<>();
+        List<String> statuses = new ArrayList<>();
+        List<String> results = new ArrayList<>();
+        logic.setJobHandlers(modelThread::add, statuses::add, results::add);
+        Path csvFilePath = TEST_CSV_PATH.toAbsolutePath();
+        String description = String.format(ImportCommand.MESSAGE_JOB_DESCRIPTION, csvFilePath);
+
+        CommandResult result = logic.execute(ImportCommand.COMMAND_WORD + " " + csvFilePath);
+        assertEquals(String.format(LogicManager.MESSAGE_JOB_STARTED, description), result.getFeedbackToUser());
+
+        // The job is running until its result is committed on the model thread
+        Runnable commit = modelThread.poll(5, TimeUnit.SECONDS);
+        assertTrue(model.getFilteredPersonList().isEmpty());
+        assertCommandFailure(ExportCommand.COMMAND_WORD + " " + temporaryFolder.resolve("export.csv"),
+                CommandException.class, String.format(LogicManager.MESSAGE_JOB_RUNNING, description));
+
+        commit.run();
+        assertEquals(List.of(String.format(ImportCommand.MESSAGE_IMPORT_SUCCESS, csvFilePath)), results);
+        assertFalse(model.getFilteredPersonList().isEmpty());
+        assertEquals("", statuses.get(statuses.size() - 1));
+        logic.flushPendingSaves();
+        assertEquals(model.getAddressBook().getPersonList(),
+                addressBookStorage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void execute_cancelCommandNoJobRunning_success() throws Exception {
+        assertCommandSuccess(CancelCommand.COMMAND_WORD, CancelCommand.MESSAGE_NO_JOB_RUNNING, model);
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterStartup_doesNotSave() throws Exception {
+        model.addPerson(new PersonBuilder(AMY).build());
+        storage.saveAddressBook(model.getAddressBook());
+        byte[] savedFile = Files.readAllBytes(addressBookStorage.getAddressBookFilePath());
+        model.addPerson(new PersonBuilder(BOB).build());
+        logic = new LogicManager(model, storage, browserService);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flushPendingSaves();
+        assertArrayEquals(savedFile, Files.readAllBytes(addressBookStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void execute_readOnlyCommandWithoutDataFile_savesAddressBook() throws Exception {
+        model.addPerson(new PersonBuilder(AMY).build());
+        logic = new LogicManager(model, storage, browserService);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flushPendingSaves();
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -231,7 +324,8 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureReportedForExceptionFromStorage(IOException e, String expectedMessage)
+            throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
@@ -247,6 +341,8 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
+        List<String> saveFailures = new ArrayList<>();
+        logic.setSaveFailureHandler(saveFailures::add);
 
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
                 + STUDENTID_DESC_AMY + PROJECT_TEAM_DESC_AMY + REPOSITORY_DESC_AMY + PROGRESS_DESC_AMY;
@@ -254,7 +350,17 @@ public class LogicManagerTest {
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        logic.execute(addCommand);
+        logic.flushPendingSaves();
+
+        // The command still succeeds; the failed save is reported separately
+        assertEquals(expectedModel, model);
+        assertEquals(List.of(expectedMessage), saveFailures);
+
+        // A failed save is retried by the next command, even if it does not change the address book
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flushPendingSaves();
+        assertEquals(List.of(expectedMessage, expectedMessage), saveFailures);
     }
 
     /**
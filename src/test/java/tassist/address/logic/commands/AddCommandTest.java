@@ -8,9 +8,13 @@ import static tassist.address.testutil.Assert.assertThrows;
 import static tassist.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,11 +25,15 @@ import tassist.address.commons.core.GuiSettings;
 import tassist.address.logic.Messages;
 import tassist.address.logic.commands.exceptions.CommandException;
 import tassist.address.model.AddressBook;
+import tassist.address.model.AddressBookMerge;
 import tassist.address.model.Model;
 import tassist.address.model.ReadOnlyAddressBook;
 import tassist.address.model.ReadOnlyUserPrefs;
+import tassist.address.model.person.Email;
 import tassist.address.model.person.Github;
 import tassist.address.model.person.Person;
+import tassist.address.model.person.Phone;
+import tassist.address.model.person.StudentId;
 import tassist.address.model.timedevents.TimedEvent;
 import tassist.address.testutil.PersonBuilder;
 
@@ -215,6 +223,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void mergeAddressBook(AddressBookMerge merge) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -225,6 +238,41 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> findPersonByStudentId(StudentId studentId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsInClass(String classNumber) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsInTeam(String projectTeam) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<StudentId> findStudentIdsByNameKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isPhoneTakenByOther(Phone phone, Person owner) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isEmailTakenByOther(Email email, Person owner) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isGithubTakenByOther(Github github, Person owner) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -255,6 +303,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getAssignedPersons(TimedEvent timedEvent) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getFilteredAssignedPersons(TimedEvent timedEvent) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<TimedEvent> getTimedEventsBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<TimedEvent> getTimedEventsInTimeOrder() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int indexOfTimedEvent(TimedEvent timedEvent) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addTimedEvent(TimedEvent timedEvent) {
             throw new AssertionError("This method should not be called.");
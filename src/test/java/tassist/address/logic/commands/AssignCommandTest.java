@@ -73,6 +73,17 @@ public class AssignCommandTest {
         assertCommandSuccess(assignCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_validIndex_replacesStudentWithoutChangingIt() throws Exception {
+        Person targetPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        TimedEvent timedEvent = model.getTimedEventList().get(INDEX_FIRST_PERSON.getZeroBased());
+
+        new AssignCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON).execute(model);
+        // Snapshots of the address book may still hold the student as it was
+        assertFalse(targetPerson.hasTimedEvent(timedEvent));
+        assertTrue(model.findPersonByStudentId(targetPerson.getStudentId()).get().hasTimedEvent(timedEvent));
+    }
+
     @Test
     public void execute_validStudentId_success() {
         AssignCommand assignCommand = new AssignCommand(INDEX_FIRST_PERSON, alice.getStudentId());
@@ -0,0 +1,70 @@
+package tassist.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import tassist.address.logic.jobs.BackgroundJobRunner;
+import tassist.address.model.Model;
+import tassist.address.model.ModelManager;
+
+public class CancelCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_noJobRunner_noJobRunning() {
+        assertCommandSuccess(new CancelCommand(), model, CancelCommand.MESSAGE_NO_JOB_RUNNING, expectedModel);
+    }
+
+    @Test
+    public void execute_noJobRunning_noJobRunning() {
+        assertCommandSuccess(new CancelCommand(new BackgroundJobRunner()), model,
+                CancelCommand.MESSAGE_NO_JOB_RUNNING, expectedModel);
+    }
+
+    @Test
+    public void execute_jobRunning_cancelsJob() {
+        BackgroundJobRunner jobRunner = new BackgroundJobRunner();
+        CountDownLatch release = new CountDownLatch(1);
+        jobRunner.start("Exporting file.csv", progress -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            progress.update(0, 0);
+            return committedModel -> new CommandResult("done");
+        }, completion -> { });
+
+        assertCommandSuccess(new CancelCommand(jobRunner), model,
+                String.format(CancelCommand.MESSAGE_SUCCESS, "Exporting file.csv"), expectedModel);
+        assertEquals(Optional.empty(), jobRunner.getRunningJobDescription());
+        release.countDown();
+    }
+
+    @Test
+    public void equals() {
+        BackgroundJobRunner jobRunner = new BackgroundJobRunner();
+        CancelCommand cancelCommand = new CancelCommand(jobRunner);
+
+        // same object -> returns true
+        assertTrue(cancelCommand.equals(cancelCommand));
+
+        // same job runner -> returns true
+        assertTrue(cancelCommand.equals(new CancelCommand(jobRunner)));
+        assertTrue(new CancelCommand().equals(new CancelCommand()));
+
+        // null -> returns false
+        assertFalse(cancelCommand.equals(null));
+
+        // different job runner -> returns false
+        assertFalse(cancelCommand.equals(new CancelCommand(new BackgroundJobRunner())));
+    }
+}
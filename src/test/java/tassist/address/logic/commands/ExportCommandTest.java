@@ -4,19 +4,36 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.DANIEL;
 import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import tassist.address.commons.core.ProgressListener;
+import tassist.address.logic.commands.BackgroundJob.Completion;
 import tassist.address.logic.commands.exceptions.CommandException;
+import tassist.address.logic.jobs.BackgroundJobRunner;
 import tassist.address.model.Model;
 import tassist.address.model.ModelManager;
 import tassist.address.model.UserPrefs;
+import tassist.address.model.person.Person;
+import tassist.address.storage.CsvAddressBookReader;
+import tassist.address.testutil.LargeAddressBookGenerator;
 
 public class ExportCommandTest {
 
@@ -42,6 +59,87 @@ public class ExportCommandTest {
                 result.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_shownStudentsAndColumns_exportsOnlyThose() throws Exception {
+        Path csvFilePath = temporaryFolder.resolve("shown.csv");
+        model.updateFilteredPersonList(person -> person.equals(ALICE) || person.equals(DANIEL));
+
+        new ExportCommand(csvFilePath, true, List.of("name", "studentId")).execute(model);
+        List<String> lines = Files.readAllLines(csvFilePath, StandardCharsets.UTF_8);
+        assertEquals(List.of("\"name\",\"studentId\"", "\"Alice Pauline\",\"A1111111B\"",
+                "\"Daniel Meier\",\"A0001234X\"", "\"timedEvents\""), lines.subList(0, 4));
+    }
+
+    @Test
+    public void execute_allStudents_ignoresFilter() throws Exception {
+        Path csvFilePath = temporaryFolder.resolve("all.csv");
+        model.updateFilteredPersonList(person -> person.equals(ALICE));
+
+        new ExportCommand(csvFilePath).execute(model);
+        assertEquals(model.getAddressBook().getPersonList(), CsvAddressBookReader.read(csvFilePath).getPersonList());
+    }
+
+    @Test
+    public void createJob_studentChangedWhileWriting_writesStudentsAsEntered() throws Exception {
+        Path csvFilePath = temporaryFolder.resolve("snapshot.csv");
+        BackgroundJob job = new ExportCommand(csvFilePath).createJob(model);
+        List<Person> expectedPersons = List.copyOf(model.getAddressBook().getPersonList());
+        model.deletePerson(ALICE);
+
+        job.run((rowsProcessed, bytesProcessed) -> { }).commit(model);
+        assertEquals(expectedPersons, CsvAddressBookReader.read(csvFilePath).getPersonList());
+    }
+
+    @Test
+    public void createJob_cancelled_deletesPartialFile() throws Exception {
+        Path csvFilePath = temporaryFolder.resolve("cancelled.csv");
+        BackgroundJob job = new ExportCommand(csvFilePath).createJob(model);
+
+        assertThrows(CancellationException.class, () -> job.run((rowsProcessed, bytesProcessed) -> {
+            throw new CancellationException();
+        }));
+        assertFalse(Files.exists(csvFilePath));
+    }
+
+    @Test
+    public void createJob_cancelledThroughRunner_deletesPartialFile() throws Exception {
+        model = new ModelManager(LargeAddressBookGenerator.generate(10000, 0), new UserPrefs());
+        Path csvFilePath = temporaryFolder.resolve("cancelledByRunner.csv");
+        BackgroundJob exportJob = new ExportCommand(csvFilePath).createJob(model);
+        BackgroundJobRunner runner = new BackgroundJobRunner();
+        CountDownLatch stopped = new CountDownLatch(1);
+        AtomicBoolean isInterruptedOnCancel = new AtomicBoolean();
+        List<Completion> committed = Collections.synchronizedList(new ArrayList<>());
+
+        runner.start("Exporting", progress -> {
+            try {
+                return exportJob.run(new ProgressListener() {
+                    private boolean isFirstReport = true;
+
+                    @Override
+                    public void update(long rowsProcessed, long bytesProcessed) {
+                        if (isFirstReport) {
+                            // Cancelled while the file is still being written
+                            isFirstReport = false;
+                            runner.cancel();
+                            isInterruptedOnCancel.set(Thread.currentThread().isInterrupted());
+                            return;
+                        }
+                        progress.update(rowsProcessed, bytesProcessed);
+                    }
+                });
+            } finally {
+                stopped.countDown();
+            }
+        }, committed::add);
+
+        assertTrue(stopped.await(5, TimeUnit.SECONDS));
+        // An interrupt would fail the write before the job could clean up
+        assertFalse(isInterruptedOnCancel.get());
+        assertFalse(Files.exists(csvFilePath));
+        assertTrue(committed.isEmpty());
+    }
+
     @Test
     public void execute_nullFilePath_throwsCommandException() {
         assertThrows(CommandException.class, () -> new ExportCommand(null).execute(model));
@@ -73,5 +171,9 @@ public class ExportCommandTest {
 
         // different filePath -> returns false
         assertFalse(standardCommand.equals(new ExportCommand(temporaryFolder.resolve("output-2.csv"))));
+
+        // different students or columns -> returns false
+        assertFalse(standardCommand.equals(new ExportCommand(filePath, true, Person.getAttributes())));
+        assertFalse(standardCommand.equals(new ExportCommand(filePath, false, List.of("name"))));
     }
 }
@@ -17,6 +17,7 @@ import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,7 @@ import tassist.address.model.UserPrefs;
 import tassist.address.model.person.NameContainsKeywordsPredicate;
 import tassist.address.model.person.Person;
 import tassist.address.model.person.StudentId;
+import tassist.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -186,6 +188,16 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA, GEORGE), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_nameKeyword_tracksLaterRenames() {
+        new FindCommand(new NameContainsKeywordsPredicate(List.of("Kurz"))).execute(model);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Kurz").build();
+        model.setPerson(ALICE, renamedAlice);
+        model.setPerson(CARL, new PersonBuilder(CARL).withName("Carl Meier").build());
+
+        assertEquals(List.of(renamedAlice), model.getFilteredPersonList());
+    }
+
     @Test
     public void toString_withNamePredicate_returnsCorrectFormat() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -1,16 +1,22 @@
 package tassist.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.AMY;
+import static tassist.address.testutil.TypicalPersons.BENSON;
 import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static tassist.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,17 +26,23 @@ import org.junit.jupiter.api.io.TempDir;
 import tassist.address.commons.core.GuiSettings;
 import tassist.address.commons.exceptions.DataLoadingException;
 import tassist.address.logic.commands.exceptions.CommandException;
+import tassist.address.model.AddressBook;
+import tassist.address.model.AddressBookStorageMode;
 import tassist.address.model.Model;
 import tassist.address.model.ModelManager;
 import tassist.address.model.ReadOnlyAddressBook;
 import tassist.address.model.ReadOnlyUserPrefs;
 import tassist.address.model.UserPrefs;
+import tassist.address.model.person.Person;
 import tassist.address.storage.AddressBookStorage;
+import tassist.address.storage.CsvAddressBookReader;
+import tassist.address.storage.CsvJsonConverter;
 import tassist.address.storage.JsonAddressBookStorage;
 import tassist.address.storage.JsonUserPrefsStorage;
 import tassist.address.storage.Storage;
 import tassist.address.storage.StorageManager;
 import tassist.address.storage.UserPrefsStorage;
+import tassist.address.testutil.PersonBuilder;
 
 public class ImportCommandTest {
 
@@ -53,7 +65,6 @@ public class ImportCommandTest {
         userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
         model = new ModelManager(getTypicalAddressBook(), new TestUserPrefs(addressBookFilePath));
-        ImportCommand.setStorage(storage);
     }
 
     @Test
@@ -87,6 +98,16 @@ public class ImportCommandTest {
         assertThrows(CommandException.class, () -> new ImportCommand(invalidValueCsvFilePath).execute(model));
     }
 
+    @Test
+    public void execute_duplicatePhoneCsv_throwsCommandException() {
+        Path duplicatePhoneCsvFilePath = Paths.get("src", "test", "data",
+                "CsvJsonConverterTest", "duplicatePhone.csv");
+        CommandException exception = assertThrows(CommandException.class, () ->
+                new ImportCommand(duplicatePhoneCsvFilePath).execute(model));
+        assertEquals(String.format(ImportCommand.MESSAGE_DUPLICATE_VALUE_IN_FILE, "A0101011A"),
+                exception.getMessage());
+    }
+
     @Test
     public void execute_nonExistentFilePath_throwsCommandException() {
         Path nonExistentFilePath = Paths.get("src", "test", "data",
@@ -95,12 +116,75 @@ public class ImportCommandTest {
     }
 
     @Test
-    public void execute_modelAndUserPrefsDifferentAddressBookFilePath_throwsCommandException() {
-        Model testModel = new ModelManager(getTypicalAddressBook(),
-                new TestUserPrefs(temporaryFolder.resolve("random.csv")));
+    public void execute_validCsv_dataFileUntouched() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("untouched.json");
+        addressBookStorage.saveAddressBook(getTypicalAddressBook(), addressBookFilePath);
+        byte[] savedBytes = Files.readAllBytes(addressBookFilePath);
+        Model testModel = new ModelManager(getTypicalAddressBook(), new TestUserPrefs(addressBookFilePath));
         Path testCsvFilePath = Paths.get("src", "test", "data",
                 "CsvJsonConverterTest", "valid.csv");
-        assertThrows(CommandException.class, () -> new ImportCommand(testCsvFilePath).execute(testModel));
+
+        new ImportCommand(testCsvFilePath).execute(testModel);
+        assertArrayEquals(savedBytes, Files.readAllBytes(addressBookFilePath));
+        assertEquals(CsvAddressBookReader.read(testCsvFilePath), testModel.getAddressBook());
+    }
+
+    @Test
+    public void execute_parallelRead_sameAsStreamRead() throws Exception {
+        Path testCsvFilePath = Paths.get("src", "test", "data",
+                "CsvJsonConverterTest", "valid.csv");
+
+        CommandResult result = new ImportCommand(testCsvFilePath, ImportCommand.Mode.REPLACE, true).execute(model);
+        assertEquals(String.format(ImportCommand.MESSAGE_IMPORT_SUCCESS, testCsvFilePath),
+                result.getFeedbackToUser());
+        assertEquals(CsvAddressBookReader.read(testCsvFilePath), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_parallelReadInvalidValueCsv_throwsCommandException() {
+        Path invalidValueCsvFilePath = Paths.get("src", "test", "data",
+                "CsvJsonConverterTest", "invalidValue.csv");
+        assertThrows(CommandException.class, () ->
+                new ImportCommand(invalidValueCsvFilePath, ImportCommand.Mode.REPLACE, true).execute(model));
+    }
+
+    @Test
+    public void execute_mergeMode_insertsAndUpdatesOnly() throws Exception {
+        Path csvFilePath = writeMergeCsv();
+
+        CommandResult result = new ImportCommand(csvFilePath, ImportCommand.Mode.MERGE).execute(model);
+        assertEquals(String.format(ImportCommand.MESSAGE_MERGE_SUCCESS, csvFilePath, 1, 1, 0, 0),
+                result.getFeedbackToUser());
+        List<Person> persons = model.getAddressBook().getPersonList();
+        assertEquals(getTypicalPersons().size() + 1, persons.size());
+        assertEquals(ALICE, persons.get(0));
+        assertEquals("91234567", persons.get(0).getPhone().value);
+        assertEquals(BENSON, persons.get(1));
+        assertEquals(AMY, persons.get(persons.size() - 1));
+    }
+
+    @Test
+    public void execute_syncMode_removesAbsentPersons() throws Exception {
+        Path csvFilePath = writeMergeCsv();
+
+        CommandResult result = new ImportCommand(csvFilePath, ImportCommand.Mode.SYNC).execute(model);
+        assertEquals(String.format(ImportCommand.MESSAGE_MERGE_SUCCESS, csvFilePath, 1, 1, 0,
+                getTypicalPersons().size() - 1), result.getFeedbackToUser());
+        assertEquals(List.of(ALICE, AMY), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_mergeModeConflictingPhone_throwsCommandException() throws Exception {
+        AddressBook incoming = new AddressBook();
+        incoming.addPerson(new PersonBuilder(AMY).withPhone(BENSON.getPhone().value).build());
+        Path csvFilePath = temporaryFolder.resolve("conflict.csv");
+        new CsvJsonConverter().convertJsonToCsv(csvFilePath, incoming);
+
+        CommandException exception = assertThrows(CommandException.class, () ->
+                new ImportCommand(csvFilePath, ImportCommand.Mode.MERGE).execute(model));
+        assertEquals(String.format(ImportCommand.MESSAGE_DUPLICATE_VALUE_IN_FILE, AMY.getStudentId()),
+                exception.getMessage());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
     }
 
     @Test
@@ -123,6 +207,26 @@ public class ImportCommandTest {
 
         // different filePath -> returns false
         assertFalse(standardCommand.equals(new ImportCommand(temporaryFolder.resolve("test2.csv"))));
+
+        // different mode -> returns false
+        assertFalse(standardCommand.equals(new ImportCommand(filePath, ImportCommand.Mode.MERGE)));
+        assertTrue(standardCommand.equals(new ImportCommand(filePath, ImportCommand.Mode.REPLACE)));
+
+        // different read -> returns false
+        assertFalse(standardCommand.equals(new ImportCommand(filePath, ImportCommand.Mode.REPLACE, true)));
+        assertTrue(standardCommand.equals(new ImportCommand(filePath, ImportCommand.Mode.REPLACE, false)));
+    }
+
+    /**
+     * Writes a CSV file with Alice, with a new phone, and Amy, who is not in the typical address book.
+     */
+    private static Path writeMergeCsv() throws IOException {
+        AddressBook incoming = new AddressBook();
+        incoming.addPerson(new PersonBuilder(ALICE).withPhone("91234567").build());
+        incoming.addPerson(AMY);
+        Path csvFilePath = temporaryFolder.resolve("merge.csv");
+        new CsvJsonConverter().convertJsonToCsv(csvFilePath, incoming);
+        return csvFilePath;
     }
 
     /**
@@ -217,6 +321,18 @@ public class ImportCommandTest {
             // do nothing
         }
 
+        public AddressBookStorageMode getAddressBookStorageMode() {
+            return AddressBookStorageMode.JSON;
+        }
+
+        public boolean isAddressBookPrettyPrinted() {
+            return true;
+        }
+
+        public boolean isAddressBookCompressed() {
+            return false;
+        }
+
         @Override
         public boolean equals(Object other) {
             return true;
@@ -3,14 +3,19 @@ package tassist.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tassist.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static tassist.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static tassist.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static tassist.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.HOON;
 import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -22,6 +27,9 @@ import tassist.address.model.Model;
 import tassist.address.model.ModelManager;
 import tassist.address.model.UserPrefs;
 import tassist.address.model.person.Person;
+import tassist.address.model.timedevents.Assignment;
+import tassist.address.model.timedevents.TimedEvent;
+import tassist.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -87,6 +95,18 @@ public class ListCommandTest {
         assertEquals(sortedList, actualList);
     }
 
+    @Test
+    public void execute_sortByClassThenProgressThenName_success() {
+        ListCommand command = new ListCommand("class,progress,name", "asc,des,asc", null, null);
+        List<Person> expectedList = new ArrayList<>(expectedModel.getFilteredPersonList());
+        expectedList.sort(Comparator.comparing((Person p) -> p.getClassNumber().value.toLowerCase())
+                .thenComparing(p -> p.getProgress().value, Comparator.reverseOrder())
+                .thenComparing(p -> p.getName().value.toLowerCase()));
+
+        assertCommandSuccess(command, model, ListCommand.MESSAGE_LIST_SORTED, expectedModel);
+        assertEquals(expectedList, new ArrayList<>(model.getFilteredPersonList()));
+    }
+
     @Test
     public void execute_filterByProgress_success() {
         ListCommand command = new ListCommand(null, null, "progress", "30");
@@ -112,6 +132,25 @@ public class ListCommandTest {
         assertCommandSuccess(command, model, ListCommand.MESSAGE_LIST_FILTERED, expectedModel);
     }
 
+    @Test
+    public void execute_filterByClassIgnoringCase_showsIndexedClass() throws Exception {
+        new ListCommand(null, null, "class", "t01").execute(model);
+        assertEquals(new HashSet<>(model.getPersonsInClass("T01")), new HashSet<>(model.getFilteredPersonList()));
+    }
+
+    @Test
+    public void execute_filterByClass_tracksLaterEdits() throws Exception {
+        model.addPerson(HOON);
+        new ListCommand(null, null, "class", "T01").execute(model);
+        Person movedInStudent = new PersonBuilder(HOON).withClassNumber("T01").build();
+        model.setPerson(HOON, movedInStudent);
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withClassNumber("T02").build());
+
+        assertTrue(model.getFilteredPersonList().contains(movedInStudent));
+        assertTrue(model.getFilteredPersonList().stream()
+                .noneMatch(person -> person.getStudentId().equals(ALICE.getStudentId())));
+    }
+
     @Test
     public void execute_filterByProjectTeam_success() {
         ListCommand command = new ListCommand(null, null, "team", "WealthAssist");
@@ -136,6 +175,22 @@ public class ListCommandTest {
         assertEquals(expectedList, actualList);
     }
 
+    @Test
+    public void execute_filterByDue_listsAssignedStudents() throws Exception {
+        Person assignedPerson = model.getFilteredPersonList().get(0);
+        TimedEvent dueSoon = new Assignment("Due soon", "Description", LocalDateTime.now().plusDays(3));
+        model.addTimedEvent(dueSoon);
+        assignedPerson.addTimedEvent(dueSoon);
+        model.setPerson(assignedPerson, assignedPerson);
+
+        CommandResult result = new ListCommand(null, null, "due", "7").execute(model);
+        assertEquals(ListCommand.MESSAGE_LIST_FILTERED, result.getFeedbackToUser());
+        assertEquals(List.of(assignedPerson), model.getFilteredPersonList());
+
+        result = new ListCommand(null, null, "overdue", null).execute(model);
+        assertEquals(ListCommand.MESSAGE_NO_STUDENTS, result.getFeedbackToUser());
+    }
+
     @Test
     public void execute_invalidFilterType_throwsCommandException() {
         ListCommand command = new ListCommand(null, null, "invalidfilter", "value");
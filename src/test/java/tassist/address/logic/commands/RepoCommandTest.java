@@ -7,8 +7,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -18,10 +22,14 @@ import javafx.collections.ObservableList;
 import tassist.address.commons.core.GuiSettings;
 import tassist.address.commons.core.index.Index;
 import tassist.address.logic.commands.exceptions.CommandException;
+import tassist.address.model.AddressBookMerge;
 import tassist.address.model.Model;
 import tassist.address.model.ReadOnlyAddressBook;
 import tassist.address.model.ReadOnlyUserPrefs;
+import tassist.address.model.person.Email;
+import tassist.address.model.person.Github;
 import tassist.address.model.person.Person;
+import tassist.address.model.person.Phone;
 import tassist.address.model.person.Repository;
 import tassist.address.model.person.StudentId;
 import tassist.address.model.timedevents.TimedEvent;
@@ -239,6 +247,11 @@ public class RepoCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void mergeAddressBook(AddressBookMerge merge) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -249,6 +262,41 @@ public class RepoCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> findPersonByStudentId(StudentId studentId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsInClass(String classNumber) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsInTeam(String projectTeam) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<StudentId> findStudentIdsByNameKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isPhoneTakenByOther(Phone phone, Person owner) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isEmailTakenByOther(Email email, Person owner) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isGithubTakenByOther(Github github, Person owner) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -279,6 +327,36 @@ public class RepoCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getAssignedPersons(TimedEvent timedEvent) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getFilteredAssignedPersons(TimedEvent timedEvent) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<TimedEvent> getTimedEventsBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<TimedEvent> getTimedEventsInTimeOrder() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int indexOfTimedEvent(TimedEvent timedEvent) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addTimedEvent(TimedEvent timedEvent) {
             throw new AssertionError("This method should not be called.");
@@ -324,6 +402,12 @@ public class RepoCommandTest {
             return internalList;
         }
 
+        @Override
+        public Optional<Person> findPersonByStudentId(StudentId studentId) {
+            requireNonNull(studentId);
+            return internalList.stream().filter(person -> person.getStudentId().equals(studentId)).findFirst();
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             requireNonNull(target);
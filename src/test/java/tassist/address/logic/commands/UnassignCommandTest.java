@@ -91,6 +91,20 @@ public class UnassignCommandTest {
         assertEquals(expectedMessage, unassignmentResult.getFeedbackToUser());
     }
 
+    @Test
+    public void executeConfirmed_assignedStudent_replacesStudentWithoutChangingIt() throws CommandException {
+        TimedEvent eventToUnassign = model.getTimedEventList().get(INDEX_FIRST_PERSON.getZeroBased());
+        new AssignCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON).execute(model);
+        Person assignedPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        UnassignCommand unassignCommand = new UnassignCommand(INDEX_FIRST_PERSON);
+        unassignCommand.execute(model);
+
+        unassignCommand.executeConfirmed(model);
+        // Snapshots of the address book may still hold the student as it was
+        assertTrue(assignedPerson.hasTimedEvent(eventToUnassign));
+        assertFalse(model.findPersonByStudentId(assignedPerson.getStudentId()).get().hasTimedEvent(eventToUnassign));
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getTimedEventList().size() + 1);
@@ -6,9 +6,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tassist.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 import org.junit.jupiter.api.Test;
 
+import tassist.address.logic.commands.exceptions.CommandException;
 import tassist.address.model.AddressBook;
 import tassist.address.model.Model;
 import tassist.address.model.ModelManager;
@@ -16,17 +18,19 @@ import tassist.address.model.UserPrefs;
 import tassist.address.model.timedevents.Assignment;
 
 public class ViewCommandTest {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
     private Model model = new ModelManager(new AddressBook(), new UserPrefs());
 
     @Test
-    public void execute_emptyTimedEventList_success() {
+    public void execute_emptyTimedEventList_success() throws Exception {
         ViewCommand viewCommand = new ViewCommand();
         CommandResult commandResult = viewCommand.execute(model);
         assertEquals(ViewCommand.MESSAGE_NO_EVENTS, commandResult.getFeedbackToUser());
     }
 
     @Test
-    public void execute_nonEmptyTimedEventList_success() {
+    public void execute_nonEmptyTimedEventList_success() throws Exception {
         // Create test assignments
         Assignment assignment1 = new Assignment("Test Assignment 1", "Description 1",
                 LocalDateTime.now().plusDays(1));
@@ -50,6 +54,53 @@ public class ViewCommandTest {
         assertEquals(expectedMessage, commandResult.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_dueFilter_listsEventsInTimeOrderWithListIndexes() throws Exception {
+        Assignment later = new Assignment("Later", "Description", LocalDateTime.now().plusDays(5));
+        Assignment sooner = new Assignment("Sooner", "Description", LocalDateTime.now().plusDays(2));
+        Assignment outside = new Assignment("Outside", "Description", LocalDateTime.now().plusDays(30));
+        Assignment overdue = new Assignment("Overdue", "Description", LocalDateTime.now().minusDays(1));
+        model.addTimedEvent(later);
+        model.addTimedEvent(sooner);
+        model.addTimedEvent(outside);
+        model.addTimedEvent(overdue);
+
+        CommandResult commandResult = new ViewCommand("due", "7").execute(model);
+
+        String expectedMessage = ViewCommand.MESSAGE_SUCCESS_FILTERED + "\n"
+                + "2. Sooner - Assignment\n   Due: " + sooner.getTime().format(FORMATTER) + "\n"
+                + "1. Later - Assignment\n   Due: " + later.getTime().format(FORMATTER) + "\n";
+        assertEquals(expectedMessage, commandResult.getFeedbackToUser());
+
+        String expectedOverdue = ViewCommand.MESSAGE_SUCCESS_FILTERED + "\n"
+                + "4. Overdue - Assignment\n   Due: " + overdue.getTime().format(FORMATTER) + "\n";
+        assertEquals(expectedOverdue, new ViewCommand("overdue", null).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_rangeFilter_includesEndDate() throws Exception {
+        Assignment inRange = new Assignment("In range", "Description", LocalDateTime.of(2030, 3, 31, 23, 59));
+        model.addTimedEvent(inRange);
+        model.addTimedEvent(new Assignment("Out of range", "Description", LocalDateTime.of(2030, 4, 1, 23, 59)));
+
+        CommandResult commandResult = new ViewCommand("range", "01-03-2030 31-03-2030").execute(model);
+        assertEquals(ViewCommand.MESSAGE_SUCCESS_FILTERED + "\n"
+                + "1. In range - Assignment\n   Due: 31-03-2030\n", commandResult.getFeedbackToUser());
+
+        assertEquals(ViewCommand.MESSAGE_NO_EVENTS,
+                new ViewCommand("range", "01-01-2030 31-01-2030").execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_invalidFilterValue_throwsCommandException() {
+        assertThrows(CommandException.class, ViewCommand.MESSAGE_INVALID_DUE_VALUE, () ->
+                new ViewCommand("due", "-1").execute(model));
+        assertThrows(CommandException.class, ViewCommand.MESSAGE_INVALID_RANGE_VALUE, () ->
+                new ViewCommand("range", "31-03-2030 01-03-2030").execute(model));
+        assertThrows(CommandException.class, ViewCommand.MESSAGE_INVALID_RANGE_VALUE, () ->
+                new ViewCommand("range", "30-02-2030 01-03-2030").execute(model));
+    }
+
     @Test
     public void execute_nullModel_throwsNullPointerException() {
         ViewCommand viewCommand = new ViewCommand();
@@ -69,6 +120,13 @@ public class ViewCommandTest {
 
         // null -> returns false
         assertFalse(viewCommand.equals(null));
+
+        // same filter -> returns true
+        assertTrue(new ViewCommand("due", "7").equals(new ViewCommand("DUE", "7")));
+
+        // different filter -> returns false
+        assertFalse(viewCommand.equals(new ViewCommand("overdue", null)));
+        assertFalse(new ViewCommand("due", "7").equals(new ViewCommand("due", "3")));
     }
 
     @Test
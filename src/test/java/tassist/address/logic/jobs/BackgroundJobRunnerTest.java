@@ -0,0 +1,155 @@
+package tassist.address.logic.jobs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tassist.address.logic.commands.BackgroundJob;
+import tassist.address.logic.commands.BackgroundJob.Completion;
+import tassist.address.logic.commands.CommandResult;
+import tassist.address.logic.commands.exceptions.CommandException;
+import tassist.address.model.ModelManager;
+
+public class BackgroundJobRunnerTest {
+
+    private static final String DESCRIPTION = "Importing file.csv";
+
+    private final BackgroundJobRunner runner = new BackgroundJobRunner();
+    /** Tasks posted to the model thread, run by the test itself. */
+    private final BlockingQueue<Runnable> modelThread = new LinkedBlockingQueue<>();
+    private final List<String> statuses = Collections.synchronizedList(new ArrayList<>());
+    private final List<Completion> committed = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        runner.setModelThreadExecutor(modelThread::add);
+        runner.setStatusHandler(statuses::add);
+    }
+
+    @Test
+    public void start_jobFinishes_commitsOnModelThread() throws Exception {
+        runner.start(DESCRIPTION, progress -> {
+            progress.update(10, 2048);
+            return model -> new CommandResult("done");
+        }, committed::add);
+
+        Runnable finish = modelThread.poll(5, TimeUnit.SECONDS);
+        assertNotNull(finish);
+        // Nothing is committed until the model thread runs the completion
+        assertTrue(committed.isEmpty());
+        assertEquals(Optional.of(DESCRIPTION), runner.getRunningJobDescription());
+
+        finish.run();
+        assertEquals(1, committed.size());
+        assertEquals("done", committed.get(0).commit(new ModelManager()).getFeedbackToUser());
+        assertEquals(Optional.empty(), runner.getRunningJobDescription());
+        assertEquals(List.of(DESCRIPTION, String.format(BackgroundJobRunner.MESSAGE_JOB_PROGRESS, DESCRIPTION, 10, 2),
+                ""), statuses);
+    }
+
+    @Test
+    public void start_jobFails_completionThrowsError() throws Exception {
+        runner.start(DESCRIPTION, progress -> {
+            throw new CommandException("File is corrupted");
+        }, committed::add);
+
+        modelThread.poll(5, TimeUnit.SECONDS).run();
+        assertThrows(CommandException.class, "File is corrupted", () -> committed.get(0).commit(new ModelManager()));
+    }
+
+    @Test
+    public void start_jobThrowsError_completionThrowsErrorAndRunnerFree() throws Exception {
+        runner.start(DESCRIPTION, progress -> {
+            throw new OutOfMemoryError();
+        }, committed::add);
+
+        modelThread.poll(5, TimeUnit.SECONDS).run();
+        assertThrows(CommandException.class, String.format(BackgroundJobRunner.MESSAGE_JOB_FAILED, DESCRIPTION), () ->
+                committed.get(0).commit(new ModelManager()));
+        assertEquals(Optional.empty(), runner.getRunningJobDescription());
+        assertEquals("", statuses.get(statuses.size() - 1));
+    }
+
+    @Test
+    public void start_jobRunning_throwsIllegalStateException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        runner.start(DESCRIPTION, progress -> {
+            await(release);
+            return model -> new CommandResult("done");
+        }, committed::add);
+
+        assertThrows(IllegalStateException.class, () -> runner.start("Exporting file.csv", progress ->
+                model -> new CommandResult("done"), committed::add));
+        release.countDown();
+        modelThread.poll(5, TimeUnit.SECONDS).run();
+        assertEquals(1, committed.size());
+    }
+
+    @Test
+    public void cancel_runningJob_stopsJobWithoutCommitting() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        List<Throwable> stopReasons = Collections.synchronizedList(new ArrayList<>());
+        BackgroundJob job = progress -> {
+            started.countDown();
+            try {
+                while (true) {
+                    progress.update(0, 0);
+                }
+            } catch (CancellationException e) {
+                stopReasons.add(e);
+                throw e;
+            } finally {
+                stopped.countDown();
+            }
+        };
+        runner.start(DESCRIPTION, job, committed::add);
+        started.await();
+
+        assertEquals(Optional.of(DESCRIPTION), runner.cancel());
+        assertTrue(stopped.await(5, TimeUnit.SECONDS));
+        assertEquals(1, stopReasons.size());
+        assertNull(modelThread.poll(100, TimeUnit.MILLISECONDS));
+        assertTrue(committed.isEmpty());
+        assertEquals(Optional.empty(), runner.getRunningJobDescription());
+        assertEquals("", statuses.get(statuses.size() - 1));
+    }
+
+    @Test
+    public void cancel_jobFinishedButNotCommitted_doesNotCommit() throws Exception {
+        runner.start(DESCRIPTION, progress -> model -> new CommandResult("done"), committed::add);
+        Runnable finish = modelThread.poll(5, TimeUnit.SECONDS);
+
+        assertEquals(Optional.of(DESCRIPTION), runner.cancel());
+        finish.run();
+        assertTrue(committed.isEmpty());
+    }
+
+    @Test
+    public void cancel_noJobRunning_returnsEmpty() {
+        assertEquals(Optional.empty(), runner.cancel());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import tassist.address.logic.commands.AddCommand;
+import tassist.address.logic.commands.CancelCommand;
 import tassist.address.logic.commands.ClassCommand;
 import tassist.address.logic.commands.ClearCommand;
 import tassist.address.logic.commands.DeleteCommand;
@@ -68,6 +69,12 @@ public class AddressBookParserTest {
         assertEquals(new ClassCommand(INDEX_FIRST_PERSON, classNumber), command);
     }
 
+    @Test
+    public void parseCommand_cancel() throws Exception {
+        assertTrue(parser.parseCommand(CancelCommand.COMMAND_WORD) instanceof CancelCommand);
+        assertTrue(parser.parseCommand(CancelCommand.COMMAND_WORD + " 3") instanceof CancelCommand);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -13,11 +13,13 @@ import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import tassist.address.logic.commands.ExportCommand;
+import tassist.address.storage.CsvAddressBookWriter;
 
 public class ExportCommandParserTest {
 
@@ -49,6 +51,29 @@ public class ExportCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_options_returnsExportCommandWithOptions() {
+        final Path absoluteOutputFilePath = testRoot.resolve(VALID_FILE_PATH_2);
+
+        assertParseSuccess(parser, absoluteOutputFilePath + " scope/shown col/name col/STUDENTID",
+                new ExportCommand(absoluteOutputFilePath, true, List.of("name", "studentId")));
+        assertParseSuccess(parser, absoluteOutputFilePath + " scope/all",
+                new ExportCommand(absoluteOutputFilePath));
+    }
+
+    @Test
+    public void parse_invalidOptions_throwsParseException() {
+        final String outputFilePath = testRoot.resolve(VALID_FILE_PATH_2).toString();
+
+        assertParseFailure(parser, outputFilePath + " scope/some",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, outputFilePath + " col/address",
+                String.format(CsvAddressBookWriter.MESSAGE_INVALID_COLUMN, "address") + "\n"
+                        + ExportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, outputFilePath + " col/name col/Name",
+                String.format(ExportCommandParser.MESSAGE_DUPLICATE_COLUMN, "name"));
+    }
+
     @Test
     public void parse_rootDirectory_throwsParseException() {
         // root directory
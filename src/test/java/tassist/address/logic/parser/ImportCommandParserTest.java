@@ -73,6 +73,40 @@ public class ImportCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_mode_returnsImportCommandWithMode() throws IOException {
+        final Path absoluteFilePath = testRoot.resolve(VALID_FILE_PATH_2);
+        if (!Files.exists(absoluteFilePath)) {
+            Files.createFile(absoluteFilePath);
+        }
+
+        assertParseSuccess(parser, absoluteFilePath + " mode/merge",
+                new ImportCommand(absoluteFilePath, ImportCommand.Mode.MERGE));
+        assertParseSuccess(parser, absoluteFilePath + " mode/SYNC",
+                new ImportCommand(absoluteFilePath, ImportCommand.Mode.SYNC));
+        assertParseSuccess(parser, absoluteFilePath + " mode/replace",
+                new ImportCommand(absoluteFilePath, ImportCommand.Mode.REPLACE));
+        assertParseFailure(parser, absoluteFilePath + " mode/append",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_read_returnsImportCommandWithRead() throws IOException {
+        final Path absoluteFilePath = testRoot.resolve(VALID_FILE_PATH_2);
+        if (!Files.exists(absoluteFilePath)) {
+            Files.createFile(absoluteFilePath);
+        }
+
+        assertParseSuccess(parser, absoluteFilePath + " read/parallel",
+                new ImportCommand(absoluteFilePath, ImportCommand.Mode.REPLACE, true));
+        assertParseSuccess(parser, absoluteFilePath + " read/STREAM",
+                new ImportCommand(absoluteFilePath, ImportCommand.Mode.REPLACE, false));
+        assertParseSuccess(parser, absoluteFilePath + " mode/merge read/parallel",
+                new ImportCommand(absoluteFilePath, ImportCommand.Mode.MERGE, true));
+        assertParseFailure(parser, absoluteFilePath + " read/fast",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_invalidAbsolutePath_throwsParseException() throws IOException {
         // mimics absolute path
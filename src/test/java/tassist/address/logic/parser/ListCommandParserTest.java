@@ -52,6 +52,26 @@ public class ListCommandParserTest {
         assertThrows(ParseException.class, () -> parser.parse(" f/invalid fv/CS2103"));
     }
 
+    @Test
+    public void parse_deadlineFilters_returnsListCommand() throws Exception {
+        assertEquals(new ListCommand(null, null, "due", "7"), parser.parse(" f/due fv/7"));
+        assertEquals(new ListCommand(null, null, "overdue", null), parser.parse(" f/overdue"));
+        Exception thrown = assertThrows(ParseException.class, () -> parser.parse(" f/due"));
+        assertEquals(MESSAGE_MISSING_FILTER_VALUE, thrown.getMessage());
+    }
+
+    @Test
+    public void parse_multipleSortTypes_returnsListCommand() throws Exception {
+        assertEquals(new ListCommand("class,progress,name", "asc", null, null),
+                parser.parse(" s/class,progress,name o/asc"));
+        assertEquals(new ListCommand("class,progress", "asc,des", null, null),
+                parser.parse(" s/class,progress o/asc,des"));
+
+        Exception thrown = assertThrows(ParseException.class, () -> parser.parse(" s/class,progress,name o/asc,des"));
+        assertEquals(ListCommand.MESSAGE_MISMATCHED_SORT_ORDER, thrown.getMessage());
+        assertThrows(ParseException.class, () -> parser.parse(" s/class,phone o/asc"));
+    }
+
     @Test
     public void parse_invalidProgressNonNumber_throwsParseException() {
         assertThrows(ParseException.class, () -> parser.parse(" f/progress fv/notANumber"));
@@ -1,5 +1,6 @@
 package tassist.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tassist.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tassist.address.testutil.Assert.assertThrows;
@@ -28,4 +29,20 @@ public class ViewCommandParserTest {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 ViewCommand.COMMAND_WORD), () -> parser.parse("view"));
     }
+
+    @Test
+    public void parse_filterArgs_returnsFilteredViewCommand() throws ParseException {
+        assertEquals(new ViewCommand("due", "7"), parser.parse(" f/due fv/7"));
+        assertEquals(new ViewCommand("overdue", null), parser.parse(" f/overdue"));
+        assertEquals(new ViewCommand("range", "01-03-2030 31-03-2030"),
+                parser.parse(" f/range fv/01-03-2030 31-03-2030"));
+    }
+
+    @Test
+    public void parse_invalidFilterArgs_throwsParseException() {
+        assertThrows(ParseException.class, ViewCommand.MESSAGE_INVALID_FILTER, () -> parser.parse(" f/class fv/T01"));
+        assertThrows(ParseException.class, ViewCommandParser.MESSAGE_MISSING_FILTER_VALUE, () ->
+                parser.parse(" f/due"));
+        assertThrows(ParseException.class, ViewCommandParser.MESSAGE_MISSING_FILTER_TYPE, () -> parser.parse(" fv/7"));
+    }
 }
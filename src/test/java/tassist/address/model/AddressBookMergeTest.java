@@ -0,0 +1,97 @@
+package tassist.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.AMY;
+import static tassist.address.testutil.TypicalPersons.BENSON;
+import static tassist.address.testutil.TypicalPersons.BOB;
+import static tassist.address.testutil.TypicalPersons.CARL;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_1;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_2;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tassist.address.model.person.Person;
+import tassist.address.testutil.PersonBuilder;
+
+public class AddressBookMergeTest {
+
+    private AddressBook existing;
+    private AddressBook incoming;
+    private Person editedBenson;
+
+    @BeforeEach
+    public void setUp() {
+        existing = new AddressBook();
+        existing.setPersons(List.of(ALICE, BENSON, CARL));
+        existing.addTimedEvent(ASSIGNMENT_1);
+
+        // Alice unchanged, Benson updated, Carl absent, Amy and Bob new
+        editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        incoming = new AddressBook();
+        incoming.setPersons(List.of(BOB, new PersonBuilder(ALICE).build(), editedBenson, AMY));
+        incoming.setTimedEvents(List.of(ASSIGNMENT_1, ASSIGNMENT_2));
+    }
+
+    @Test
+    public void constructor_keepAbsent_insertsAndUpdatesInOrder() {
+        AddressBookMerge merge = new AddressBookMerge(existing, incoming, false);
+
+        assertEquals(List.of(ALICE, BENSON, CARL, BOB, AMY), merge.getMergedPersons());
+        assertSame(ALICE, merge.getMergedPersons().get(0));
+        assertSame(editedBenson, merge.getMergedPersons().get(1));
+        assertEquals(2, merge.getInsertedCount());
+        assertEquals(1, merge.getUpdatedCount());
+        assertEquals(1, merge.getUnchangedCount());
+        assertEquals(0, merge.getRemovedCount());
+        assertTrue(merge.hasChangedPersonOrder());
+        assertEquals(List.of(ASSIGNMENT_1, ASSIGNMENT_2), merge.getMergedTimedEvents());
+        assertTrue(merge.hasNewTimedEvents());
+
+        // Existing persons are left alone
+        assertEquals(List.of(ALICE, BENSON, CARL), existing.getPersonList());
+    }
+
+    @Test
+    public void constructor_removeAbsent_removesPersonsNotIncoming() {
+        AddressBookMerge merge = new AddressBookMerge(existing, incoming, true);
+
+        assertEquals(List.of(ALICE, BENSON, BOB, AMY), merge.getMergedPersons());
+        assertEquals(1, merge.getRemovedCount());
+        assertTrue(merge.getChangedClasses().contains(CARL.getClassNumber()));
+    }
+
+    @Test
+    public void constructor_sameData_nothingChanged() {
+        AddressBookMerge merge = new AddressBookMerge(existing, new AddressBook(existing), true);
+
+        assertEquals(existing.getPersonList(), merge.getMergedPersons());
+        assertEquals(3, merge.getUnchangedCount());
+        assertTrue(merge.getChangedClasses().isEmpty());
+        assertFalse(merge.hasChangedPersonOrder());
+        assertFalse(merge.hasNewTimedEvents());
+    }
+
+    @Test
+    public void merge_unchangedClass_keepsItsVersion() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(ALICE, CARL));
+        AddressBookVersions before = addressBook.getVersions().get();
+        AddressBook changedCarl = new AddressBook();
+        changedCarl.setPersons(List.of(new PersonBuilder(CARL).withProgress("80").build()));
+
+        addressBook.merge(new AddressBookMerge(addressBook, changedCarl, false));
+        AddressBookVersions after = addressBook.getVersions().get();
+        assertTrue(after.hasSameClass(before, ALICE.getClassNumber()));
+        assertFalse(after.hasSameClass(before, CARL.getClassNumber()));
+        assertTrue(after.hasSamePersonOrder(before));
+        assertTrue(after.hasSameTimedEvents(before));
+        assertEquals(80, addressBook.getPersonList().get(1).getProgress().value);
+    }
+}
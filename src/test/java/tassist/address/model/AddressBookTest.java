@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tassist.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static tassist.address.testutil.Assert.assertThrows;
 import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.DANIEL;
 import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.time.LocalDateTime;
@@ -13,6 +14,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -92,6 +94,80 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getTimedEventList().remove(0));
     }
 
+    @Test
+    public void getPersonsInClass_tracksAddSetAndRemove() {
+        addressBook.addPerson(ALICE);
+        assertEquals(List.of(ALICE), addressBook.getPersonsInClass("t01"));
+
+        Person movedAlice = new PersonBuilder(ALICE).withClassNumber("T02").build();
+        addressBook.setPerson(ALICE, movedAlice);
+        assertEquals(Collections.emptyList(), addressBook.getPersonsInClass("T01"));
+        assertEquals(List.of(movedAlice), addressBook.getPersonsInClass("T02"));
+
+        addressBook.removePerson(movedAlice);
+        assertEquals(Collections.emptyList(), addressBook.getPersonsInClass("T02"));
+    }
+
+    @Test
+    public void getPersonsInTeam_afterResetData_returnsMatchingPersons() {
+        Person teamAlice = new PersonBuilder(ALICE).withProjectTeam("Team Alpha").build();
+        AddressBook newData = new AddressBook();
+        newData.addPerson(teamAlice);
+        addressBook.resetData(newData);
+        assertEquals(List.of(teamAlice), addressBook.getPersonsInTeam("team alpha"));
+        assertEquals(Collections.emptyList(), addressBook.getPersonsInTeam("Team Beta"));
+    }
+
+    @Test
+    public void findStudentIdsByNameKeywords_tracksEdits() {
+        addressBook.addPerson(ALICE);
+        assertEquals(Set.of(ALICE.getStudentId()), addressBook.findStudentIdsByNameKeywords(List.of("PAUL")));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+        assertEquals(Collections.emptySet(), addressBook.findStudentIdsByNameKeywords(List.of("pauline")));
+        assertEquals(Set.of(ALICE.getStudentId()), addressBook.findStudentIdsByNameKeywords(List.of("x", "tan")));
+
+        addressBook.removePerson(renamedAlice);
+        assertEquals(Collections.emptySet(), addressBook.findStudentIdsByNameKeywords(List.of("tan")));
+    }
+
+    @Test
+    public void getAssignedPersons_tracksInPlaceAssignments() {
+        Person alice = new PersonBuilder(ALICE).build();
+        TimedEvent assignment = new Assignment("Lab 1", "Setup", LocalDateTime.of(2030, 1, 1, 23, 59));
+        addressBook.addPerson(alice);
+        assertEquals(Collections.emptyList(), addressBook.getAssignedPersons(assignment));
+
+        alice.addTimedEvent(assignment);
+        addressBook.setPerson(alice, alice);
+        TimedEvent sameIdentity = new Assignment("LAB 1", "Other description", assignment.getTime());
+        assertEquals(List.of(alice), addressBook.getAssignedPersons(sameIdentity));
+
+        alice.removeTimedEvent(assignment);
+        addressBook.setPerson(alice, alice);
+        assertEquals(Collections.emptyList(), addressBook.getAssignedPersons(assignment));
+    }
+
+    @Test
+    public void getTimedEventsBetween_returnsEventsInRangeInTimeOrder() {
+        TimedEvent late = new Assignment("Lab 3", "Late", LocalDateTime.of(2030, 3, 1, 23, 59));
+        TimedEvent early = new Assignment("Lab 1", "Early", LocalDateTime.of(2030, 1, 1, 23, 59));
+        TimedEvent middle = new Assignment("Lab 2", "Middle", LocalDateTime.of(2030, 2, 1, 23, 59));
+        addressBook.addTimedEvent(late);
+        addressBook.addTimedEvent(early);
+        addressBook.addTimedEvent(middle);
+
+        assertEquals(List.of(early, middle, late), addressBook.getTimedEventsInTimeOrder());
+        assertEquals(List.of(early, middle), addressBook.getTimedEventsBetween(
+                LocalDateTime.of(2030, 1, 1, 0, 0), LocalDateTime.of(2030, 3, 1, 23, 59)));
+        assertEquals(Collections.emptyList(), addressBook.getTimedEventsBetween(
+                LocalDateTime.of(2030, 3, 2, 0, 0), LocalDateTime.of(2030, 1, 1, 0, 0)));
+
+        addressBook.removeTimedEvent(middle);
+        assertEquals(List.of(early, late), addressBook.getTimedEventsInTimeOrder());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{"
@@ -150,6 +226,57 @@ public class AddressBookTest {
         assertFalse(addressBook.hasTimedEvent(timedEvent));
     }
 
+    @Test
+    public void setPerson_editedDetails_changesOnlyVersionOfClass() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        AddressBookVersions before = typicalAddressBook.getVersions().get();
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        typicalAddressBook.setPerson(ALICE, editedAlice);
+
+        AddressBookVersions after = typicalAddressBook.getVersions().get();
+        assertFalse(after.hasSameClass(before, ALICE.getClassNumber()));
+        assertTrue(after.hasSameClass(before, DANIEL.getClassNumber()));
+        assertTrue(after.hasSamePersonOrder(before));
+        assertTrue(after.hasSameTimedEvents(before));
+    }
+
+    @Test
+    public void setPerson_changedClass_changesVersionsOfBothClasses() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        AddressBookVersions before = typicalAddressBook.getVersions().get();
+        typicalAddressBook.setPerson(ALICE, new PersonBuilder(ALICE).withClassNumber("T04").build());
+
+        AddressBookVersions after = typicalAddressBook.getVersions().get();
+        assertFalse(after.hasSameClass(before, ALICE.getClassNumber()));
+        assertFalse(after.hasSameClass(before, DANIEL.getClassNumber()));
+    }
+
+    @Test
+    public void addAndRemovePerson_changesPersonOrderVersion() {
+        AddressBookVersions before = addressBook.getVersions().get();
+        addressBook.addPerson(ALICE);
+        AddressBookVersions afterAdd = addressBook.getVersions().get();
+        assertFalse(afterAdd.hasSamePersonOrder(before));
+        assertFalse(afterAdd.hasSameClass(before, ALICE.getClassNumber()));
+
+        addressBook.removePerson(ALICE);
+        assertFalse(addressBook.getVersions().get().hasSamePersonOrder(afterAdd));
+    }
+
+    @Test
+    public void resetData_takesOverVersions() {
+        AddressBook newData = getTypicalAddressBook();
+        addressBook.resetData(newData);
+        AddressBookVersions versions = addressBook.getVersions().get();
+        AddressBookVersions newDataVersions = newData.getVersions().get();
+        assertTrue(versions.hasSameClass(newDataVersions, ALICE.getClassNumber()));
+        assertTrue(versions.hasSamePersonOrder(newDataVersions));
+        assertTrue(versions.hasSameTimedEvents(newDataVersions));
+
+        // Versions of different address books are never the same
+        assertFalse(versions.hasSamePersonOrder(getTypicalAddressBook().getVersions().get()));
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -7,16 +7,24 @@ import static tassist.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static tassist.address.testutil.Assert.assertThrows;
 import static tassist.address.testutil.TypicalPersons.ALICE;
 import static tassist.address.testutil.TypicalPersons.BENSON;
+import static tassist.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import tassist.address.commons.core.GuiSettings;
 import tassist.address.model.person.NameContainsKeywordsPredicate;
+import tassist.address.model.person.Person;
+import tassist.address.model.timedevents.Assignment;
+import tassist.address.model.timedevents.TimedEvent;
 import tassist.address.testutil.AddressBookBuilder;
+import tassist.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +101,22 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getFilteredAssignedPersons_filteredAndSorted_onlyShownPersonsInListOrder() {
+        TimedEvent assignment = new Assignment("Lab 1", "Setup", LocalDateTime.of(2030, 1, 1, 23, 59));
+        for (Person person : List.of(ALICE, BENSON, CARL)) {
+            Person assignedPerson = new PersonBuilder(person).build();
+            assignedPerson.addTimedEvent(assignment);
+            modelManager.addPerson(assignedPerson);
+        }
+
+        modelManager.updateFilteredPersonList(person -> !person.equals(BENSON));
+        modelManager.updateSortedPersonList(Comparator.comparing((Person person) -> person.getName().value)
+                .reversed());
+        assertEquals(List.of(CARL, ALICE), modelManager.getFilteredAssignedPersons(assignment));
+        assertEquals(List.of(ALICE, BENSON, CARL), modelManager.getAssignedPersons(assignment));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
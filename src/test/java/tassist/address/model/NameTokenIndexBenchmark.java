@@ -0,0 +1,70 @@
+package tassist.address.model;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import tassist.address.model.person.NameContainsKeywordsPredicate;
+import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
+import tassist.address.testutil.PersonBuilder;
+
+/**
+ * Compares the latency of a name-keyword find evaluated as a predicate over every person against a lookup in the
+ * inverted name index kept by {@code AddressBook}.
+ *
+ * Not a unit test; run the {@code main} method manually.
+ */
+public class NameTokenIndexBenchmark {
+
+    private static final String[] NAME_WORDS = {
+        "Alice", "Ben", "Chen", "Daniel", "Elle", "Fiona", "George", "Hui", "Irfan", "Jia", "Kumar", "Lim",
+        "Muthu", "Ng", "Ong", "Priya", "Qian", "Rahman", "Siti", "Tan", "Umar", "Vera", "Wong", "Xin", "Yusof", "Zhang"
+    };
+    private static final List<String> KEYWORDS = List.of("siti", "wong");
+    private static final int ROUNDS = 20;
+
+    public static void main(String[] args) {
+        for (int size : new int[] {10_000, 100_000}) {
+            run(size);
+        }
+    }
+
+    private static void run(int size) {
+        AddressBook addressBook = createAddressBook(size);
+        List<Person> persons = addressBook.getPersonList();
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(KEYWORDS);
+
+        long predicateMatches = 0;
+        long predicateNanos = 0;
+        long indexMatches = 0;
+        long indexNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            predicateMatches = persons.stream().filter(predicate).count();
+            predicateNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            Set<StudentId> matchingIds = addressBook.findStudentIdsByNameKeywords(KEYWORDS);
+            indexMatches = persons.stream().filter(person -> matchingIds.contains(person.getStudentId())).count();
+            indexNanos += System.nanoTime() - start;
+        }
+
+        System.out.printf("%,d students: predicate %.2f ms, index %.2f ms (%d/%d matches)%n", size,
+                predicateNanos / 1e6 / ROUNDS, indexNanos / 1e6 / ROUNDS, predicateMatches, indexMatches);
+    }
+
+    private static AddressBook createAddressBook(int size) {
+        Random random = new Random(42);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            String name = NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " "
+                    + NAME_WORDS[random.nextInt(NAME_WORDS.length)];
+            addressBook.addPerson(new PersonBuilder()
+                    .withName(name)
+                    .withStudentId(String.format("A%07dB", i))
+                    .build());
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,54 @@
+package tassist.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tassist.address.model.person.Github;
+import tassist.address.model.person.Person;
+import tassist.address.testutil.PersonBuilder;
+
+public class UniqueAttributeIndexTest {
+
+    private final UniqueAttributeIndex index = new UniqueAttributeIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void isPhoneTakenByOther_ownPhone_returnsFalse() {
+        index.add(ALICE);
+        assertFalse(index.isPhoneTakenByOther(ALICE.getPhone(), ALICE.getStudentId()));
+        assertTrue(index.isPhoneTakenByOther(ALICE.getPhone(), BENSON.getStudentId()));
+    }
+
+    @Test
+    public void isEmailTakenByOther_afterRemove_returnsFalse() {
+        index.add(ALICE);
+        index.remove(ALICE);
+        assertFalse(index.isEmailTakenByOther(ALICE.getEmail(), BENSON.getStudentId()));
+    }
+
+    @Test
+    public void isGithubTakenByOther_noGithub_returnsFalse() {
+        Person aliceWithoutGithub = new PersonBuilder(ALICE).withGithub(Github.NO_GITHUB).build();
+        index.add(aliceWithoutGithub);
+        assertFalse(index.isGithubTakenByOther(aliceWithoutGithub.getGithub(), BENSON.getStudentId()));
+    }
+
+    @Test
+    public void hasConflict_sharedEmail_returnsTrue() {
+        index.setAll(List.of(ALICE));
+        Person bensonWithAliceEmail = new PersonBuilder(BENSON).withEmail(ALICE.getEmail().value).build();
+        assertTrue(index.hasConflict(bensonWithAliceEmail));
+        assertFalse(index.hasConflict(BENSON));
+    }
+}
@@ -1,5 +1,8 @@
 package tassist.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tassist.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +21,29 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookStorageMode_nullMode_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookStorageMode(null));
+    }
+
+    @Test
+    public void setAddressBookPrettyPrinted() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertTrue(userPrefs.isAddressBookPrettyPrinted());
+        userPrefs.setAddressBookPrettyPrinted(false);
+        assertFalse(userPrefs.isAddressBookPrettyPrinted());
+        assertNotEquals(new UserPrefs(), userPrefs);
+        assertFalse(new UserPrefs(userPrefs).isAddressBookPrettyPrinted());
+    }
+
+    @Test
+    public void setAddressBookCompressed() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertFalse(userPrefs.isAddressBookCompressed());
+        userPrefs.setAddressBookCompressed(true);
+        assertTrue(userPrefs.isAddressBookCompressed());
+        assertNotEquals(new UserPrefs(), userPrefs);
+        assertTrue(new UserPrefs(userPrefs).isAddressBookCompressed());
+    }
 }
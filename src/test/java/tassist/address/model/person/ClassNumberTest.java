@@ -1,12 +1,21 @@
 package tassist.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
 public class ClassNumberTest {
 
+    @Test
+    public void of_sameClassNumber_returnsSameInstance() {
+        assertSame(ClassNumber.of("T01"), ClassNumber.of(new String("T01")));
+        assertSame(ClassNumber.of(ClassNumber.DEFAULT_CLASS), ClassNumber.of(ClassNumber.DEFAULT_CLASS));
+        assertNotSame(ClassNumber.of("T01"), ClassNumber.of("T02"));
+    }
+
     @Test
     public void equals() {
         ClassNumber classNumber = new ClassNumber("T01");
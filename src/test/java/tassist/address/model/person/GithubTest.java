@@ -1,6 +1,8 @@
 package tassist.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tassist.address.testutil.Assert.assertThrows;
 
@@ -19,6 +21,13 @@ public class GithubTest {
         assertThrows(IllegalArgumentException.class, () -> new Github(invalidGithub));
     }
 
+    @Test
+    public void of_noGithub_returnsSharedInstance() {
+        assertSame(Github.of(Github.NO_GITHUB), Github.of(new String(Github.NO_GITHUB)));
+        assertEquals(new Github("https://github.com/alice"), Github.of("https://github.com/alice"));
+        assertThrows(IllegalArgumentException.class, () -> Github.of("//github."));
+    }
+
     @Test
     public void isValidGithub() {
         // blank github
@@ -1,5 +1,6 @@
 package tassist.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tassist.address.testutil.Assert.assertThrows;
@@ -40,6 +41,18 @@ public class NameTest {
         assertTrue(Name.isValidName("David Son Of Deshaka")); // addition of 'son of'
     }
 
+    @Test
+    public void getSortKey_namesCreatedOnDifferentThreads_orderedIgnoringCase() throws Exception {
+        Name[] otherThreadName = new Name[1];
+        Thread thread = new Thread(() -> otherThreadName[0] = new Name("alice"));
+        thread.start();
+        thread.join();
+        Name name = new Name("Bob");
+
+        assertTrue(otherThreadName[0].getSortKey().compareTo(name.getSortKey()) < 0);
+        assertEquals(0, otherThreadName[0].getSortKey().compareTo(new Name("ALICE").getSortKey()));
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -0,0 +1,75 @@
+package tassist.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tassist.address.model.person.PersonComparator.SortField;
+import tassist.address.testutil.PersonBuilder;
+
+public class PersonComparatorTest {
+
+    private static final Person ALEX_T01_50 = new PersonBuilder().withName("alex Tan").withStudentId("A0000001B")
+            .withClassNumber("T01").withProgress("50").build();
+    private static final Person BETTY_T01_50 = new PersonBuilder().withName("Betty Lim").withStudentId("A0000002B")
+            .withClassNumber("T01").withProgress("50").build();
+    private static final Person CARL_T01_80 = new PersonBuilder().withName("Carl Ong").withStudentId("A0000003B")
+            .withClassNumber("T01").withProgress("80").build();
+    private static final Person DINA_T02_90 = new PersonBuilder().withName("Dina Ng").withStudentId("A0000004B")
+            .withClassNumber("T02").withProgress("90").build();
+
+    @Test
+    public void constructor_mismatchedOrders_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new PersonComparator(List.of(SortField.NAME, SortField.PROGRESS), List.of(true)));
+        assertThrows(IllegalArgumentException.class, () -> new PersonComparator(List.of(), List.of()));
+    }
+
+    @Test
+    public void compare_nameIgnoresCase() {
+        PersonComparator comparator = new PersonComparator(List.of(SortField.NAME), List.of(true));
+        assertTrue(comparator.compare(ALEX_T01_50, BETTY_T01_50) < 0);
+        assertTrue(comparator.compare(CARL_T01_80, ALEX_T01_50) > 0);
+    }
+
+    @Test
+    public void compare_multipleFields_breaksTiesInOrder() {
+        PersonComparator comparator = new PersonComparator(
+                List.of(SortField.CLASS, SortField.PROGRESS, SortField.NAME), List.of(true, false, true));
+        List<Person> persons = new ArrayList<>(List.of(DINA_T02_90, BETTY_T01_50, CARL_T01_80, ALEX_T01_50));
+        persons.sort(comparator);
+        assertEquals(List.of(CARL_T01_80, ALEX_T01_50, BETTY_T01_50, DINA_T02_90), persons);
+    }
+
+    @Test
+    public void fromKeyword() {
+        assertEquals(SortField.GITHUB, SortField.fromKeyword("GitHub"));
+        assertEquals(SortField.TEAM, SortField.fromKeyword(" team "));
+        assertEquals(null, SortField.fromKeyword("phone"));
+    }
+
+    @Test
+    public void equals() {
+        PersonComparator comparator = new PersonComparator(List.of(SortField.NAME), List.of(true));
+
+        // same fields and orders -> returns true
+        assertEquals(comparator, new PersonComparator(List.of(SortField.NAME), List.of(true)));
+        assertEquals(comparator.hashCode(), new PersonComparator(List.of(SortField.NAME), List.of(true)).hashCode());
+
+        // different order -> returns false
+        assertNotEquals(comparator, new PersonComparator(List.of(SortField.NAME), List.of(false)));
+
+        // different field -> returns false
+        assertNotEquals(comparator, new PersonComparator(List.of(SortField.GITHUB), List.of(true)));
+
+        // null -> returns false
+        assertFalse(comparator.equals(null));
+    }
+}
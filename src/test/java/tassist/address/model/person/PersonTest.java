@@ -13,6 +13,7 @@ import static tassist.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static tassist.address.testutil.Assert.assertThrows;
 import static tassist.address.testutil.TypicalPersons.ALICE;
 import static tassist.address.testutil.TypicalPersons.BOB;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_1;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -111,6 +112,24 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void hasSameDetails() {
+        // same values -> returns true
+        assertTrue(ALICE.hasSameDetails(new PersonBuilder(ALICE).build()));
+
+        // null -> returns false
+        assertFalse(ALICE.hasSameDetails(null));
+
+        // same student id, different progress -> returns false
+        assertFalse(ALICE.hasSameDetails(new PersonBuilder(ALICE).withProgress(VALID_PROGRESS_BOB).build()));
+
+        // same student id, different timed events -> returns false
+        Person assignedAlice = new PersonBuilder(ALICE).build();
+        assignedAlice.addTimedEvent(ASSIGNMENT_1);
+        assertFalse(ALICE.hasSameDetails(assignedAlice));
+        assertTrue(assignedAlice.hasSameDetails(assignedAlice.copy()));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName()
@@ -11,6 +11,7 @@ import static tassist.address.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -46,6 +47,30 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void findByStudentId_nullStudentId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.findByStudentId(null));
+    }
+
+    @Test
+    public void findByStudentId_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findByStudentId(ALICE.getStudentId()));
+        assertEquals(Optional.empty(), uniquePersonList.findByStudentId(BOB.getStudentId()));
+    }
+
+    @Test
+    public void findByStudentId_afterSetPersonAndRemove_tracksChanges() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Optional.empty(), uniquePersonList.findByStudentId(ALICE.getStudentId()));
+        assertEquals(Optional.of(BOB), uniquePersonList.findByStudentId(BOB.getStudentId()));
+
+        uniquePersonList.remove(BOB);
+        assertEquals(Optional.empty(), uniquePersonList.findByStudentId(BOB.getStudentId()));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -161,6 +186,43 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_leavesListUnchanged() {
+        uniquePersonList.add(BOB);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertEquals(Optional.of(BOB), uniquePersonList.findByStudentId(BOB.getStudentId()));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void getModificationCount_changesOnEachModification() {
+        long initialCount = uniquePersonList.getModificationCount();
+        uniquePersonList.add(ALICE);
+        long countAfterAdd = uniquePersonList.getModificationCount();
+        assertTrue(countAfterAdd > initialCount);
+
+        uniquePersonList.contains(ALICE);
+        uniquePersonList.findByStudentId(ALICE.getStudentId());
+        assertEquals(countAfterAdd, uniquePersonList.getModificationCount());
+
+        uniquePersonList.setPerson(ALICE, BOB);
+        long countAfterSet = uniquePersonList.getModificationCount();
+        assertTrue(countAfterSet > countAfterAdd);
+
+        uniquePersonList.remove(BOB);
+        assertTrue(uniquePersonList.getModificationCount() > countAfterSet);
+    }
+
+    @Test
+    public void getModificationCount_failedModification_unchanged() {
+        uniquePersonList.add(ALICE);
+        long count = uniquePersonList.getModificationCount();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(BOB));
+        assertEquals(count, uniquePersonList.getModificationCount());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
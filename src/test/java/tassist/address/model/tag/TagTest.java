@@ -1,5 +1,7 @@
 package tassist.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static tassist.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,13 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_sameTagName_returnsSameInstance() {
+        assertSame(Tag.of("friends"), Tag.of(new String("friends")));
+        assertNotSame(Tag.of("friends"), Tag.of("colleagues"));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
@@ -1,7 +1,11 @@
 package tassist.address.model.timedevents;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -18,4 +22,25 @@ public class TimedEventTest {
         expectedAttributes.add("type");
         assertEquals(attributes, expectedAttributes);
     }
+
+    @Test
+    public void getIdentity_sameNameIgnoringCaseAndTime_equalIdentities() {
+        LocalDateTime time = LocalDateTime.of(2030, 1, 1, 23, 59);
+        TimedEvent event = new Assignment("Lab 1", "Setup", time);
+        TimedEvent sameIdentity = new Assignment("LAB 1", "Other description", time);
+        TimedEvent differentTime = new Assignment("Lab 1", "Setup", time.plusDays(1));
+
+        assertEquals(event.getIdentity(), sameIdentity.getIdentity());
+        assertEquals(event.getIdentity().hashCode(), sameIdentity.getIdentity().hashCode());
+        assertTrue(event.isSameTimedEvent(sameIdentity));
+        assertNotEquals(event.getIdentity(), differentTime.getIdentity());
+        assertFalse(event.isSameTimedEvent(differentTime));
+    }
+
+    @Test
+    public void hashCode_equalTimedEvents_equalHashCodes() {
+        LocalDateTime time = LocalDateTime.of(2030, 1, 1, 23, 59);
+        assertEquals(new Assignment("Lab 1", "Setup", time).hashCode(),
+                new Assignment("Lab 1", "Setup", time).hashCode());
+    }
 }
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tassist.address.testutil.Assert.assertThrows;
 import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_1;
 import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_2;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_3;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -46,6 +47,19 @@ public class UniqueTimedEventListTest {
         assertTrue(uniqueTimedEventList.contains(editedAssignment));
     }
 
+    @Test
+    public void indexOf_afterRemovalAndReplacement_matchesList() {
+        uniqueTimedEventList.setTimedEvents(List.of(ASSIGNMENT_1, ASSIGNMENT_2, ASSIGNMENT_3));
+        uniqueTimedEventList.remove(ASSIGNMENT_1);
+
+        assertEquals(-1, uniqueTimedEventList.indexOf(ASSIGNMENT_1));
+        assertEquals(0, uniqueTimedEventList.indexOf(ASSIGNMENT_2));
+        assertEquals(1, uniqueTimedEventList.indexOf(ASSIGNMENT_3));
+
+        uniqueTimedEventList.add(ASSIGNMENT_1);
+        assertEquals(2, uniqueTimedEventList.indexOf(ASSIGNMENT_1));
+    }
+
     @Test
     public void add_nullTimedEvent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTimedEventList.add(null));
@@ -131,6 +145,16 @@ public class UniqueTimedEventListTest {
         assertEquals(expectedUniqueTimedEventList, uniqueTimedEventList);
     }
 
+    @Test
+    public void remove_timedEventWithSameIdentity_removesStoredTimedEvent() {
+        uniqueTimedEventList.add(ASSIGNMENT_1);
+        TimedEvent sameIdentity = new Assignment(ASSIGNMENT_1.getName().toUpperCase(), "Other description",
+                ASSIGNMENT_1.getTime());
+        uniqueTimedEventList.remove(sameIdentity);
+        assertFalse(uniqueTimedEventList.contains(ASSIGNMENT_1));
+        assertEquals(Collections.emptyList(), uniqueTimedEventList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setTimedEvents_nullUniqueTimedEventList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTimedEventList
@@ -168,6 +192,34 @@ public class UniqueTimedEventListTest {
                 uniqueTimedEventList.setTimedEvents(listWithDuplicateTimedEvents));
     }
 
+    @Test
+    public void setTimedEvents_listWithDuplicateTimedEvents_leavesListUnchanged() {
+        uniqueTimedEventList.add(ASSIGNMENT_2);
+        List<TimedEvent> listWithDuplicateTimedEvents = Arrays.asList(ASSIGNMENT_1, ASSIGNMENT_1);
+        assertThrows(DuplicateTimedEventException.class, () ->
+                uniqueTimedEventList.setTimedEvents(listWithDuplicateTimedEvents));
+        assertTrue(uniqueTimedEventList.contains(ASSIGNMENT_2));
+        assertFalse(uniqueTimedEventList.contains(ASSIGNMENT_1));
+    }
+
+    @Test
+    public void getModificationCount_changesOnEachModification() {
+        long initialCount = uniqueTimedEventList.getModificationCount();
+        uniqueTimedEventList.add(ASSIGNMENT_1);
+        long countAfterAdd = uniqueTimedEventList.getModificationCount();
+        assertTrue(countAfterAdd > initialCount);
+
+        uniqueTimedEventList.contains(ASSIGNMENT_1);
+        assertEquals(countAfterAdd, uniqueTimedEventList.getModificationCount());
+
+        uniqueTimedEventList.setTimedEvents(List.of(ASSIGNMENT_2));
+        long countAfterSet = uniqueTimedEventList.getModificationCount();
+        assertTrue(countAfterSet > countAfterAdd);
+
+        uniqueTimedEventList.remove(ASSIGNMENT_2);
+        assertTrue(uniqueTimedEventList.getModificationCount() > countAfterSet);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> uniqueTimedEventList
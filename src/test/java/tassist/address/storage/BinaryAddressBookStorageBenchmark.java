@@ -0,0 +1,68 @@
+package tassist.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import tassist.address.model.AddressBook;
+import tassist.address.testutil.LargeAddressBookGenerator;
+
+/**
+ * Compares the time taken to save and load large address books with {@code JsonAddressBookStorage} against
+ * {@code BinaryAddressBookStorage}, and the size of the files each writes.
+ *
+ * Not a unit test; run the {@code main} method manually.
+ */
+public class BinaryAddressBookStorageBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000};
+    private static final int TIMED_EVENT_COUNT = 10;
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("binaryBenchmark");
+        for (int size : SIZES) {
+            AddressBook addressBook = LargeAddressBookGenerator.generate(size, TIMED_EVENT_COUNT);
+            Path jsonFilePath = folder.resolve(size + ".json");
+            Path binaryFilePath = folder.resolve(size + ".bin");
+            AddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+            AddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryFilePath);
+
+            // Warm up both storages before measuring
+            jsonStorage.saveAddressBook(addressBook);
+            jsonStorage.readAddressBook();
+            binaryStorage.saveAddressBook(addressBook);
+            binaryStorage.readAddressBook();
+
+            long jsonSave = 0;
+            long jsonLoad = 0;
+            long binarySave = 0;
+            long binaryLoad = 0;
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                jsonStorage.saveAddressBook(addressBook);
+                jsonSave += System.nanoTime() - start;
+                start = System.nanoTime();
+                jsonStorage.readAddressBook();
+                jsonLoad += System.nanoTime() - start;
+                start = System.nanoTime();
+                binaryStorage.saveAddressBook(addressBook);
+                binarySave += System.nanoTime() - start;
+                start = System.nanoTime();
+                binaryStorage.readAddressBook();
+                binaryLoad += System.nanoTime() - start;
+            }
+
+            System.out.printf("%,d students: JSON %,d KB, save %,d ms, load %,d ms; "
+                    + "binary %,d KB, save %,d ms, load %,d ms%n",
+                    size, Files.size(jsonFilePath) / 1024, millis(jsonSave), millis(jsonLoad),
+                    Files.size(binaryFilePath) / 1024, millis(binarySave), millis(binaryLoad));
+            Files.delete(jsonFilePath);
+            Files.delete(binaryFilePath);
+        }
+        Files.delete(folder);
+    }
+
+    private static long millis(long totalNanos) {
+        return totalNanos / RUNS / 1_000_000;
+    }
+}
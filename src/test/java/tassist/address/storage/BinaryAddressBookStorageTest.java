@@ -0,0 +1,141 @@
+package tassist.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.CARL;
+import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_1;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_2;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tassist.address.commons.exceptions.DataLoadingException;
+import tassist.address.model.AddressBook;
+import tassist.address.model.ReadOnlyAddressBook;
+import tassist.address.model.person.Person;
+import tassist.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.bin");
+        addressBook = getTypicalAddressBook();
+        addressBook.addTimedEvent(ASSIGNMENT_1);
+        addressBook.addTimedEvent(ASSIGNMENT_2);
+        Person assignedCarl = new PersonBuilder(CARL).withTags("friends", "owesMoney").build();
+        assignedCarl.addTimedEvent(ASSIGNMENT_1);
+        assignedCarl.addTimedEvent(ASSIGNMENT_2);
+        addressBook.setPerson(CARL, assignedCarl);
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.txt.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.txt")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertSameContents(addressBook, storage.readAddressBook().get());
+
+        // Modify data, overwrite exiting file, and read back
+        addressBook.removePerson(ALICE);
+        addressBook.removeTimedEvent(ASSIGNMENT_2);
+        storage.saveAddressBook(addressBook);
+        assertSameContents(addressBook, storage.readAddressBook().get());
+
+        // Save and read without specifying file path
+        storage.saveAddressBook(new AddressBook());
+        assertSameContents(new AddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_repeatedValues_storedOnce() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(jsonFilePath, false).saveAddressBook(addressBook);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_readAsJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook);
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(jsonFilePath));
+        assertSameContents(addressBook, new BinaryAddressBookStorage(filePath).readAddressBook(jsonFilePath).get());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataLoadingException() throws Exception {
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+        byte[] bytes = Files.readAllBytes(filePath);
+        // Makes the length of the first class number far longer than the file
+        bytes[12] = (byte) 0x7f;
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[7] = (byte) (BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath).saveAddressBook(null));
+    }
+
+    /**
+     * Asserts that {@code actual} has the same persons, with the same details and in the same order, and the same
+     * timed events as {@code expected}.
+     */
+    private static void assertSameContents(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        List<Person> expectedPersons = expected.getPersonList();
+        List<Person> actualPersons = actual.getPersonList();
+        assertEquals(expectedPersons, actualPersons);
+        for (int i = 0; i < expectedPersons.size(); i++) {
+            assertTrue(expectedPersons.get(i).hasSameDetails(actualPersons.get(i)));
+        }
+        assertEquals(expected.getTimedEventList(), actual.getTimedEventList());
+    }
+}
@@ -0,0 +1,45 @@
+package tassist.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_1;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tassist.address.commons.exceptions.DataLoadingException;
+import tassist.address.model.AddressBook;
+
+public class BinaryJsonConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final BinaryJsonConverter converter = new BinaryJsonConverter();
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameJson() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addTimedEvent(ASSIGNMENT_1);
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        Path convertedFilePath = testFolder.resolve("converted.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook);
+
+        converter.convertJsonToBinary(jsonFilePath, binaryFilePath);
+        assertEquals(addressBook, new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get());
+
+        converter.convertBinaryToJson(binaryFilePath, convertedFilePath);
+        assertEquals(Files.readString(jsonFilePath), Files.readString(convertedFilePath));
+    }
+
+    @Test
+    public void convertJsonToBinary_missingFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> converter.convertJsonToBinary(
+                testFolder.resolve("missing.json"), testFolder.resolve("addressbook.bin")));
+    }
+}
@@ -0,0 +1,72 @@
+package tassist.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import tassist.address.model.AddressBook;
+import tassist.address.testutil.LargeAddressBookGenerator;
+
+/**
+ * Compares the time taken to save and load large address books as plain and as gzip-compressed JSON, and the
+ * size of the files each writes.
+ *
+ * Not a unit test; run the {@code main} method manually.
+ */
+public class CompressedJsonStorageBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000};
+    private static final int TIMED_EVENT_COUNT = 10;
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("compressedBenchmark");
+        for (int size : SIZES) {
+            AddressBook addressBook = LargeAddressBookGenerator.generate(size, TIMED_EVENT_COUNT);
+            Path jsonFilePath = folder.resolve(size + ".json");
+            Path compressedFilePath = JsonAddressBookStorage.getCompressedFilePath(jsonFilePath);
+            AddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+            AddressBookStorage compressedStorage = new JsonAddressBookStorage(compressedFilePath);
+
+            // Warm up both storages before measuring
+            jsonStorage.saveAddressBook(addressBook);
+            jsonStorage.readAddressBook();
+            compressedStorage.saveAddressBook(addressBook);
+            compressedStorage.readAddressBook();
+
+            long jsonSave = 0;
+            long jsonLoad = 0;
+            long compressedSave = 0;
+            long compressedLoad = 0;
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                jsonStorage.saveAddressBook(addressBook);
+                jsonSave += System.nanoTime() - start;
+                start = System.nanoTime();
+                jsonStorage.readAddressBook();
+                jsonLoad += System.nanoTime() - start;
+                start = System.nanoTime();
+                compressedStorage.saveAddressBook(addressBook);
+                compressedSave += System.nanoTime() - start;
+                start = System.nanoTime();
+                compressedStorage.readAddressBook();
+                compressedLoad += System.nanoTime() - start;
+            }
+
+            System.out.printf("%,d students: JSON %,d KB, save %,d ms, load %,d ms; "
+                    + "compressed %,d KB (%.1fx smaller), save %,d ms, load %,d ms%n",
+                    size, Files.size(jsonFilePath) / 1024, millis(jsonSave), millis(jsonLoad),
+                    Files.size(compressedFilePath) / 1024,
+                    (double) Files.size(jsonFilePath) / Files.size(compressedFilePath),
+                    millis(compressedSave), millis(compressedLoad));
+            Files.delete(jsonFilePath);
+            Files.delete(JsonAddressBookStorage.getChecksumPath(jsonFilePath));
+            Files.delete(compressedFilePath);
+            Files.delete(JsonAddressBookStorage.getChecksumPath(compressedFilePath));
+        }
+        Files.delete(folder);
+    }
+
+    private static long millis(long totalNanos) {
+        return totalNanos / RUNS / 1_000_000;
+    }
+}
@@ -0,0 +1,183 @@
+package tassist.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.opencsv.exceptions.CsvException;
+
+import tassist.address.commons.exceptions.IllegalValueException;
+import tassist.address.model.AddressBook;
+import tassist.address.model.person.Person;
+import tassist.address.model.person.Phone;
+import tassist.address.testutil.LargeAddressBookGenerator;
+
+public class CsvAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "CsvJsonConverterTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_validCsv_sameAsConvertedJson() throws Exception {
+        Path csvFilePath = TEST_DATA_FOLDER.resolve("testConverterFromJson.csv");
+        Path jsonFilePath = testFolder.resolve("converted.json");
+        new CsvJsonConverter().convertCsvToJson(csvFilePath, jsonFilePath);
+        AddressBook expected = JsonAddressBookReader.read(jsonFilePath);
+
+        AddressBook actual = CsvAddressBookReader.read(csvFilePath);
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            assertTrue(expected.getPersonList().get(i).hasSameDetails(actual.getPersonList().get(i)));
+        }
+        assertEquals(expected.getTimedEventList(), actual.getTimedEventList());
+    }
+
+    @Test
+    public void read_exportedAddressBook_sameAddressBook() throws Exception {
+        AddressBook original = LargeAddressBookGenerator.generate(10_000, 5);
+        Path csvFilePath = testFolder.resolve("exported.csv");
+        new CsvJsonConverter().convertJsonToCsv(csvFilePath, original);
+
+        AddressBook readBack = CsvAddressBookReader.read(csvFilePath);
+        List<Person> persons = readBack.getPersonList();
+        assertEquals(original.getPersonList(), persons);
+        for (int i = 0; i < persons.size(); i++) {
+            assertTrue(original.getPersonList().get(i).hasSameDetails(persons.get(i)));
+        }
+        assertEquals(original.getTimedEventList(), readBack.getTimedEventList());
+    }
+
+    @Test
+    public void readInParallel_exportedAddressBook_sameAsRead() throws Exception {
+        AddressBook original = LargeAddressBookGenerator.generate(10_000, 5);
+        Path csvFilePath = testFolder.resolve("exported.csv");
+        new CsvJsonConverter().convertJsonToCsv(csvFilePath, original);
+
+        AddressBook expected = CsvAddressBookReader.read(csvFilePath);
+        AddressBook actual = CsvAddressBookReader.readInParallel(csvFilePath);
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        for (int i = 0; i < actual.getPersonList().size(); i++) {
+            assertTrue(expected.getPersonList().get(i).hasSameDetails(actual.getPersonList().get(i)));
+        }
+        assertEquals(expected.getTimedEventList(), actual.getTimedEventList());
+    }
+
+    @Test
+    public void readInParallel_duplicateInLaterChunk_throwsDuplicateMessage() throws Exception {
+        AddressBook original = LargeAddressBookGenerator.generate(10_000, 0);
+        Path csvFilePath = testFolder.resolve("exported.csv");
+        new CsvJsonConverter().convertJsonToCsv(csvFilePath, original);
+        List<String> lines = Files.readAllLines(csvFilePath);
+        int lastPersonLine = original.getPersonList().size();
+        lines.set(lastPersonLine, lines.get(1));
+        Files.write(csvFilePath, lines);
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                CsvAddressBookReader.readInParallel(csvFilePath));
+    }
+
+    @Test
+    public void readInParallel_emptyCsv_throwsCsvException() {
+        assertThrows(CsvException.class, () ->
+                CsvAddressBookReader.readInParallel(TEST_DATA_FOLDER.resolve("empty.csv")));
+    }
+
+    @Test
+    public void readInParallel_missingValues_throwsCsvException() throws Exception {
+        Path csvFilePath = testFolder.resolve("short.csv");
+        Files.writeString(csvFilePath, "\"name\",\"phone\"\n\"Alice Pauline\",\"94351253\"\n");
+        assertThrows(CsvException.class, () -> CsvAddressBookReader.readInParallel(csvFilePath));
+    }
+
+    @Test
+    public void readInParallel_invalidValueBeforeMissingValues_sameErrorAsRead() throws Exception {
+        Path csvFilePath = testFolder.resolve("invalidThenShort.csv");
+        new CsvJsonConverter().convertJsonToCsv(csvFilePath, getTypicalAddressBook());
+        List<String> lines = Files.readAllLines(csvFilePath);
+        lines.set(1, lines.get(1).replace("94351253", "+651234"));
+        lines.set(2, "\"Benson Meier\",\"98765432\"");
+        Files.write(csvFilePath, lines);
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                CsvAddressBookReader.read(csvFilePath));
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                CsvAddressBookReader.readInParallel(csvFilePath));
+    }
+
+    @Test
+    public void findRowStarts() {
+        assertArrayEquals(new int[] {0}, CsvAddressBookReader.findRowStarts(""));
+        assertArrayEquals(new int[] {0, 4, 8}, CsvAddressBookReader.findRowStarts("a,b\nc,d\n"));
+        assertArrayEquals(new int[] {0, 5, 8}, CsvAddressBookReader.findRowStarts("a,b\r\nc,d"));
+
+        // Line breaks in quoted values, also after escaped quotes, do not end a row
+        assertArrayEquals(new int[] {0, 10, 13}, CsvAddressBookReader.findRowStarts("\"a\nb\",\"c\"\nd,e"));
+        assertArrayEquals(new int[] {0, 10, 13}, CsvAddressBookReader.findRowStarts("\"a\"\"\nb\",c\nd,e"));
+        assertArrayEquals(new int[] {0, 10, 13}, CsvAddressBookReader.findRowStarts("\"a\\\"\nb\",c\nd,e"));
+    }
+
+    @Test
+    public void read_withProgress_reportsRowsAndBytesRead() throws Exception {
+        Path csvFilePath = testFolder.resolve("progress.csv");
+        new CsvJsonConverter().convertJsonToCsv(csvFilePath, getTypicalAddressBook());
+        List<long[]> updates = new ArrayList<>();
+
+        CsvAddressBookReader.read(csvFilePath,
+                (rowsProcessed, bytesProcessed) -> updates.add(new long[] {rowsProcessed, bytesProcessed}));
+        long[] lastUpdate = updates.get(updates.size() - 1);
+        assertEquals(Files.readAllLines(csvFilePath).size(), lastUpdate[0]);
+        assertEquals(Files.size(csvFilePath), lastUpdate[1]);
+    }
+
+    @Test
+    public void read_progressCancels_throwsCancellationException() throws Exception {
+        Path csvFilePath = testFolder.resolve("cancelled.csv");
+        new CsvJsonConverter().convertJsonToCsv(csvFilePath, getTypicalAddressBook());
+
+        assertThrows(CancellationException.class, () -> CsvAddressBookReader.read(csvFilePath,
+                (rowsProcessed, bytesProcessed) -> {
+                    throw new CancellationException();
+                }));
+    }
+
+    @Test
+    public void read_emptyCsv_throwsCsvException() {
+        assertThrows(CsvException.class, () -> CsvAddressBookReader.read(TEST_DATA_FOLDER.resolve("empty.csv")));
+    }
+
+    @Test
+    public void read_nonExistentCsv_throwsIoException() {
+        assertThrows(IOException.class, () -> CsvAddressBookReader.read(TEST_DATA_FOLDER.resolve("missing.csv")));
+    }
+
+    @Test
+    public void read_invalidValue_throwsIllegalValueException() throws Exception {
+        Path csvFilePath = testFolder.resolve("invalid.csv");
+        List<String> lines = Files.readAllLines(TEST_DATA_FOLDER.resolve("valid.csv"));
+        lines.set(1, lines.get(1).replace("94351253", "+651234"));
+        Files.write(csvFilePath, lines);
+        assertThrows(IllegalValueException.class, () -> CsvAddressBookReader.read(csvFilePath));
+    }
+
+    @Test
+    public void read_missingValues_throwsCsvException() throws Exception {
+        Path csvFilePath = testFolder.resolve("short.csv");
+        Files.writeString(csvFilePath, "\"name\",\"phone\"\n\"Alice Pauline\",\"94351253\"\n");
+        assertThrows(CsvException.class, () -> CsvAddressBookReader.read(csvFilePath));
+    }
+}
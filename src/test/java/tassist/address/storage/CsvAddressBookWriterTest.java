@@ -0,0 +1,87 @@
+package tassist.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.BENSON;
+import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tassist.address.model.AddressBook;
+import tassist.address.model.person.Person;
+import tassist.address.model.timedevents.Assignment;
+import tassist.address.model.timedevents.TimedEvent;
+import tassist.address.testutil.PersonBuilder;
+
+public class CsvAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_allColumns_readBackSame() throws Exception {
+        TimedEvent quotedEvent = new Assignment("Essay", "Write \"about\" café in 500 words",
+                LocalDateTime.of(2030, 1, 2, 23, 59));
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addTimedEvent(quotedEvent);
+        Person assignedAlice = new PersonBuilder(ALICE).build();
+        assignedAlice.addTimedEvent(quotedEvent);
+        addressBook.setPerson(ALICE, assignedAlice);
+        Path csvFilePath = testFolder.resolve("all.csv");
+
+        new CsvAddressBookWriter().write(csvFilePath, addressBook.getPersonList(), addressBook.getTimedEventList());
+        AddressBook readBack = CsvAddressBookReader.read(csvFilePath);
+        assertEquals(addressBook.getPersonList(), readBack.getPersonList());
+        for (int i = 0; i < readBack.getPersonList().size(); i++) {
+            assertTrue(addressBook.getPersonList().get(i).hasSameDetails(readBack.getPersonList().get(i)));
+        }
+        assertEquals(addressBook.getTimedEventList(), readBack.getTimedEventList());
+    }
+
+    @Test
+    public void write_withProgress_reportsRowsAndBytesWritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Path csvFilePath = testFolder.resolve("progress.csv");
+        List<long[]> updates = new ArrayList<>();
+
+        new CsvAddressBookWriter().write(csvFilePath, addressBook.getPersonList(), addressBook.getTimedEventList(),
+                (rowsProcessed, bytesProcessed) -> updates.add(new long[] {rowsProcessed, bytesProcessed}));
+        long[] lastUpdate = updates.get(updates.size() - 1);
+        assertEquals(addressBook.getPersonList().size() + addressBook.getTimedEventList().size(), lastUpdate[0]);
+        assertEquals(Files.size(csvFilePath), lastUpdate[1]);
+    }
+
+    @Test
+    public void write_someColumns_writesOnlyThoseInOrder() throws Exception {
+        Path csvFilePath = testFolder.resolve("some.csv");
+
+        new CsvAddressBookWriter(List.of("studentId", "tags", "name"))
+                .write(csvFilePath, List.of(BENSON), List.of());
+        assertEquals("\"studentId\",\"tags\",\"name\"\n"
+                + "\"A0101011A\",\"" + String.join(",", tagNames(BENSON)) + "\",\"Benson Meier\"\n"
+                + "\"timedEvents\"\n"
+                + "\"name\",\"description\",\"time\",\"type\"\n",
+                Files.readString(csvFilePath, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void constructor_unknownColumn_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, String.format(CsvAddressBookWriter.MESSAGE_INVALID_COLUMN,
+                "address"), () -> new CsvAddressBookWriter(List.of("name", "address")));
+        assertThrows(IllegalArgumentException.class, () -> new CsvAddressBookWriter(List.of()));
+    }
+
+    private static List<String> tagNames(Person person) {
+        return person.getTags().stream().map(tag -> tag.tagName).toList();
+    }
+}
@@ -0,0 +1,55 @@
+package tassist.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import tassist.address.model.AddressBook;
+import tassist.address.testutil.LargeAddressBookGenerator;
+
+/**
+ * Compares the time taken to import large CSV files row by row and in parallel chunks.
+ *
+ * Not a unit test; run the {@code main} method manually. To see how the parallel import scales, run it again with
+ * {@code -Djava.util.concurrent.ForkJoinPool.common.parallelism=N} for different numbers of threads N.
+ */
+public class CsvImportBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000};
+    private static final int TIMED_EVENT_COUNT = 10;
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("csvImportBenchmark");
+        for (int size : SIZES) {
+            AddressBook addressBook = LargeAddressBookGenerator.generate(size, TIMED_EVENT_COUNT);
+            Path csvFilePath = folder.resolve(size + ".csv");
+            new CsvJsonConverter().convertJsonToCsv(csvFilePath, addressBook);
+
+            // Warm up both ways of reading before measuring
+            CsvAddressBookReader.read(csvFilePath);
+            CsvAddressBookReader.readInParallel(csvFilePath);
+
+            long rowByRow = 0;
+            long parallel = 0;
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                CsvAddressBookReader.read(csvFilePath);
+                rowByRow += System.nanoTime() - start;
+                start = System.nanoTime();
+                CsvAddressBookReader.readInParallel(csvFilePath);
+                parallel += System.nanoTime() - start;
+            }
+
+            System.out.printf("%,d students (%,d KB, %d threads): row by row %,d ms, parallel %,d ms%n",
+                    size, Files.size(csvFilePath) / 1024, ForkJoinPool.getCommonPoolParallelism(),
+                    millis(rowByRow), millis(parallel));
+            Files.delete(csvFilePath);
+        }
+        Files.delete(folder);
+    }
+
+    private static long millis(long totalNanos) {
+        return totalNanos / RUNS / 1_000_000;
+    }
+}
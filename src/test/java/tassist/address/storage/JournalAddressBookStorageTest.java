@@ -0,0 +1,214 @@
+package tassist.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.BENSON;
+import static tassist.address.testutil.TypicalPersons.CARL;
+import static tassist.address.testutil.TypicalPersons.HOON;
+import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_1;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_2;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tassist.address.model.AddressBook;
+import tassist.address.model.ReadOnlyAddressBook;
+import tassist.address.model.person.Person;
+import tassist.address.storage.JournalAddressBookStorage.SyncPolicy;
+import tassist.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        journalPath = JournalAddressBookStorage.getJournalPath(filePath);
+        addressBook = getTypicalAddressBook();
+        addressBook.addTimedEvent(ASSIGNMENT_1);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournalOnly() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+
+        Person assignedCarl = new PersonBuilder(CARL).build();
+        assignedCarl.addTimedEvent(ASSIGNMENT_1);
+        addressBook.setPerson(CARL, assignedCarl);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withProgress("90").build());
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        addressBook.addTimedEvent(ASSIGNMENT_2);
+        storage.saveAddressBook(addressBook);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        // base record, removal of ALICE, changes to BENSON and CARL, HOON and ASSIGNMENT_2
+        assertEquals(6, Files.readAllLines(journalPath).size());
+        assertSameContents(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_compressedFile_snapshotCompressed() throws Exception {
+        Path compressedFilePath = JsonAddressBookStorage.getCompressedFilePath(filePath);
+        new JournalAddressBookStorage(compressedFilePath).saveAddressBook(addressBook);
+
+        byte[] snapshot = Files.readAllBytes(compressedFilePath);
+        assertEquals((byte) 0x1f, snapshot[0]);
+        assertEquals((byte) 0x8b, snapshot[1]);
+        assertSameContents(addressBook, new JournalAddressBookStorage(compressedFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalUnchanged() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        List<String> journal = Files.readAllLines(journalPath);
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(journal, Files.readAllLines(journalPath));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsToReadJournal() throws Exception {
+        new JournalAddressBookStorage(filePath).saveAddressBook(addressBook);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        JournalAddressBookStorage restartedStorage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(restartedStorage.readAddressBook().get());
+        readBack.addPerson(HOON);
+        restartedStorage.saveAddressBook(readBack);
+        addressBook.addPerson(HOON);
+
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertSameContents(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compacted() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, SyncPolicy.NONE, 1);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        storage.waitForCompaction();
+
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertSameContents(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertSameContents(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_reorderedPersons_snapshotRewritten() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        List<Person> reversed = new ArrayList<>(addressBook.getPersonList());
+        Collections.reverse(reversed);
+        addressBook.setPersons(reversed);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertSameContents(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void foldJournal_journal_snapshotHoldsChanges() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        FileTime lastChangeTime = FileTime.fromMillis(Files.getLastModifiedTime(filePath).toMillis() + 60_000);
+        Files.setLastModifiedTime(journalPath, lastChangeTime);
+
+        assertTrue(JournalAddressBookStorage.foldJournal(filePath));
+        assertFalse(Files.exists(journalPath));
+        assertSameContents(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(lastChangeTime, Files.getLastModifiedTime(filePath));
+    }
+
+    @Test
+    public void foldJournal_noJournal_snapshotUnchanged() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        assertFalse(JournalAddressBookStorage.foldJournal(filePath));
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplaced_journalIgnored() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertSameContents(replacement, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        Files.write(journalPath, "{\"operation\":\"PUT_PER".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage restartedStorage = new JournalAddressBookStorage(filePath);
+        ReadOnlyAddressBook readBack = restartedStorage.readAddressBook().get();
+        assertSameContents(addressBook, readBack);
+
+        // The next save starts a new journal instead of appending after the incomplete record
+        restartedStorage.saveAddressBook(readBack);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertSameContents(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    /**
+     * Asserts that {@code actual} has the same persons, with the same details and in the same order, and the same
+     * timed events as {@code expected}.
+     */
+    private static void assertSameContents(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        List<Person> expectedPersons = expected.getPersonList();
+        List<Person> actualPersons = actual.getPersonList();
+        assertEquals(expectedPersons, actualPersons);
+        for (int i = 0; i < expectedPersons.size(); i++) {
+            assertTrue(expectedPersons.get(i).hasSameDetails(actualPersons.get(i)));
+        }
+        assertEquals(expected.getTimedEventList(), actual.getTimedEventList());
+    }
+}
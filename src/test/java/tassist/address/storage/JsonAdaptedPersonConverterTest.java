@@ -0,0 +1,82 @@
+package tassist.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tassist.address.commons.exceptions.IllegalValueException;
+import tassist.address.model.person.Name;
+import tassist.address.model.person.Person;
+import tassist.address.testutil.LargeAddressBookGenerator;
+
+public class JsonAdaptedPersonConverterTest {
+
+    private static final int SIZE = 5_000;
+
+    private List<Person> expectedPersons;
+    private List<JsonAdaptedPerson> adaptedPersons;
+
+    @BeforeEach
+    public void setUp() {
+        expectedPersons = LargeAddressBookGenerator.generate(SIZE, 0).getPersonList();
+        adaptedPersons = new ArrayList<>();
+        expectedPersons.forEach(person -> adaptedPersons.add(new JsonAdaptedPerson(person)));
+    }
+
+    @Test
+    public void convert_validPersons_convertedInOrder() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        new JsonAdaptedPersonConverter(false).convert(adaptedPersons, persons);
+        assertEquals(expectedPersons, persons);
+        for (int i = 0; i < SIZE; i++) {
+            assertTrue(expectedPersons.get(i).hasSameDetails(persons.get(i)));
+        }
+    }
+
+    @Test
+    public void convert_severalBatches_convertedInOrder() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        JsonAdaptedPersonConverter converter = new JsonAdaptedPersonConverter(true);
+        converter.convert(adaptedPersons.subList(0, 1000), persons);
+        converter.convert(adaptedPersons.subList(1000, SIZE), persons);
+        assertEquals(expectedPersons, persons);
+    }
+
+    @Test
+    public void convert_duplicateBeforeInvalidPerson_throwsDuplicateMessage() {
+        adaptedPersons.set(100, new JsonAdaptedPerson(expectedPersons.get(10)));
+        adaptedPersons.set(SIZE - 1, invalidNamePerson(expectedPersons.get(SIZE - 1)));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonAdaptedPersonConverter(false).convert(adaptedPersons, new ArrayList<>()));
+    }
+
+    @Test
+    public void convert_invalidBeforeDuplicatePerson_throwsInvalidMessage() {
+        adaptedPersons.set(100, invalidNamePerson(expectedPersons.get(100)));
+        adaptedPersons.set(SIZE - 1, new JsonAdaptedPerson(expectedPersons.get(10)));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                new JsonAdaptedPersonConverter(false).convert(adaptedPersons, new ArrayList<>()));
+    }
+
+    @Test
+    public void convert_duplicateInLaterBatch_throwsDuplicateMessage() throws Exception {
+        JsonAdaptedPersonConverter converter = new JsonAdaptedPersonConverter(false);
+        converter.convert(adaptedPersons.subList(0, 1000), new ArrayList<>());
+        List<JsonAdaptedPerson> laterBatch = List.of(new JsonAdaptedPerson(expectedPersons.get(0)));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                converter.convert(laterBatch, new ArrayList<>()));
+    }
+
+    private static JsonAdaptedPerson invalidNamePerson(Person person) {
+        return new JsonAdaptedPerson("R@chel", person.getPhone().toString(), person.getEmail().toString(),
+                person.getClassNumber().toString(), person.getStudentId().toString(), person.getGithub().toString(),
+                person.getProjectTeam().toString(), person.getRepository().toString(), new ArrayList<>(),
+                String.valueOf(person.getProgress().value), new ArrayList<>());
+    }
+}
@@ -1,6 +1,7 @@
 package tassist.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tassist.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static tassist.address.testutil.Assert.assertThrows;
 import static tassist.address.testutil.TypicalPersons.BENSON;
@@ -17,6 +18,7 @@ import tassist.address.commons.exceptions.IllegalValueException;
 import tassist.address.model.person.ClassNumber;
 import tassist.address.model.person.Email;
 import tassist.address.model.person.Name;
+import tassist.address.model.person.Person;
 import tassist.address.model.person.Phone;
 import tassist.address.model.person.Progress;
 import tassist.address.model.person.ProjectTeam;
@@ -60,6 +62,20 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toTrustedModelType_validPersonDetails_returnsSamePerson() throws Exception {
+        Person person = new JsonAdaptedPerson(BENSON).toTrustedModelType();
+        assertTrue(BENSON.hasSameDetails(person));
+    }
+
+    @Test
+    public void toTrustedModelType_invalidName_notChecked() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(INVALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_CLASS, VALID_STUDENT_ID, VALID_GITHUB, VALID_PROJECT_TEAM, VALID_REPOSITORY,
+                VALID_TAGS, VALID_PROGRESS, VALID_TIMED_EVENTS);
+        assertEquals(INVALID_NAME, person.toTrustedModelType().getName().value);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(INVALID_NAME, VALID_PHONE, VALID_EMAIL,
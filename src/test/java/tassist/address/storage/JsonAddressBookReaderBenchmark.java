@@ -0,0 +1,82 @@
+package tassist.address.storage;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import tassist.address.commons.util.JsonUtil;
+import tassist.address.testutil.LargeAddressBookGenerator;
+
+/**
+ * Compares the time taken and the peak heap used to load large address books by binding the whole file to a
+ * {@code JsonSerializableAddressBook} against streaming it through {@code JsonAddressBookReader}.
+ *
+ * Not a unit test; run the {@code main} method manually, ideally with a fixed heap such as {@code -Xmx4g}.
+ */
+public class JsonAddressBookReaderBenchmark {
+
+    private static final int[] SIZES = {10_000, 50_000, 100_000, 200_000};
+    private static final int TIMED_EVENT_COUNT = 10;
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("readerBenchmark");
+        for (int size : SIZES) {
+            Path filePath = folder.resolve(size + ".json");
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(
+                    LargeAddressBookGenerator.generate(size, TIMED_EVENT_COUNT)), filePath);
+
+            // Warm up both paths before measuring
+            JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType();
+            JsonAddressBookReader.read(filePath);
+
+            long baseline = resetPeakHeap();
+            long start = System.nanoTime();
+            Object dataBound = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType();
+            long dataBindingMillis = (System.nanoTime() - start) / 1_000_000;
+            long dataBindingPeak = peakHeap() - baseline;
+            dataBound = null;
+
+            baseline = resetPeakHeap();
+            start = System.nanoTime();
+            Object streamed = JsonAddressBookReader.read(filePath);
+            long streamingMillis = (System.nanoTime() - start) / 1_000_000;
+            long streamingPeak = peakHeap() - baseline;
+            long modelBytes = usedHeap() - baseline;
+
+            System.out.printf("%,d students (%,d KB): data binding %,d ms, peak %,d KB; "
+                    + "streaming %,d ms, peak %,d KB; loaded model %,d KB%n",
+                    size, Files.size(filePath) / 1024, dataBindingMillis, dataBindingPeak / 1024,
+                    streamingMillis, streamingPeak / 1024, modelBytes / 1024);
+            // Keep the loaded address book reachable until it has been measured
+            streamed.hashCode();
+            Files.delete(filePath);
+        }
+        Files.delete(folder);
+    }
+
+    /**
+     * Collects garbage, resets the peak usage of every heap pool and returns the heap in use.
+     */
+    private static long resetPeakHeap() {
+        long used = usedHeap();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+        return used;
+    }
+
+    private static long peakHeap() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
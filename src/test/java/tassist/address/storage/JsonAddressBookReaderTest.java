@@ -0,0 +1,83 @@
+package tassist.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_1;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_2;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tassist.address.commons.exceptions.IllegalValueException;
+import tassist.address.commons.util.JsonUtil;
+import tassist.address.model.AddressBook;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path NOT_JSON_FILE = Paths.get("src", "test", "data", "JsonAddressBookStorageTest",
+            "notJsonFormatAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(getTypicalAddressBook(), JsonAddressBookReader.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_sameAsDataBinding() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addTimedEvent(ASSIGNMENT_1);
+        original.addTimedEvent(ASSIGNMENT_2);
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), filePath);
+
+        AddressBook readBack = JsonAddressBookReader.read(filePath);
+        assertEquals(original, readBack);
+        assertEquals(JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType(),
+                readBack);
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(NOT_JSON_FILE));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        String typicalPersons = Files.readString(TYPICAL_PERSONS_FILE, UTF_8);
+        Path filePath = testFolder.resolve("truncated.json");
+        Files.writeString(filePath, typicalPersons.substring(0, typicalPersons.length() / 2), UTF_8);
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_missingPersons_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("noPersons.json");
+        Files.writeString(filePath, "{ \"timedEvents\" : [ ] }", UTF_8);
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath));
+    }
+}
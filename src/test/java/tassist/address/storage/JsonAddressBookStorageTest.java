@@ -2,6 +2,7 @@ package tassist.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tassist.address.testutil.Assert.assertThrows;
 import static tassist.address.testutil.TypicalPersons.ALICE;
 import static tassist.address.testutil.TypicalPersons.HOON;
@@ -9,13 +10,16 @@ import static tassist.address.testutil.TypicalPersons.IDA;
 import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import tassist.address.commons.exceptions.DataLoadingException;
+import tassist.address.commons.util.FileUtil;
 import tassist.address.model.AddressBook;
 import tassist.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +90,72 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_ownFile_checksumWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(FileUtil.computeChecksum(filePath),
+                FileUtil.readFromFile(JsonAddressBookStorage.getChecksumPath(filePath)));
+
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+        assertFalse(Files.exists(JsonAddressBookStorage.getChecksumPath(otherFilePath)));
+    }
+
+    @Test
+    public void readAddressBook_editedSinceSave_fieldsChecked() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        String invalidName = ALICE.getName().value.replace('i', '!');
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath).replace(ALICE.getName().value, invalidName));
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+
+        // A file that matches its checksum is trusted, so the invalid name is not noticed
+        FileUtil.writeToFile(JsonAddressBookStorage.getChecksumPath(filePath), FileUtil.computeChecksum(filePath));
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertEquals(invalidName, readBack.getPersonList().get(0).getName().value);
+    }
+
+    @Test
+    public void getCompressedFilePath() {
+        assertEquals(Paths.get("data", "addressbook.json.gz"),
+                JsonAddressBookStorage.getCompressedFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressedFile_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path compressedFilePath = JsonAddressBookStorage.getCompressedFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        JsonAddressBookStorage compressedStorage = new JsonAddressBookStorage(compressedFilePath);
+        compressedStorage.saveAddressBook(original);
+
+        byte[] compressedBytes = Files.readAllBytes(compressedFilePath);
+        assertEquals((byte) 0x1f, compressedBytes[0]);
+        assertEquals((byte) 0x8b, compressedBytes[1]);
+        assertTrue(compressedBytes.length < Files.size(filePath));
+        assertEquals(original, new AddressBook(compressedStorage.readAddressBook().get()));
+
+        // A compressed file is recognised by its contents, whatever its name
+        Path renamedFilePath = testFolder.resolve("Renamed.json");
+        Files.copy(compressedFilePath, renamedFilePath);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(renamedFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedCompressedFile_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json.gz");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,60 @@
+package tassist.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_1;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_2;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tassist.address.commons.util.JsonUtil;
+import tassist.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook addressBook;
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = getTypicalAddressBook();
+        addressBook.addTimedEvent(ASSIGNMENT_1);
+        addressBook.addTimedEvent(ASSIGNMENT_2);
+        filePath = testFolder.resolve("addressbook.json");
+    }
+
+    @Test
+    public void write_prettyPrinted_sameAsDataBinding() throws Exception {
+        JsonAddressBookWriter.write(addressBook, filePath, true);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                Files.readString(filePath, UTF_8));
+    }
+
+    @Test
+    public void write_compact_readBackUnchanged() throws Exception {
+        JsonAddressBookWriter.write(addressBook, filePath, false);
+        String written = Files.readString(filePath, UTF_8);
+        assertFalse(written.contains("\n"));
+        assertTrue(written.length() < JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)).length());
+        assertEquals(addressBook, JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void write_existingLongerFile_replaced() throws Exception {
+        JsonAddressBookWriter.write(addressBook, filePath, true);
+        AddressBook emptyAddressBook = new AddressBook();
+        JsonAddressBookWriter.write(emptyAddressBook, filePath, false);
+        assertEquals(emptyAddressBook, JsonAddressBookReader.read(filePath));
+    }
+}
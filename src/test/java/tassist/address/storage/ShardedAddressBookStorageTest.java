@@ -0,0 +1,167 @@
+package tassist.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.CARL;
+import static tassist.address.testutil.TypicalPersons.DANIEL;
+import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_1;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_2;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tassist.address.commons.exceptions.DataLoadingException;
+import tassist.address.model.AddressBook;
+import tassist.address.model.ReadOnlyAddressBook;
+import tassist.address.model.person.Person;
+import tassist.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path directory;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        directory = testFolder.resolve("addressbook.shards");
+        addressBook = getTypicalAddressBook();
+        addressBook.addTimedEvent(ASSIGNMENT_1);
+        addressBook.addTimedEvent(ASSIGNMENT_2);
+        Person assignedCarl = new PersonBuilder(CARL).build();
+        assignedCarl.addTimedEvent(ASSIGNMENT_1);
+        addressBook.setPerson(CARL, assignedCarl);
+    }
+
+    @Test
+    public void getShardDirectory() {
+        assertEquals(Paths.get("data", "addressbook.shards"),
+                ShardedAddressBookStorage.getShardDirectory(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.txt.shards"),
+                ShardedAddressBookStorage.getShardDirectory(Paths.get("data", "addressbook.txt")));
+    }
+
+    @Test
+    public void readAddressBook_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(directory).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(ShardedAddressBookStorage.getClassFilePath(directory, ALICE.getClassNumber())));
+        assertTrue(Files.exists(ShardedAddressBookStorage.getClassFilePath(directory, CARL.getClassNumber())));
+        assertSameContents(addressBook, new ShardedAddressBookStorage(directory).readAddressBook().get());
+
+        // Modify data, overwrite existing shards, and read back
+        addressBook.removePerson(ALICE);
+        addressBook.removeTimedEvent(ASSIGNMENT_2);
+        addressBook.addPerson(new PersonBuilder().withStudentId("A0000001X").withClassNumber("T20").build());
+        storage.saveAddressBook(addressBook);
+        assertSameContents(addressBook, new ShardedAddressBookStorage(directory).readAddressBook().get());
+
+        // Save and read an empty address book
+        storage.saveAddressBook(new AddressBook());
+        assertSameContents(new AddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_rewritesOnlyItsClass() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(addressBook);
+        Path aliceClassFilePath = ShardedAddressBookStorage.getClassFilePath(directory, ALICE.getClassNumber());
+        Path danielClassFilePath = ShardedAddressBookStorage.getClassFilePath(directory, DANIEL.getClassNumber());
+
+        // Replace the other class's shard, so that rewriting it would be noticed
+        byte[] stubBytes = "stub".getBytes();
+        Files.write(danielClassFilePath, stubBytes);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+
+        assertArrayEquals(stubBytes, Files.readAllBytes(danielClassFilePath));
+        assertTrue(Files.readString(aliceClassFilePath).contains("99999999"));
+    }
+
+    @Test
+    public void saveAddressBook_classEmptied_deletesItsShard() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(addressBook);
+        Path danielClassFilePath = ShardedAddressBookStorage.getClassFilePath(directory, DANIEL.getClassNumber());
+        assertTrue(Files.exists(danielClassFilePath));
+
+        addressBook.removePerson(DANIEL);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(danielClassFilePath));
+        assertFalse(Files.exists(JsonAddressBookStorage.getChecksumPath(danielClassFilePath)));
+        assertSameContents(addressBook, new ShardedAddressBookStorage(directory).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_newStorage_rewritesAllShards() throws Exception {
+        new ShardedAddressBookStorage(directory).saveAddressBook(addressBook);
+        Path danielClassFilePath = ShardedAddressBookStorage.getClassFilePath(directory, DANIEL.getClassNumber());
+        Files.write(danielClassFilePath, "stub".getBytes());
+
+        // A storage that has not read the directory cannot know which shards are up to date
+        new ShardedAddressBookStorage(directory).saveAddressBook(addressBook);
+        assertSameContents(addressBook, new ShardedAddressBookStorage(directory).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_readAsJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook);
+        assertSameContents(addressBook,
+                new ShardedAddressBookStorage(directory).readAddressBook(jsonFilePath).get());
+    }
+
+    @Test
+    public void readAddressBook_invalidShard_throwsDataLoadingException() throws Exception {
+        new ShardedAddressBookStorage(directory).saveAddressBook(addressBook);
+        Files.write(ShardedAddressBookStorage.getClassFilePath(directory, ALICE.getClassNumber()),
+                "not json".getBytes());
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(directory).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_personInTwoShards_throwsDataLoadingException() throws Exception {
+        new ShardedAddressBookStorage(directory).saveAddressBook(addressBook);
+        Path aliceClassFilePath = ShardedAddressBookStorage.getClassFilePath(directory, ALICE.getClassNumber());
+        Files.copy(aliceClassFilePath, aliceClassFilePath.resolveSibling("T99.json"));
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(directory).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ShardedAddressBookStorage(directory)
+                .saveAddressBook(null));
+    }
+
+    /**
+     * Asserts that {@code actual} has the same persons, with the same details and in the same order, and the same
+     * timed events as {@code expected}.
+     */
+    private static void assertSameContents(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        List<Person> expectedPersons = expected.getPersonList();
+        List<Person> actualPersons = actual.getPersonList();
+        assertEquals(expectedPersons, actualPersons);
+        for (int i = 0; i < expectedPersons.size(); i++) {
+            assertTrue(expectedPersons.get(i).hasSameDetails(actualPersons.get(i)));
+        }
+        assertEquals(expected.getTimedEventList(), actual.getTimedEventList());
+    }
+}
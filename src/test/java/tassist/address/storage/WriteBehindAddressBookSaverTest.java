@@ -0,0 +1,107 @@
+package tassist.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static tassist.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import tassist.address.model.AddressBook;
+import tassist.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookSaverTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindAddressBookSaver(null));
+    }
+
+    @Test
+    public void submit_burstDuringWrite_coalescesIntoOneWrite() throws Exception {
+        RecordingStorage storage = new RecordingStorage();
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage);
+        ReadOnlyAddressBook first = new AddressBook();
+        ReadOnlyAddressBook last = new AddressBook();
+
+        saver.submit(first);
+        storage.writeStarted.await();
+        saver.submit(new AddressBook());
+        saver.submit(new AddressBook());
+        saver.submit(last);
+        storage.releaseWrites.countDown();
+        saver.flush();
+
+        assertEquals(2, storage.saved.size());
+        assertSame(first, storage.saved.get(0));
+        assertSame(last, storage.saved.get(1));
+        saver.shutdown();
+    }
+
+    @Test
+    public void submit_saveFails_reportsToFailureHandler() {
+        IOException failure = new IOException("disk full");
+        RecordingStorage storage = new RecordingStorage() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw failure;
+            }
+        };
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage);
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        saver.setFailureHandler(failures::add);
+
+        saver.submit(new AddressBook());
+        saver.flush();
+
+        assertEquals(List.of(failure), failures);
+        saver.shutdown();
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records saved address books, holding back writes until released.
+     */
+    private static class RecordingStorage implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseWrites = new CountDownLatch(1);
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            writeStarted.countDown();
+            try {
+                releaseWrites.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            saved.add(addressBook);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package tassist.address.testutil;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import tassist.address.model.AddressBook;
+import tassist.address.model.person.Person;
+import tassist.address.model.timedevents.Assignment;
+import tassist.address.model.timedevents.TimedEvent;
+
+/**
+ * Generates large address books of made-up students for benchmarks.
+ * The same arguments always generate the same address book.
+ */
+public class LargeAddressBookGenerator {
+
+    private static final String[] CLASSES = {"T01", "T02", "T03", "T04", "R01", "R02", "L01", "L02A"};
+    private static final String[] TAGS = {"friends", "colleagues", "repeat", "exchange", "tutor"};
+    private static final LocalDateTime FIRST_DEADLINE = LocalDateTime.of(2030, 1, 6, 23, 59);
+
+    private LargeAddressBookGenerator() {} // prevents instantiation
+
+    /**
+     * Returns an address book with {@code size} students and {@code timedEventCount} assignments, with each
+     * student assigned to up to two of the assignments.
+     */
+    public static AddressBook generate(int size, int timedEventCount) {
+        Random random = new Random(42);
+        AddressBook addressBook = new AddressBook();
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(new PersonBuilder()
+                    .withName("Student " + (char) ('A' + i % 26) + (char) ('a' + i / 26 % 26))
+                    .withStudentId(String.format("A%07dB", i))
+                    .withPhone(String.format("9%07d", i))
+                    .withEmail(String.format("e%07d@u.nus.edu", i))
+                    .withClassNumber(CLASSES[random.nextInt(CLASSES.length)])
+                    .withProjectTeam("Team" + random.nextInt(40))
+                    .withProgress(Integer.toString(random.nextInt(101)))
+                    .withTags(TAGS[random.nextInt(TAGS.length)])
+                    .build());
+        }
+
+        Random eventRandom = new Random(7);
+        for (int i = 0; i < timedEventCount; i++) {
+            TimedEvent assignment = new Assignment("Assignment " + (i + 1), "Week " + (i + 1) + " deliverable",
+                    FIRST_DEADLINE.plusWeeks(i));
+            addressBook.addTimedEvent(assignment);
+            for (Person person : persons) {
+                if (eventRandom.nextInt(timedEventCount) < 2) {
+                    person.addTimedEvent(assignment);
+                }
+            }
+        }
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+}